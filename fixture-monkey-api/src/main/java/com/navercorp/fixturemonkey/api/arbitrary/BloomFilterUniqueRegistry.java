@@ -0,0 +1,83 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A memory-bounded {@link UniqueRegistry}.
+ * A value is accepted only if at least one of its bits is not set yet, so duplicates are never accepted.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+final class BloomFilterUniqueRegistry implements UniqueRegistry {
+	private static final double LN2 = Math.log(2);
+
+	private final long[] words;
+	private final long bitSize;
+	private final int hashCount;
+
+	BloomFilterUniqueRegistry(int expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException(
+				"expectedInsertions should be positive, expectedInsertions : " + expectedInsertions
+			);
+		}
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException(
+				"falsePositiveProbability should be between 0 and 1, falsePositiveProbability : "
+					+ falsePositiveProbability
+			);
+		}
+
+		long bits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+		this.words = new long[(int)Math.max(1, (bits + 63) >>> 6)];
+		this.bitSize = (long)words.length << 6;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * LN2));
+	}
+
+	@Override
+	public synchronized boolean register(Object value) {
+		long hash = mix(Objects.hashCode(value));
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+
+		boolean changed = false;
+		for (int i = 1; i <= hashCount; i++) {
+			int combined = hash1 + i * hash2;
+			long index = (combined & Integer.MAX_VALUE) % bitSize;
+			int word = (int)(index >>> 6);
+			long mask = 1L << index;
+			if ((words[word] & mask) == 0) {
+				words[word] |= mask;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private static long mix(long hash) {
+		long mixed = hash * 0x9E3779B97F4A7C15L;
+		mixed ^= mixed >>> 32;
+		mixed *= 0xBF58476D1CE4E5B9L;
+		return mixed ^ (mixed >>> 29);
+	}
+}
@@ -18,7 +18,6 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -171,7 +170,21 @@ public interface CombinableArbitrary<T> {
 	 * @return A {@link CombinableArbitrary} returns a unique value
 	 */
 	default CombinableArbitrary<T> unique() {
-		return new UniqueCombinableArbitrary<>(this, new ConcurrentHashMap<>());
+		return unique(UniqueRegistry.concurrent());
+	}
+
+	/**
+	 * Makes it return a value which is not registered in the given {@link UniqueRegistry}.
+	 * It is useful when a memory-bounded registry is needed,
+	 * for example {@link UniqueRegistry#bloomFilter(int, double)}.
+	 *
+	 * @param registry the registry which remembers the generated values
+	 * @return A {@link CombinableArbitrary} returns a unique value
+	 * @see UniqueDomain for generating unique values without retrying
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	default CombinableArbitrary<T> unique(UniqueRegistry registry) {
+		return new UniqueCombinableArbitrary<>(this, registry);
 	}
 
 	/**
@@ -20,14 +20,21 @@ package com.navercorp.fixturemonkey.api.arbitrary;
 
 import static java.util.Arrays.asList;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -36,8 +43,11 @@ import net.jqwik.api.Arbitrary;
 import net.jqwik.api.EdgeCases;
 import net.jqwik.api.ExhaustiveGenerator;
 import net.jqwik.api.RandomDistribution;
+import net.jqwik.api.RandomDistribution.RandomNumericGenerator;
 import net.jqwik.api.RandomGenerator;
 import net.jqwik.api.Shrinkable;
+import net.jqwik.api.ShrinkingDistance;
+import net.jqwik.api.TooManyFilterMissesException;
 import net.jqwik.api.arbitraries.CharacterArbitrary;
 import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.api.support.HashCodeSupport;
@@ -47,32 +57,61 @@ import net.jqwik.engine.properties.arbitraries.exhaustive.ExhaustiveGenerators;
 import net.jqwik.engine.properties.arbitraries.randomized.RandomGenerators;
 import net.jqwik.engine.properties.shrinking.ShrinkableString;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+
 /**
- * A StringArbitrary instance which supports filtering with a predicate
- * Same implementation as DefaultStringArbitrary
+ * A StringArbitrary instance which supports filtering with a predicate.
+ * It generates a string by filling the characters drawn from a table of the configured characters,
+ * the table is computed once per the configured characters and filters.
+ * The exhaustive generation, the edge cases and the shrinking are the same as DefaultStringArbitrary.
  */
 @API(since = "0.6.0", status = Status.EXPERIMENTAL)
 public final class MonkeyStringArbitrary implements StringArbitrary {
+	private static final List<CharacterRange> DEFAULT_CHARACTER_RANGES = asList(
+		new CharacterRange('\u0000', '\uD7FF'),
+		new CharacterRange('\uF900', '\uFDCF'),
+		new CharacterRange('\uFDF0', '\uFFFD')
+	);
+	private static final ConcurrentClockCache<CharacterTableKey, char[]> CHARACTER_TABLES =
+		new ConcurrentClockCache<>(256);
+
 	private CharacterArbitrary characterArbitrary = new DefaultCharacterArbitrary();
+	private final List<CharacterRange> characterRanges = new ArrayList<>();
 
 	private int minLength = 0;
 	private Integer maxLength = null;
-	private Predicate<Character> filter = c -> true;
+	private final List<Predicate<Character>> characterFilters = new ArrayList<>();
 	private RandomDistribution lengthDistribution = null;
 	private double repeatChars = 0.0;
 
 	@Override
 	public RandomGenerator<String> generator(int genSize) {
-		long maxUniqueChars = characterArbitrary
-			.exhaustive(maxLength())
-			.map(ExhaustiveGenerator::maxCount)
-			.orElse((long)maxLength());
-		return RandomGenerators.strings(
-			randomCharacterGenerator(),
-			minLength, maxLength(), maxUniqueChars,
-			genSize, lengthDistribution,
-			characterArbitrary
-		);
+		char[] characters = getCharacterTable();
+		int minLength = this.minLength;
+		int maxLength = maxLength();
+		double repeatChars = this.repeatChars;
+		ToIntFunction<Random> lengthGenerator = lengthGenerator(minLength, maxLength, genSize, lengthDistribution);
+		Arbitrary<Character> characterArbitrary = this.characterArbitrary;
+
+		return random -> {
+			int length = lengthGenerator.applyAsInt(random);
+			if (characters.length == 0) {
+				if (minLength > 0) {
+					throw new TooManyFilterMissesException("No character satisfies the character filters.");
+				}
+				length = 0;
+			}
+
+			char[] chars = new char[length];
+			for (int i = 0; i < length; i++) {
+				if (repeatChars > 0 && i > 0 && random.nextDouble() < repeatChars) {
+					chars[i] = chars[random.nextInt(i)];
+				} else {
+					chars[i] = characters[random.nextInt(characters.length)];
+				}
+			}
+			return new GeneratedShrinkableString(new String(chars), minLength, maxLength, characterArbitrary);
+		};
 	}
 
 	private int maxLength() {
@@ -183,43 +222,49 @@ public final class MonkeyStringArbitrary implements StringArbitrary {
 	@Override
 	public StringArbitrary withChars(char... chars) {
 		this.characterArbitrary = this.characterArbitrary.with(chars);
+		for (char c : chars) {
+			this.characterRanges.add(new CharacterRange(c, c));
+		}
 		return this;
 	}
 
 	@Override
 	public StringArbitrary withChars(CharSequence chars) {
-		this.characterArbitrary = this.characterArbitrary.with(chars);
-		return this;
+		return this.withChars(chars.toString().toCharArray());
 	}
 
 	@Override
 	public StringArbitrary withCharRange(char from, char to) {
 		this.characterArbitrary = this.characterArbitrary.range(from, to);
+		this.characterRanges.add(new CharacterRange(from, to));
 		return this;
 	}
 
 	@Override
 	public StringArbitrary ascii() {
-		this.characterArbitrary = characterArbitrary.ascii();
-		return this;
+		return this.withCharRange((char)0, (char)127);
 	}
 
 	@Override
 	public StringArbitrary alpha() {
-		this.characterArbitrary = this.characterArbitrary.alpha();
-		return this;
+		this.withCharRange('A', 'Z');
+		return this.withCharRange('a', 'z');
 	}
 
 	@Override
 	public StringArbitrary numeric() {
-		this.characterArbitrary = this.characterArbitrary.numeric();
-		return this;
+		return this.withCharRange('0', '9');
 	}
 
 	@Override
 	public StringArbitrary whitespace() {
-		this.characterArbitrary = this.characterArbitrary.whitespace();
-		return this;
+		StringBuilder whitespaces = new StringBuilder();
+		for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+			if (Character.isWhitespace(c)) {
+				whitespaces.append((char)c);
+			}
+		}
+		return this.withChars(whitespaces);
 	}
 
 	@Override
@@ -259,7 +304,7 @@ public final class MonkeyStringArbitrary implements StringArbitrary {
 		if (!characterArbitrary.equals(that.characterArbitrary)) {
 			return false;
 		}
-		if (!filter.equals(that.filter)) {
+		if (!characterFilters.equals(that.characterFilters)) {
 			return false;
 		}
 		return Objects.equals(lengthDistribution, that.lengthDistribution);
@@ -267,28 +312,211 @@ public final class MonkeyStringArbitrary implements StringArbitrary {
 
 	@Override
 	public int hashCode() {
-		return HashCodeSupport.hash(characterArbitrary, minLength, maxLength, repeatChars, filter, lengthDistribution);
+		return HashCodeSupport.hash(
+			characterArbitrary,
+			minLength,
+			maxLength,
+			repeatChars,
+			characterFilters,
+			lengthDistribution
+		);
 	}
 
-
 	public MonkeyStringArbitrary filterCharacter(Predicate<Character> predicate) {
-		this.filter = this.filter.and(predicate);
+		this.characterFilters.add(predicate);
 		return this;
+	}
+
+	private Arbitrary<Character> effectiveCharacterArbitrary() {
+		List<Predicate<Character>> characterFilters = new ArrayList<>(this.characterFilters);
+		return characterArbitrary.filter(c -> isAllowed(characterFilters, c));
+	}
 
+	private char[] getCharacterTable() {
+		CharacterTableKey key = new CharacterTableKey(
+			characterRanges.isEmpty() ? DEFAULT_CHARACTER_RANGES : new ArrayList<>(characterRanges),
+			new ArrayList<>(characterFilters)
+		);
+		return CHARACTER_TABLES.computeIfAbsent(key, CharacterTableKey::toCharacterTable);
 	}
 
-	private RandomGenerator<Character> randomCharacterGenerator() {
-		RandomGenerator<Character> characterGenerator = effectiveCharacterArbitrary().generator(1, false);
-		if (repeatChars > 0) {
-			return characterGenerator.injectDuplicates(repeatChars);
-		} else {
-			return characterGenerator;
+	private static boolean isAllowed(List<Predicate<Character>> characterFilters, char c) {
+		for (Predicate<Character> characterFilter : characterFilters) {
+			if (!characterFilter.test(c)) {
+				return false;
+			}
 		}
+		return true;
 	}
 
-	private Arbitrary<Character> effectiveCharacterArbitrary() {
-		Arbitrary<Character> characterArbitrary = this.characterArbitrary;
-		return characterArbitrary.filter(this.filter);
+	/**
+	 * Generates the length of a string as jqwik does.
+	 * It is more likely to be smaller than the cutoff length unless a length distribution is given.
+	 */
+	private static ToIntFunction<Random> lengthGenerator(
+		int minLength,
+		int maxLength,
+		int genSize,
+		@Nullable RandomDistribution lengthDistribution
+	) {
+		if (lengthDistribution != null) {
+			RandomNumericGenerator generator = lengthDistribution.createGenerator(
+				genSize,
+				BigInteger.valueOf(minLength),
+				BigInteger.valueOf(maxLength),
+				BigInteger.valueOf(minLength)
+			);
+			return random -> generator.next(random).intValueExact();
+		}
+
+		int cutoffLength = cutoffLength(minLength, maxLength, genSize);
+		if (cutoffLength >= maxLength) {
+			return random -> randomLength(random, minLength, maxLength);
+		}
+
+		double maxLengthProbability = Math.min(0.02, 1 / (genSize / 10.0));
+		double cutoffProbability = 0.1;
+		return random -> {
+			if (random.nextDouble() <= maxLengthProbability) {
+				return maxLength;
+			} else if (random.nextDouble() <= cutoffProbability + maxLengthProbability) {
+				return randomLength(random, cutoffLength + 1, maxLength);
+			}
+			return randomLength(random, minLength, cutoffLength);
+		};
 	}
 
+	private static int cutoffLength(int minLength, int maxLength, int genSize) {
+		int range = maxLength - minLength;
+		int offset = (int)Math.max(Math.round(Math.sqrt(genSize)), 10);
+		if (range <= offset) {
+			return maxLength;
+		}
+		return Math.min(offset + minLength, maxLength);
+	}
+
+	private static int randomLength(Random random, int minLength, int maxLength) {
+		return random.nextInt(maxLength - minLength + 1) + minLength;
+	}
+
+	private static final class CharacterRange {
+		private final char from;
+		private final char to;
+
+		private CharacterRange(char from, char to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CharacterRange that = (CharacterRange)obj;
+			return from == that.from && to == that.to;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(from, to);
+		}
+	}
+
+	private static final class CharacterTableKey {
+		private final List<CharacterRange> characterRanges;
+		private final List<Predicate<Character>> characterFilters;
+
+		private CharacterTableKey(List<CharacterRange> characterRanges, List<Predicate<Character>> characterFilters) {
+			this.characterRanges = characterRanges;
+			this.characterFilters = characterFilters;
+		}
+
+		/**
+		 * The characters in a range are in the table as many times as they are in the ranges,
+		 * a character is drawn as likely as jqwik draws it from the character ranges weighted by their sizes.
+		 */
+		private char[] toCharacterTable() {
+			int size = 0;
+			for (CharacterRange characterRange : characterRanges) {
+				size += Math.max(characterRange.to - characterRange.from + 1, 0);
+			}
+
+			char[] table = new char[size];
+			int index = 0;
+			for (CharacterRange characterRange : characterRanges) {
+				for (int c = characterRange.from; c <= characterRange.to; c++) {
+					if (isAllowed(characterFilters, (char)c)) {
+						table[index++] = (char)c;
+					}
+				}
+			}
+			return index == size ? table : Arrays.copyOf(table, index);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CharacterTableKey that = (CharacterTableKey)obj;
+			return characterRanges.equals(that.characterRanges) && characterFilters.equals(that.characterFilters);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(characterRanges, characterFilters);
+		}
+	}
+
+	/**
+	 * The shrinkable of a generated string, it would not be created for each character unless it is shrunk.
+	 */
+	private static final class GeneratedShrinkableString implements Shrinkable<String> {
+		private final String value;
+		private final int minLength;
+		private final int maxLength;
+		private final Arbitrary<Character> characterArbitrary;
+
+		private GeneratedShrinkableString(
+			String value,
+			int minLength,
+			int maxLength,
+			Arbitrary<Character> characterArbitrary
+		) {
+			this.value = value;
+			this.minLength = minLength;
+			this.maxLength = maxLength;
+			this.characterArbitrary = characterArbitrary;
+		}
+
+		@Override
+		public String value() {
+			return value;
+		}
+
+		@Override
+		public Stream<Shrinkable<String>> shrink() {
+			return toShrinkableString().shrink();
+		}
+
+		@Override
+		public ShrinkingDistance distance() {
+			return toShrinkableString().distance();
+		}
+
+		private ShrinkableString toShrinkableString() {
+			List<Shrinkable<Character>> shrinkableChars = new ArrayList<>(value.length());
+			for (char c : value.toCharArray()) {
+				shrinkableChars.add(Shrinkable.unshrinkable(c));
+			}
+			return new ShrinkableString(shrinkableChars, minLength, maxLength, characterArbitrary);
+		}
+	}
 }
@@ -0,0 +1,328 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * Generates the primitives and their wrappers without any constraints directly from {@link Randoms#current()}.
+ * The values follow the distributions of the default jqwik arbitraries, such as {@code Arbitraries.integers()},
+ * the numbers are biased towards zero and the edge cases are injected as often as jqwik does.
+ * Unlike the jqwik arbitraries, it creates no {@link BigInteger} and no shrinkable while generating.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class PrimitiveCombinableArbitraries {
+	private static final BigInteger MAX_PARTITION_RANGE = BigInteger.valueOf(20);
+	private static final int DECIMAL_SCALE = 2;
+
+	private static final IntegralGenerator INTEGERS = new IntegralGenerator(Integer.MIN_VALUE, Integer.MAX_VALUE);
+	private static final IntegralGenerator LONGS = new IntegralGenerator(Long.MIN_VALUE, Long.MAX_VALUE);
+	private static final IntegralGenerator SHORTS = new IntegralGenerator(Short.MIN_VALUE, Short.MAX_VALUE);
+	private static final IntegralGenerator BYTES = new IntegralGenerator(Byte.MIN_VALUE, Byte.MAX_VALUE);
+	private static final DecimalGenerator DOUBLES = new DecimalGenerator(Double.MAX_VALUE);
+	private static final DecimalGenerator FLOATS = new DecimalGenerator(Float.MAX_VALUE);
+
+	private PrimitiveCombinableArbitraries() {
+	}
+
+	/**
+	 * Generates an integer as {@code Arbitraries.integers()} does.
+	 *
+	 * @param genSize the genSize which decides how often the edge cases are generated
+	 * @return a {@link CombinableArbitrary} generates an integer
+	 */
+	public static CombinableArbitrary<Integer> integers(int genSize) {
+		int edgeCaseRatio = INTEGERS.edgeCaseRatio(genSize);
+		return new PrimitiveCombinableArbitrary<>(random -> (int)INTEGERS.next(random, edgeCaseRatio));
+	}
+
+	/**
+	 * Generates a long as {@code Arbitraries.longs()} does.
+	 *
+	 * @param genSize the genSize which decides how often the edge cases are generated
+	 * @return a {@link CombinableArbitrary} generates a long
+	 */
+	public static CombinableArbitrary<Long> longs(int genSize) {
+		int edgeCaseRatio = LONGS.edgeCaseRatio(genSize);
+		return new PrimitiveCombinableArbitrary<>(random -> LONGS.next(random, edgeCaseRatio));
+	}
+
+	/**
+	 * Generates a short as {@code Arbitraries.shorts()} does.
+	 *
+	 * @param genSize the genSize which decides how often the edge cases are generated
+	 * @return a {@link CombinableArbitrary} generates a short
+	 */
+	public static CombinableArbitrary<Short> shorts(int genSize) {
+		int edgeCaseRatio = SHORTS.edgeCaseRatio(genSize);
+		return new PrimitiveCombinableArbitrary<>(random -> (short)SHORTS.next(random, edgeCaseRatio));
+	}
+
+	/**
+	 * Generates a byte as {@code Arbitraries.bytes()} does.
+	 *
+	 * @param genSize the genSize which decides how often the edge cases are generated
+	 * @return a {@link CombinableArbitrary} generates a byte
+	 */
+	public static CombinableArbitrary<Byte> bytes(int genSize) {
+		int edgeCaseRatio = BYTES.edgeCaseRatio(genSize);
+		return new PrimitiveCombinableArbitrary<>(random -> (byte)BYTES.next(random, edgeCaseRatio));
+	}
+
+	/**
+	 * Generates a double of scale 2 as {@code Arbitraries.doubles()} does.
+	 *
+	 * @param genSize the genSize which decides how often the edge cases are generated
+	 * @return a {@link CombinableArbitrary} generates a double
+	 */
+	public static CombinableArbitrary<Double> doubles(int genSize) {
+		int edgeCaseRatio = DOUBLES.edgeCaseRatio(genSize);
+		return new PrimitiveCombinableArbitrary<>(random -> DOUBLES.next(random, edgeCaseRatio));
+	}
+
+	/**
+	 * Generates a float of scale 2 as {@code Arbitraries.floats()} does.
+	 *
+	 * @param genSize the genSize which decides how often the edge cases are generated
+	 * @return a {@link CombinableArbitrary} generates a float
+	 */
+	public static CombinableArbitrary<Float> floats(int genSize) {
+		int edgeCaseRatio = FLOATS.edgeCaseRatio(genSize);
+		return new PrimitiveCombinableArbitrary<>(random -> (float)FLOATS.next(random, edgeCaseRatio));
+	}
+
+	/**
+	 * Generates true or false with the same probability.
+	 *
+	 * @return a {@link CombinableArbitrary} generates a boolean
+	 */
+	public static CombinableArbitrary<Boolean> booleans() {
+		return new PrimitiveCombinableArbitrary<>(Random::nextBoolean);
+	}
+
+	/**
+	 * The same ratio as jqwik injects the edge cases into the generated values.
+	 */
+	private static int edgeCaseRatio(int genSize, int edgeCaseCount) {
+		return Math.min(Math.max(genSize / edgeCaseCount, 5), 20);
+	}
+
+	/**
+	 * Divides the range into the partitions getting smaller towards zero as the biased distribution of jqwik does,
+	 * each partition is chosen with the same probability.
+	 *
+	 * @return the pairs of the minimum and maximum of each partition, inclusive
+	 */
+	private static List<BigInteger[]> partitions(BigInteger min, BigInteger max) {
+		List<BigInteger> points = new ArrayList<>(partitionPoints(min, BigInteger.ONE.negate()));
+		points.addAll(partitionPoints(max, BigInteger.ONE));
+		if (!points.isEmpty()) {
+			points.add(BigInteger.ZERO);
+		}
+		Collections.sort(points);
+
+		List<BigInteger[]> partitions = new ArrayList<>();
+		BigInteger current = min;
+		for (BigInteger point : points) {
+			if (point.compareTo(current) <= 0) {
+				continue;
+			}
+			if (point.compareTo(max) >= 0) {
+				break;
+			}
+			partitions.add(new BigInteger[] {current, point.subtract(BigInteger.ONE)});
+			current = point;
+		}
+		partitions.add(new BigInteger[] {current, max});
+		return partitions;
+	}
+
+	private static List<BigInteger> partitionPoints(BigInteger from, BigInteger direction) {
+		List<BigInteger> points = new ArrayList<>();
+		BigInteger current = from;
+		while (true) {
+			BigInteger range = current.abs();
+			if (range.compareTo(MAX_PARTITION_RANGE) <= 0) {
+				return points;
+			}
+
+			long partitionRatio = Math.max((long)Math.pow(10, range.bitLength() / 10 * 3 / 5.0), 3L);
+			BigInteger step = range.divide(BigInteger.valueOf(partitionRatio));
+			if (step.signum() == 0) {
+				return points;
+			}
+			current = direction.multiply(step);
+			points.add(current);
+		}
+	}
+
+	/**
+	 * Generates a long between {@code min} and {@code max} inclusive with the same probability.
+	 */
+	private static long uniform(Random random, long min, long max) {
+		long bound = max - min + 1;
+		if (bound > 0 && bound <= Integer.MAX_VALUE) {
+			return min + random.nextInt((int)bound);
+		}
+
+		if (bound > 0) {
+			long limit = bound - 1;
+			long value = random.nextLong() >>> 1;
+			long remainder = value % bound;
+			while (value + limit - remainder < 0) {
+				value = random.nextLong() >>> 1;
+				remainder = value % bound;
+			}
+			return min + remainder;
+		}
+
+		long value = random.nextLong();
+		while (value < min || value > max) {
+			value = random.nextLong();
+		}
+		return value;
+	}
+
+	private static final class PrimitiveCombinableArbitrary<T> implements CombinableArbitrary<T> {
+		private final Function<Random, T> generator;
+
+		private PrimitiveCombinableArbitrary(Function<Random, T> generator) {
+			this.generator = generator;
+		}
+
+		@Override
+		public T combined() {
+			return generator.apply(Randoms.current());
+		}
+
+		@Override
+		public Object rawValue() {
+			return generator.apply(Randoms.current());
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		@Override
+		public boolean fixed() {
+			return false;
+		}
+	}
+
+	private static final class IntegralGenerator {
+		private final long[] partitionMins;
+		private final long[] partitionMaxs;
+		private final long[] edgeCases;
+
+		private IntegralGenerator(long min, long max) {
+			List<BigInteger[]> partitions = partitions(BigInteger.valueOf(min), BigInteger.valueOf(max));
+			this.partitionMins = new long[partitions.size()];
+			this.partitionMaxs = new long[partitions.size()];
+			for (int i = 0; i < partitions.size(); i++) {
+				this.partitionMins[i] = partitions.get(i)[0].longValueExact();
+				this.partitionMaxs[i] = partitions.get(i)[1].longValueExact();
+			}
+			this.edgeCases = new long[] {-2, -1, 0, 1, 2, min, min + 1, max, max - 1};
+		}
+
+		private int edgeCaseRatio(int genSize) {
+			return PrimitiveCombinableArbitraries.edgeCaseRatio(genSize, edgeCases.length);
+		}
+
+		private long next(Random random, int edgeCaseRatio) {
+			if (random.nextInt(edgeCaseRatio) == 0) {
+				return edgeCases[random.nextInt(edgeCases.length)];
+			}
+
+			int index = random.nextInt(partitionMins.length);
+			return uniform(random, partitionMins[index], partitionMaxs[index]);
+		}
+	}
+
+	/**
+	 * The partitions are of the unscaled values. The values of the partitions near zero are generated exactly
+	 * as jqwik does, the values of the others are generated in double since they are too large to have a scale.
+	 */
+	private static final class DecimalGenerator {
+		private static final long MAX_EXACT_UNSCALED = 1L << 53;
+		private static final double SCALE_FACTOR = Math.pow(10, DECIMAL_SCALE);
+
+		private final boolean[] exacts;
+		private final long[] unscaledMins;
+		private final long[] unscaledMaxs;
+		private final double[] mins;
+		private final double[] maxs;
+		private final double[] edgeCases;
+
+		private DecimalGenerator(double max) {
+			BigInteger unscaledMax = BigDecimal.valueOf(max).setScale(DECIMAL_SCALE).unscaledValue();
+			List<BigInteger[]> partitions = partitions(unscaledMax.negate(), unscaledMax);
+			int size = partitions.size();
+			this.exacts = new boolean[size];
+			this.unscaledMins = new long[size];
+			this.unscaledMaxs = new long[size];
+			this.mins = new double[size];
+			this.maxs = new double[size];
+			for (int i = 0; i < size; i++) {
+				BigInteger partitionMin = partitions.get(i)[0];
+				BigInteger partitionMax = partitions.get(i)[1];
+				this.exacts[i] = isExact(partitionMin) && isExact(partitionMax);
+				if (this.exacts[i]) {
+					this.unscaledMins[i] = partitionMin.longValue();
+					this.unscaledMaxs[i] = partitionMax.longValue();
+				}
+				this.mins[i] = new BigDecimal(partitionMin, DECIMAL_SCALE).doubleValue();
+				this.maxs[i] = new BigDecimal(partitionMax, DECIMAL_SCALE).doubleValue();
+			}
+			this.edgeCases = new double[] {0.0, 1.0, -1.0, 0.01, -0.01, -max, max};
+		}
+
+		private static boolean isExact(BigInteger unscaled) {
+			return unscaled.abs().compareTo(BigInteger.valueOf(MAX_EXACT_UNSCALED)) <= 0;
+		}
+
+		private int edgeCaseRatio(int genSize) {
+			return PrimitiveCombinableArbitraries.edgeCaseRatio(genSize, edgeCases.length);
+		}
+
+		private double next(Random random, int edgeCaseRatio) {
+			if (random.nextInt(edgeCaseRatio) == 0) {
+				return edgeCases[random.nextInt(edgeCases.length)];
+			}
+
+			int index = random.nextInt(exacts.length);
+			if (exacts[index]) {
+				return uniform(random, unscaledMins[index], unscaledMaxs[index]) / SCALE_FACTOR;
+			}
+			return Math.min(mins[index] + random.nextDouble() * (maxs[index] - mins[index]), maxs[index]);
+		}
+	}
+}
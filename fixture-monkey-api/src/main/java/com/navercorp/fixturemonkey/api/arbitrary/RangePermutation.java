@@ -0,0 +1,100 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * Walks a pseudo-random permutation of {@code [0, size)} without remembering the visited offsets.
+ * It is a full-period linear congruential generator modulo the next power of two,
+ * its states are scrambled by a bijection of the same bits since the lower bits of the states are periodic.
+ * The offsets out of range are skipped, which is called cycle-walking.
+ * Each offset is returned once, it is thread-safe.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+final class RangePermutation {
+	private final long size;
+	private final boolean bounded;
+	private final long mask;
+	private final long multiplier;
+	private final long increment;
+	private final int scrambleShift;
+	private final long scrambleMultiplier;
+	private final AtomicLong state;
+	private final AtomicLong remaining;
+
+	/**
+	 * @param size the unsigned number of offsets, {@code 0} means {@code 2^64}.
+	 *             The domain larger than {@link Long#MAX_VALUE} is regarded as never exhausted.
+	 */
+	RangePermutation(long size) {
+		this.size = size;
+		this.bounded = size > 0;
+		this.mask = size == 0 || Long.numberOfLeadingZeros(size - 1) == 0
+			? -1L
+			: (1L << (64 - Long.numberOfLeadingZeros(size - 1))) - 1;
+		Random random = Randoms.current();
+		// Hull-Dobell theorem, the increment is odd and the multiplier is congruent to 1 modulo 4.
+		this.multiplier = (random.nextLong() << 2) | 1L;
+		this.increment = random.nextLong() | 1L;
+		this.scrambleShift = Math.max((64 - Long.numberOfLeadingZeros(mask) + 1) / 2, 1);
+		this.scrambleMultiplier = random.nextLong() | 1L;
+		this.state = new AtomicLong(random.nextLong() & mask);
+		this.remaining = new AtomicLong(size);
+	}
+
+	long next(String description) {
+		if (bounded && remaining.getAndDecrement() <= 0) {
+			remaining.set(0);
+			throw new UniqueValueExhaustedException(
+				"Every unique value is already generated, size : " + Long.toUnsignedString(size)
+					+ ", domain : " + description
+			);
+		}
+
+		while (true) {
+			long current = state.get();
+			long next = (multiplier * current + increment) & mask;
+			if (!state.compareAndSet(current, next)) {
+				continue;
+			}
+
+			long offset = scramble(next);
+			if (size == 0 || Long.compareUnsigned(offset, size) < 0) {
+				return offset;
+			}
+		}
+	}
+
+	/**
+	 * Each step is a bijection of the bits of the mask, an xor with its own upper bits or a multiplication by an odd.
+	 */
+	private long scramble(long value) {
+		long scrambled = value ^ (value >>> scrambleShift);
+		scrambled = (scrambled * scrambleMultiplier) & mask;
+		return scrambled ^ (scrambled >>> scrambleShift);
+	}
+}
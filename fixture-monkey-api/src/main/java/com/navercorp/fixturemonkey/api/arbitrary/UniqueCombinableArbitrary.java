@@ -18,8 +18,6 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
-import java.util.Map;
-
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -29,40 +27,22 @@ import org.apiguardian.api.API.Status;
  */
 @API(since = "0.6.0", status = Status.EXPERIMENTAL)
 final class UniqueCombinableArbitrary<T> implements CombinableArbitrary<T> {
-	private static final Object EXISTED = new Object();
-
 	private final CombinableArbitrary<T> combinableArbitrary;
-	private final Map<Object, Object> generated;
+	private final UniqueRegistry registry;
 
-	UniqueCombinableArbitrary(CombinableArbitrary<T> combinableArbitrary, Map<Object, Object> generated) {
+	UniqueCombinableArbitrary(CombinableArbitrary<T> combinableArbitrary, UniqueRegistry registry) {
 		this.combinableArbitrary = combinableArbitrary;
-		this.generated = generated;
+		this.registry = registry;
 	}
 
 	@Override
 	public T combined() {
-		return combinableArbitrary.filter(
-			it -> {
-				if (!generated.containsKey(it)) {
-					generated.put(it, EXISTED);
-					return true;
-				}
-				return false;
-			}
-		).combined();
+		return combinableArbitrary.filter(registry::register).combined();
 	}
 
 	@Override
 	public Object rawValue() {
-		return combinableArbitrary.filter(
-			it -> {
-				if (!generated.containsKey(it)) {
-					generated.put(it, EXISTED);
-					return true;
-				}
-				return false;
-			}
-		).rawValue();
+		return combinableArbitrary.filter(registry::register).rawValue();
 	}
 
 	@Override
@@ -0,0 +1,271 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
+
+/**
+ * A domain of unique values, each value is indexed by an offset.
+ * A {@link Cursor} of the domain returns each offset once instead of retrying until a unique value is generated.
+ * The offsets of a finite domain are walked in a shuffled order, the offsets of an open domain in a sequence.
+ * The domains are equal if they have the same values, they could share a cursor.
+ *
+ * @see MonkeyGeneratorContext#nextUnique
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class UniqueDomain<T> {
+	private static final UniqueDomain<Boolean> BOOLEANS = elements(Arrays.asList(true, false));
+	private static final Object STRINGS_KEY = new Object();
+
+	private final Object key;
+	private final long size;
+	private final boolean finite;
+	private final LongFunction<T> valueByOffset;
+	private final String description;
+
+	private UniqueDomain(
+		Object key,
+		long size,
+		boolean finite,
+		LongFunction<T> valueByOffset,
+		String description
+	) {
+		this.key = key;
+		this.size = size;
+		this.finite = finite;
+		this.valueByOffset = valueByOffset;
+		this.description = description;
+	}
+
+	/**
+	 * Each long between {@code min} and {@code max} inclusive.
+	 *
+	 * @param min the minimum value, inclusive
+	 * @param max the maximum value, inclusive
+	 * @return a domain of longs
+	 */
+	public static UniqueDomain<Long> longs(long min, long max) {
+		return range(Long.class, min, max, offset -> min + offset);
+	}
+
+	/**
+	 * Each integer between {@code min} and {@code max} inclusive.
+	 *
+	 * @param min the minimum value, inclusive
+	 * @param max the maximum value, inclusive
+	 * @return a domain of integers
+	 */
+	public static UniqueDomain<Integer> integers(int min, int max) {
+		return range(Integer.class, min, max, offset -> (int)(min + offset));
+	}
+
+	/**
+	 * Each short between {@code min} and {@code max} inclusive.
+	 *
+	 * @param min the minimum value, inclusive
+	 * @param max the maximum value, inclusive
+	 * @return a domain of shorts
+	 */
+	public static UniqueDomain<Short> shorts(short min, short max) {
+		return range(Short.class, min, max, offset -> (short)(min + offset));
+	}
+
+	/**
+	 * Each byte between {@code min} and {@code max} inclusive.
+	 *
+	 * @param min the minimum value, inclusive
+	 * @param max the maximum value, inclusive
+	 * @return a domain of bytes
+	 */
+	public static UniqueDomain<Byte> bytes(byte min, byte max) {
+		return range(Byte.class, min, max, offset -> (byte)(min + offset));
+	}
+
+	/**
+	 * Each of the given elements, they should be distinct.
+	 *
+	 * @param elements the candidates
+	 * @param <T>      the type of elements
+	 * @return a domain of given elements
+	 */
+	public static <T> UniqueDomain<T> elements(List<T> elements) {
+		if (elements.isEmpty()) {
+			throw new IllegalArgumentException("elements should not be empty.");
+		}
+
+		List<T> candidates = new ArrayList<>(elements);
+		return new UniqueDomain<>(
+			candidates,
+			candidates.size(),
+			true,
+			offset -> candidates.get((int)offset),
+			candidates.toString()
+		);
+	}
+
+	/**
+	 * Each constant of the enum.
+	 *
+	 * @param enumType the type of enum
+	 * @param <T>      the type of enum
+	 * @return a domain of enum constants
+	 */
+	public static <T> UniqueDomain<T> enums(Class<T> enumType) {
+		T[] constants = enumType.getEnumConstants();
+		if (constants == null || constants.length == 0) {
+			throw new IllegalArgumentException("Given type is not an enum having constants. type : " + enumType);
+		}
+
+		return new UniqueDomain<>(
+			enumType,
+			constants.length,
+			true,
+			offset -> constants[(int)offset],
+			enumType.getName()
+		);
+	}
+
+	/**
+	 * True and false.
+	 *
+	 * @return a domain of booleans
+	 */
+	public static UniqueDomain<Boolean> booleans() {
+		return BOOLEANS;
+	}
+
+	/**
+	 * The strings of the prefix followed by a suffix of a sequence number, the domain is never exhausted.
+	 * The suffix is the decimal sequence number followed by a letter of its number of digits,
+	 * {@code a} for one digit, so the strings of different sequence numbers are different whatever the prefixes are.
+	 * All the domains of strings are equal regardless of their prefixes.
+	 *
+	 * @param prefix the prefix of the string
+	 * @return a domain of strings
+	 */
+	public static UniqueDomain<String> strings(String prefix) {
+		return new UniqueDomain<>(
+			STRINGS_KEY,
+			0L,
+			false,
+			offset -> {
+				String sequence = Long.toString(offset);
+				return prefix + sequence + (char)('a' + sequence.length() - 1);
+			},
+			"strings"
+		);
+	}
+
+	/**
+	 * Returns the value of given offset.
+	 *
+	 * @param offset the offset returned by a {@link Cursor} of the domain
+	 * @return the value of the offset
+	 */
+	public T getValue(long offset) {
+		return valueByOffset.apply(offset);
+	}
+
+	/**
+	 * Creates a new cursor which returns each offset of the domain once.
+	 *
+	 * @return a new cursor
+	 */
+	public Cursor cursor() {
+		return new Cursor(finite ? new RangePermutation(size) : null, description);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		UniqueDomain<?> that = (UniqueDomain<?>)obj;
+		return key.equals(that.key);
+	}
+
+	@Override
+	public int hashCode() {
+		return key.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return description;
+	}
+
+	private static <T> UniqueDomain<T> range(Class<T> type, long min, long max, LongFunction<T> valueByOffset) {
+		if (min > max) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max, min : " + min + ", max : " + max
+			);
+		}
+
+		return new UniqueDomain<>(
+			Arrays.asList(type, min, max),
+			max - min + 1,
+			true,
+			valueByOffset,
+			type.getSimpleName() + " [" + min + ", " + max + "]"
+		);
+	}
+
+	/**
+	 * Returns each offset of the domain once, it is thread-safe.
+	 */
+	public static final class Cursor {
+		@Nullable
+		private final RangePermutation permutation;
+		private final AtomicLong sequence = new AtomicLong();
+		private final String description;
+
+		private Cursor(@Nullable RangePermutation permutation, String description) {
+			this.permutation = permutation;
+			this.description = description;
+		}
+
+		/**
+		 * Returns the next offset.
+		 *
+		 * @return an offset never returned by this cursor
+		 * @throws UniqueValueExhaustedException if every offset of the finite domain is already returned
+		 */
+		public long next() {
+			if (permutation == null) {
+				return sequence.getAndIncrement();
+			}
+			return permutation.next(description);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Remembers the values generated by {@link CombinableArbitrary#unique(UniqueRegistry)}.
+ * Implementations should be thread-safe, a registry may be shared by concurrent generations.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface UniqueRegistry {
+	/**
+	 * Registers the value.
+	 * It is an atomic check-then-add, the same value would not be accepted twice.
+	 *
+	 * @param value the generated value, it may be null
+	 * @return true if the value is accepted as a unique value
+	 */
+	boolean register(Object value);
+
+	/**
+	 * Returns a registry remembering every value exactly.
+	 * Its memory grows as the number of generated values.
+	 *
+	 * @return a registry backed by a concurrent set
+	 */
+	static UniqueRegistry concurrent() {
+		return new ConcurrentUniqueRegistry();
+	}
+
+	/**
+	 * Returns a memory-bounded registry backed by a bloom filter.
+	 * It never accepts a duplicated value, but it may reject a value never generated
+	 * with the given false positive probability, which is retried as a filter miss.
+	 *
+	 * @param expectedInsertions the expected number of unique values
+	 * @param falsePositiveProbability the probability of rejecting a value never generated
+	 * @return a registry backed by a bloom filter
+	 */
+	static UniqueRegistry bloomFilter(int expectedInsertions, double falsePositiveProbability) {
+		return new BloomFilterUniqueRegistry(expectedInsertions, falsePositiveProbability);
+	}
+}
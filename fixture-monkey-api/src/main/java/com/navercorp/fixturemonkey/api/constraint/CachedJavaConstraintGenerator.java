@@ -0,0 +1,111 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Caches the constraints generated by the delegate as a {@link JavaConstraintDescriptor} per {@link Property}.
+ * The delegate should generate the constraints only by the annotations and the type of the property.
+ * The constraints not relevant to the type of the property and the date time constraint are not cached.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class CachedJavaConstraintGenerator implements JavaConstraintGenerator {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final JavaConstraintGenerator delegate;
+	private final ConcurrentClockCache<Property, JavaConstraintDescriptor> descriptorsByProperty;
+
+	public CachedJavaConstraintGenerator(JavaConstraintGenerator delegate) {
+		this(delegate, DEFAULT_CACHE_SIZE);
+	}
+
+	public CachedJavaConstraintGenerator(JavaConstraintGenerator delegate, int cacheSize) {
+		this.delegate = delegate;
+		this.descriptorsByProperty = new ConcurrentClockCache<>(cacheSize);
+	}
+
+	/**
+	 * Returns the constraints of the resolved property of given context, they are compiled once per property.
+	 *
+	 * @param context the context of the property
+	 * @return the compiled constraints
+	 */
+	public JavaConstraintDescriptor getDescriptor(ArbitraryGeneratorContext context) {
+		return descriptorsByProperty.computeIfAbsent(context.getResolvedProperty(), property -> {
+			Class<?> type = Types.getActualType(property.getType());
+			return new JavaConstraintDescriptor(
+				type == String.class ? delegate.generateStringConstraint(context) : null,
+				Types.isIntegerType(type) ? delegate.generateIntegerConstraint(context) : null,
+				Types.isDecimalType(type) ? delegate.generateDecimalConstraint(context) : null,
+				context.getArbitraryProperty().isContainer() ? delegate.generateContainerConstraint(context) : null
+			);
+		});
+	}
+
+	@Override
+	@Nullable
+	public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+		if (Types.getActualType(context.getResolvedType()) != String.class) {
+			return delegate.generateStringConstraint(context);
+		}
+		return getDescriptor(context).getStringConstraint();
+	}
+
+	@Override
+	@Nullable
+	public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+		if (!Types.isIntegerType(Types.getActualType(context.getResolvedType()))) {
+			return delegate.generateIntegerConstraint(context);
+		}
+		return getDescriptor(context).getIntegerConstraint();
+	}
+
+	@Override
+	@Nullable
+	public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+		if (!Types.isDecimalType(Types.getActualType(context.getResolvedType()))) {
+			return delegate.generateDecimalConstraint(context);
+		}
+		return getDescriptor(context).getDecimalConstraint();
+	}
+
+	@Override
+	@Nullable
+	public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+		if (!context.getArbitraryProperty().isContainer()) {
+			return delegate.generateContainerConstraint(context);
+		}
+		return getDescriptor(context).getContainerConstraint();
+	}
+
+	@Override
+	@Nullable
+	public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+		return delegate.generateDateTimeConstraint(context);
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A {@link Predicate} which could be pushed down into the generation.
+ * It is used as a post condition or a filter, the value would be generated within its constraint
+ * instead of being generated and rejected repeatedly.
+ * It is still tested for the generated value, the constraint is a hint for generating.
+ *
+ * @param <T> the type of value to test
+ * @see IntegerRange
+ * @see StringLength
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public interface ConstraintPredicate<T> extends Predicate<T> {
+	/**
+	 * Returns the constraint for integral types, {@code byte}, {@code short}, {@code int}, {@code long}
+	 * and {@link java.math.BigInteger}.
+	 *
+	 * @return null if it does not constrain integral types
+	 */
+	@Nullable
+	default JavaIntegerConstraint toIntegerConstraint() {
+		return null;
+	}
+
+	/**
+	 * Returns the constraint for {@link String}.
+	 *
+	 * @return null if it does not constrain {@link String}
+	 */
+	@Nullable
+	default JavaStringConstraint toStringConstraint() {
+		return null;
+	}
+}
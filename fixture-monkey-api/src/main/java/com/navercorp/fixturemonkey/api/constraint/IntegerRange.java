@@ -0,0 +1,113 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Tests if the integral value is in the range.
+ * For example, {@code setPostCondition("price", Integer.class, IntegerRange.closed(1, 10))}
+ * generates the price between 1 and 10 without filtering.
+ *
+ * @param <T> the type of value to test
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class IntegerRange<T extends Number> implements ConstraintPredicate<T> {
+	@Nullable
+	private final BigInteger min;
+
+	@Nullable
+	private final BigInteger max;
+
+	private IntegerRange(@Nullable BigInteger min, @Nullable BigInteger max) {
+		if (min != null && max != null && min.compareTo(max) > 0) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max, min : " + min + ", max : " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * @param min the minimum value, inclusive
+	 * @param max the maximum value, inclusive
+	 */
+	public static <T extends Number> IntegerRange<T> closed(long min, long max) {
+		return new IntegerRange<>(BigInteger.valueOf(min), BigInteger.valueOf(max));
+	}
+
+	/**
+	 * @param min the minimum value, inclusive
+	 */
+	public static <T extends Number> IntegerRange<T> atLeast(long min) {
+		return new IntegerRange<>(BigInteger.valueOf(min), null);
+	}
+
+	/**
+	 * @param max the maximum value, inclusive
+	 */
+	public static <T extends Number> IntegerRange<T> atMost(long max) {
+		return new IntegerRange<>(null, BigInteger.valueOf(max));
+	}
+
+	@Override
+	public boolean test(@Nullable T value) {
+		if (value == null) {
+			return false;
+		}
+
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			long longValue = value.longValue();
+			return (min == null || min.longValue() <= longValue) && (max == null || longValue <= max.longValue());
+		}
+
+		BigDecimal decimal = value instanceof BigInteger
+			? new BigDecimal((BigInteger)value)
+			: new BigDecimal(value.toString());
+		return (min == null || new BigDecimal(min).compareTo(decimal) <= 0)
+			&& (max == null || decimal.compareTo(new BigDecimal(max)) <= 0);
+	}
+
+	@Override
+	public JavaIntegerConstraint toIntegerConstraint() {
+		return new JavaIntegerConstraint(min, max, null, null);
+	}
+
+	@Nullable
+	public BigInteger getMin() {
+		return min;
+	}
+
+	@Nullable
+	public BigInteger getMax() {
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return "IntegerRange[" + (min == null ? "-inf" : min) + ", " + (max == null ? "+inf" : max) + "]";
+	}
+}
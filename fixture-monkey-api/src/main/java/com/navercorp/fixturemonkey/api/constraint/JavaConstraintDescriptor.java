@@ -0,0 +1,77 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * The constraints of a {@link Property} compiled once by a {@link JavaConstraintGenerator}.
+ * Only the constraints relevant to the type of the property are compiled, the others are null.
+ * The date time constraint is not included, it depends on the time when it is generated.
+ *
+ * @see CachedJavaConstraintGenerator
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class JavaConstraintDescriptor {
+	@Nullable
+	private final JavaStringConstraint stringConstraint;
+	@Nullable
+	private final JavaIntegerConstraint integerConstraint;
+	@Nullable
+	private final JavaDecimalConstraint decimalConstraint;
+	@Nullable
+	private final JavaContainerConstraint containerConstraint;
+
+	public JavaConstraintDescriptor(
+		@Nullable JavaStringConstraint stringConstraint,
+		@Nullable JavaIntegerConstraint integerConstraint,
+		@Nullable JavaDecimalConstraint decimalConstraint,
+		@Nullable JavaContainerConstraint containerConstraint
+	) {
+		this.stringConstraint = stringConstraint;
+		this.integerConstraint = integerConstraint;
+		this.decimalConstraint = decimalConstraint;
+		this.containerConstraint = containerConstraint;
+	}
+
+	@Nullable
+	public JavaStringConstraint getStringConstraint() {
+		return stringConstraint;
+	}
+
+	@Nullable
+	public JavaIntegerConstraint getIntegerConstraint() {
+		return integerConstraint;
+	}
+
+	@Nullable
+	public JavaDecimalConstraint getDecimalConstraint() {
+		return decimalConstraint;
+	}
+
+	@Nullable
+	public JavaContainerConstraint getContainerConstraint() {
+		return containerConstraint;
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+
+/**
+ * Pushes the constraints of {@link ConstraintPredicate}s applied to the property down into the generation.
+ * The constraints are intersected with the constraint generated by the delegate,
+ * the constraint of the delegate is ignored if the intersection is empty,
+ * the predicates are tested anyway.
+ * The integer constraints are clamped to the range of the resolved type first,
+ * the one out of the range is not pushed down.
+ *
+ * @see ArbitraryGeneratorContext#getConstraintPredicates()
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class PushdownJavaConstraintGenerator implements JavaConstraintGenerator {
+	private final JavaConstraintGenerator delegate;
+
+	public PushdownJavaConstraintGenerator(JavaConstraintGenerator delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	@Nullable
+	public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+		JavaStringConstraint constraint = delegate.generateStringConstraint(context);
+		List<ConstraintPredicate<?>> constraintPredicates = context.getConstraintPredicates();
+		if (constraintPredicates.isEmpty()) {
+			return constraint;
+		}
+
+		for (ConstraintPredicate<?> constraintPredicate : constraintPredicates) {
+			JavaStringConstraint pushed = constraintPredicate.toStringConstraint();
+			if (pushed != null) {
+				constraint = intersect(constraint, pushed);
+			}
+		}
+		return constraint;
+	}
+
+	@Override
+	@Nullable
+	public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = delegate.generateIntegerConstraint(context);
+		List<ConstraintPredicate<?>> constraintPredicates = context.getConstraintPredicates();
+		if (constraintPredicates.isEmpty()) {
+			return constraint;
+		}
+
+		Type type = context.getResolvedType();
+		for (ConstraintPredicate<?> constraintPredicate : constraintPredicates) {
+			JavaIntegerConstraint pushed = constraintPredicate.toIntegerConstraint();
+			if (pushed != null) {
+				pushed = clamp(pushed, type);
+			}
+			if (pushed != null) {
+				constraint = intersect(constraint, pushed);
+			}
+		}
+		return constraint;
+	}
+
+	@Override
+	@Nullable
+	public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+		return delegate.generateDecimalConstraint(context);
+	}
+
+	@Override
+	@Nullable
+	public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+		return delegate.generateContainerConstraint(context);
+	}
+
+	@Override
+	@Nullable
+	public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+		return delegate.generateDateTimeConstraint(context);
+	}
+
+	private static JavaStringConstraint intersect(
+		@Nullable JavaStringConstraint constraint,
+		JavaStringConstraint pushed
+	) {
+		if (constraint == null) {
+			return pushed;
+		}
+
+		BigInteger minSize = max(constraint.getMinSize(), pushed.getMinSize());
+		BigInteger maxSize = min(constraint.getMaxSize(), pushed.getMaxSize());
+		if (minSize != null && maxSize != null && minSize.compareTo(maxSize) > 0) {
+			return pushed;
+		}
+
+		return new JavaStringConstraint(
+			minSize,
+			maxSize,
+			constraint.isDigits() || pushed.isDigits(),
+			constraint.isNotNull() || pushed.isNotNull(),
+			constraint.isNotBlank() || pushed.isNotBlank(),
+			constraint.getPattern() != null ? constraint.getPattern() : pushed.getPattern(),
+			constraint.isEmail() || pushed.isEmail()
+		);
+	}
+
+	/**
+	 * The pushed constraint is regarded as a single range from its least minimum to its greatest maximum.
+	 * The positive and negative ranges of the constraint are intersected with the pushed range respectively,
+	 * the empty one is removed.
+	 */
+	private static JavaIntegerConstraint intersect(
+		@Nullable JavaIntegerConstraint constraint,
+		JavaIntegerConstraint pushed
+	) {
+		if (constraint == null) {
+			return pushed;
+		}
+
+		BigInteger pushedMin = min(pushed.getPositiveMin(), pushed.getNegativeMin());
+		BigInteger pushedMax = max(pushed.getPositiveMax(), pushed.getNegativeMax());
+
+		BigInteger positiveMin = null;
+		BigInteger positiveMax = null;
+		if (constraint.getPositiveMin() != null || constraint.getPositiveMax() != null) {
+			positiveMin = max(constraint.getPositiveMin(), pushedMin);
+			positiveMax = min(constraint.getPositiveMax(), pushedMax);
+			if (positiveMin != null && positiveMax != null && positiveMin.compareTo(positiveMax) > 0) {
+				positiveMin = null;
+				positiveMax = null;
+			}
+		}
+
+		BigInteger negativeMin = null;
+		BigInteger negativeMax = null;
+		if (constraint.getNegativeMin() != null || constraint.getNegativeMax() != null) {
+			negativeMin = max(constraint.getNegativeMin(), pushedMin);
+			negativeMax = min(constraint.getNegativeMax(), pushedMax);
+			if (negativeMin != null && negativeMax != null && negativeMin.compareTo(negativeMax) > 0) {
+				negativeMin = null;
+				negativeMax = null;
+			}
+		}
+
+		if (positiveMin == null && positiveMax == null && negativeMin == null && negativeMax == null) {
+			return pushed;
+		}
+
+		return new JavaIntegerConstraint(positiveMin, positiveMax, negativeMin, negativeMax);
+	}
+
+	/**
+	 * Clamps the positive and negative ranges of the pushed constraint to the range of given type respectively,
+	 * the range out of the type is removed.
+	 * It returns null if both ranges are out of the type.
+	 */
+	@Nullable
+	private static JavaIntegerConstraint clamp(JavaIntegerConstraint pushed, Type type) {
+		BigInteger typeMin;
+		BigInteger typeMax;
+		if (type == Long.class || type == long.class) {
+			typeMin = BIG_INTEGER_MIN_LONG;
+			typeMax = BIG_INTEGER_MAX_LONG;
+		} else if (type == Integer.class || type == int.class) {
+			typeMin = BIG_INTEGER_MIN_INT;
+			typeMax = BIG_INTEGER_MAX_INT;
+		} else if (type == Short.class || type == short.class) {
+			typeMin = BIG_INTEGER_MIN_SHORT;
+			typeMax = BIG_INTEGER_MAX_SHORT;
+		} else if (type == Byte.class || type == byte.class) {
+			typeMin = BIG_INTEGER_MIN_BYTE;
+			typeMax = BIG_INTEGER_MAX_BYTE;
+		} else {
+			return pushed;
+		}
+
+		BigInteger positiveMin = max(pushed.getPositiveMin(), typeMin);
+		BigInteger positiveMax = min(pushed.getPositiveMax(), typeMax);
+		boolean positiveEmpty = positiveMin.compareTo(positiveMax) > 0;
+		BigInteger negativeMin = max(pushed.getNegativeMin(), typeMin);
+		BigInteger negativeMax = min(pushed.getNegativeMax(), typeMax);
+		boolean negativeEmpty = negativeMin.compareTo(negativeMax) > 0;
+
+		boolean positiveAbsent = pushed.getPositiveMin() == null && pushed.getPositiveMax() == null;
+		boolean negativeAbsent = pushed.getNegativeMin() == null && pushed.getNegativeMax() == null;
+		if ((positiveAbsent || positiveEmpty) && (negativeAbsent || negativeEmpty)) {
+			return null;
+		}
+
+		return new JavaIntegerConstraint(
+			positiveAbsent || positiveEmpty ? null : positiveMin,
+			positiveAbsent || positiveEmpty ? null : positiveMax,
+			negativeAbsent || negativeEmpty ? null : negativeMin,
+			negativeAbsent || negativeEmpty ? null : negativeMax
+		);
+	}
+
+	@Nullable
+	private static BigInteger min(@Nullable BigInteger left, @Nullable BigInteger right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		return left.min(right);
+	}
+
+	@Nullable
+	private static BigInteger max(@Nullable BigInteger left, @Nullable BigInteger right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		return left.max(right);
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import java.math.BigInteger;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Tests if the length of the string is in the range.
+ * For example, {@code setPostCondition("name", String.class, StringLength.between(1, 8))}
+ * generates the name whose length is between 1 and 8 without filtering.
+ *
+ * @param <T> the type of value to test
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class StringLength<T extends CharSequence> implements ConstraintPredicate<T> {
+	private final int min;
+	private final int max;
+
+	private StringLength(int min, int max) {
+		if (min < 0 || min > max) {
+			throw new IllegalArgumentException(
+				"min should be between 0 and max, min : " + min + ", max : " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * @param min the minimum length, inclusive
+	 * @param max the maximum length, inclusive
+	 */
+	public static <T extends CharSequence> StringLength<T> between(int min, int max) {
+		return new StringLength<>(min, max);
+	}
+
+	/**
+	 * @param length the exact length
+	 */
+	public static <T extends CharSequence> StringLength<T> exactly(int length) {
+		return new StringLength<>(length, length);
+	}
+
+	@Override
+	public boolean test(@Nullable T value) {
+		if (value == null) {
+			return false;
+		}
+
+		int length = value.length();
+		return min <= length && length <= max;
+	}
+
+	@Override
+	public JavaStringConstraint toStringConstraint() {
+		return new JavaStringConstraint(
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			false,
+			true,
+			false,
+			null,
+			false
+		);
+	}
+
+	public int getMin() {
+		return min;
+	}
+
+	public int getMax() {
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return "StringLength[" + min + ", " + max + "]";
+	}
+}
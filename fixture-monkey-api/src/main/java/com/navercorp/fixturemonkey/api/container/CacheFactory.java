@@ -0,0 +1,45 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Creates a bounded cache which could be accessed concurrently.
+ * It could be implemented by the constructor reference of the cache, for example {@code ConcurrentLruCache::new}.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface CacheFactory {
+	CacheFactory CONCURRENT_CLOCK_CACHE = ConcurrentClockCache::new;
+	CacheFactory CONCURRENT_LRU_CACHE = ConcurrentLruCache::new;
+
+	/**
+	 * Creates a cache which holds at most {@code maxSize} elements.
+	 *
+	 * @param maxSize the maximum number of elements
+	 * @param <K>     key of the cache
+	 * @param <V>     value of the cache
+	 * @return a new cache
+	 */
+	<K, V> Map<K, V> create(int maxSize);
+}
@@ -0,0 +1,286 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.listener.CacheStatistics;
+
+/**
+ * It is the concurrent bounded cache which approximates {@link ConcurrentLruCache} by the CLOCK algorithm.
+ * It would remove an element not used since the clock hand passed it last when it is full.
+ * <p>
+ * Reading does not take any lock, it only marks the element as referenced.
+ * Only the thread which evicts the elements takes a lock, the others writing the elements do not wait for it.
+ *
+ * @param <K> key of the cache
+ * @param <V> value of the cache
+ */
+@SuppressWarnings("NullableProblems")
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class ConcurrentClockCache<K, V> extends AbstractMap<K, V> {
+	private final int maxSize;
+	private final ConcurrentHashMap<K, Node<K, V>> nodesByKey;
+	private final ConcurrentLinkedQueue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final EntrySet entrySet = new EntrySet();
+
+	public ConcurrentClockCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize should be positive. maxSize: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.nodesByKey = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+	}
+
+	@Override
+	public int size() {
+		return nodesByKey.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return nodesByKey.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return nodesByKey.containsKey(key);
+	}
+
+	@Override
+	public V get(Object key) {
+		Node<K, V> node = nodesByKey.get(key);
+		if (node == null) {
+			missCount.increment();
+			return null;
+		}
+
+		hitCount.increment();
+		node.markReferenced();
+		return node.value;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Node<K, V> node = nodesByKey.get(key);
+		if (node == null) {
+			Node<K, V> newNode = new Node<>(key, value);
+			node = nodesByKey.putIfAbsent(key, newNode);
+			if (node == null) {
+				clock.offer(newNode);
+				evictIfFull();
+				return null;
+			}
+		}
+
+		V previous = node.value;
+		node.value = value;
+		node.markReferenced();
+		return previous;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		Node<K, V> newNode = new Node<>(key, value);
+		Node<K, V> node = nodesByKey.putIfAbsent(key, newNode);
+		if (node != null) {
+			node.markReferenced();
+			return node.value;
+		}
+
+		clock.offer(newNode);
+		evictIfFull();
+		return null;
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V cached = get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		@SuppressWarnings("unchecked")
+		Node<K, V>[] computed = new Node[1];
+		Node<K, V> node = nodesByKey.computeIfAbsent(key, it -> {
+			V value = mappingFunction.apply(it);
+			if (value == null) {
+				return null;
+			}
+			computed[0] = new Node<>(it, value);
+			return computed[0];
+		});
+
+		if (node == null) {
+			return null;
+		}
+
+		if (node == computed[0]) {
+			clock.offer(node);
+			evictIfFull();
+		}
+		return node.value;
+	}
+
+	@Override
+	public V remove(Object key) {
+		Node<K, V> node = nodesByKey.remove(key);
+		if (node == null) {
+			return null;
+		}
+
+		clock.remove(node);
+		return node.value;
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			nodesByKey.clear();
+			clock.clear();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return entrySet;
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} has found the element.
+	 *
+	 * @return the hit count of the cache
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} has not found the element.
+	 *
+	 * @return the miss count of the cache
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * Returns the number of elements removed because the cache was full.
+	 *
+	 * @return the eviction count of the cache
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Returns a snapshot of the hit, miss and eviction counts.
+	 *
+	 * @return the statistics of the cache
+	 */
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(getHitCount(), getMissCount(), getEvictionCount());
+	}
+
+	private void evictIfFull() {
+		if (nodesByKey.size() <= maxSize || !evictionLock.tryLock()) {
+			return;
+		}
+
+		try {
+			while (nodesByKey.size() > maxSize) {
+				Node<K, V> node = clock.poll();
+				if (node == null) {
+					return;
+				}
+
+				if (node.referenced) {
+					node.referenced = false;
+					clock.offer(node);
+					continue;
+				}
+
+				if (nodesByKey.remove(node.key, node)) {
+					evictionCount.increment();
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+		private volatile boolean referenced;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		private void markReferenced() {
+			if (!referenced) {
+				referenced = true;
+			}
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			Iterator<Node<K, V>> iterator = nodesByKey.values().iterator();
+			return new Iterator<Entry<K, V>>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					Node<K, V> node = iterator.next();
+					return new SimpleImmutableEntry<>(node.key, node.value);
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return nodesByKey.size();
+		}
+	}
+}
@@ -31,7 +31,7 @@ import org.apiguardian.api.API.Status;
  */
 @API(since = "0.6.0", status = Status.EXPERIMENTAL)
 public final class StreamCache {
-	private static final ConcurrentLruCache<Stream<?>, List<?>> STREAM_TO_LIST = new ConcurrentLruCache<>(2048);
+	private static final ConcurrentClockCache<Stream<?>, List<?>> STREAM_TO_LIST = new ConcurrentClockCache<>(2048);
 
 	/**
 	 * Gets the elements of {@link Stream} in an idempotent manner.
@@ -20,37 +20,88 @@ package com.navercorp.fixturemonkey.api.context;
 
 import static com.navercorp.fixturemonkey.api.type.Types.isJavaType;
 
-import java.util.TreeMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.listener.CacheStatistics;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class MonkeyContext {
-	private final ConcurrentLruCache<Property, CombinableArbitrary<?>> arbitrariesByProperty;
-	private final ConcurrentLruCache<Property, CombinableArbitrary<?>> javaArbitrariesByProperty;
-	private final ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	private final Map<Property, CombinableArbitrary<?>> arbitrariesByProperty;
+	private final Map<Property, CombinableArbitrary<?>> javaArbitrariesByProperty;
+	private final Map<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	private final Supplier<MonkeyContext> contextFactory;
 
+	/**
+	 * It is deprecated.
+	 * Use {@link #MonkeyContext(Map, Map, Map)} instead.
+	 */
+	@Deprecated
 	public MonkeyContext(
 		ConcurrentLruCache<Property, CombinableArbitrary<?>> arbitrariesByProperty,
 		ConcurrentLruCache<Property, CombinableArbitrary<?>> javaArbitrariesByProperty,
 		ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
+	) {
+		this(
+			(Map<Property, CombinableArbitrary<?>>)arbitrariesByProperty,
+			javaArbitrariesByProperty,
+			generatorContextByRootProperty
+		);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public MonkeyContext(
+		Map<Property, CombinableArbitrary<?>> arbitrariesByProperty,
+		Map<Property, CombinableArbitrary<?>> javaArbitrariesByProperty,
+		Map<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
+	) {
+		this(
+			arbitrariesByProperty,
+			javaArbitrariesByProperty,
+			generatorContextByRootProperty,
+			() -> MonkeyContext.builder().build()
+		);
+	}
+
+	MonkeyContext(
+		Map<Property, CombinableArbitrary<?>> arbitrariesByProperty,
+		Map<Property, CombinableArbitrary<?>> javaArbitrariesByProperty,
+		Map<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty,
+		Supplier<MonkeyContext> contextFactory
 	) {
 		this.arbitrariesByProperty = arbitrariesByProperty;
 		this.javaArbitrariesByProperty = javaArbitrariesByProperty;
 		this.generatorContextByRootProperty = generatorContextByRootProperty;
+		this.contextFactory = contextFactory;
 	}
 
 	public static MonkeyContextBuilder builder() {
 		return new MonkeyContextBuilder();
 	}
 
+	/**
+	 * Creates an empty context which caches nothing this context caches.
+	 * Its caches are created by the same {@link com.navercorp.fixturemonkey.api.container.CacheFactory}
+	 * and sizes as this context is built with, the caches set explicitly are not shared.
+	 *
+	 * @return a new empty context
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public MonkeyContext newContext() {
+		return contextFactory.get();
+	}
+
 	public CombinableArbitrary<?> getCachedArbitrary(Property property) {
 		CombinableArbitrary<?> javaTypeCombinableArbitrary = javaArbitrariesByProperty.get(property);
 		if (javaTypeCombinableArbitrary != null) {
@@ -72,7 +123,32 @@ public final class MonkeyContext {
 	public MonkeyGeneratorContext retrieveGeneratorContext(RootProperty rootProperty) {
 		return generatorContextByRootProperty.computeIfAbsent(
 			rootProperty,
-			property -> new MonkeyGeneratorContext(new TreeMap<>())
+			property -> new MonkeyGeneratorContext(new ConcurrentSkipListMap<>())
 		);
 	}
+
+	/**
+	 * Returns the statistics of the caches of this context by their names.
+	 * Only the caches counting their statistics, {@link ConcurrentClockCache}, are returned.
+	 *
+	 * @return the statistics of the caches by their names
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public Map<String, CacheStatistics> getCacheStatistics() {
+		Map<String, CacheStatistics> cacheStatistics = new LinkedHashMap<>();
+		putCacheStatistics(cacheStatistics, "arbitrariesByProperty", arbitrariesByProperty);
+		putCacheStatistics(cacheStatistics, "javaArbitrariesByProperty", javaArbitrariesByProperty);
+		putCacheStatistics(cacheStatistics, "generatorContextByRootProperty", generatorContextByRootProperty);
+		return cacheStatistics;
+	}
+
+	private static void putCacheStatistics(
+		Map<String, CacheStatistics> cacheStatistics,
+		String cacheName,
+		Map<?, ?> cache
+	) {
+		if (cache instanceof ConcurrentClockCache) {
+			cacheStatistics.put(cacheName, ((ConcurrentClockCache<?, ?>)cache).getStatistics());
+		}
+	}
 }
@@ -18,43 +18,100 @@
 
 package com.navercorp.fixturemonkey.api.context;
 
+import java.util.Map;
+import java.util.function.Supplier;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.CacheFactory;
 import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class MonkeyContextBuilder {
-	private ConcurrentLruCache<Property, CombinableArbitrary<?>> arbitrariesByProperty;
-	private ConcurrentLruCache<Property, CombinableArbitrary<?>> javaArbitrariesByProperty;
-	private ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	private Map<Property, CombinableArbitrary<?>> arbitrariesByProperty;
+	private Map<Property, CombinableArbitrary<?>> javaArbitrariesByProperty;
+	private Map<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	private CacheFactory cacheFactory = CacheFactory.CONCURRENT_CLOCK_CACHE;
 	private int cacheSize = 2048;
 	private int generatorContextSize = 1000;
 
+	/**
+	 * It is deprecated.
+	 * Use {@link #arbitrariesByProperty(Map)} instead.
+	 */
+	@Deprecated
 	public MonkeyContextBuilder arbitrariesByProperty(
 		ConcurrentLruCache<Property, CombinableArbitrary<?>> arbitrariesByProperty
+	) {
+		Map<Property, CombinableArbitrary<?>> arbitraries = arbitrariesByProperty;
+		return arbitrariesByProperty(arbitraries);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public MonkeyContextBuilder arbitrariesByProperty(
+		Map<Property, CombinableArbitrary<?>> arbitrariesByProperty
 	) {
 		this.arbitrariesByProperty = arbitrariesByProperty;
 		return this;
 	}
 
+	/**
+	 * It is deprecated.
+	 * Use {@link #javaArbitrariesByClass(Map)} instead.
+	 */
+	@Deprecated
 	public MonkeyContextBuilder javaArbitrariesByClass(
 		ConcurrentLruCache<Property, CombinableArbitrary<?>> javaArbitrariesByClass
+	) {
+		Map<Property, CombinableArbitrary<?>> javaArbitraries = javaArbitrariesByClass;
+		return javaArbitrariesByClass(javaArbitraries);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public MonkeyContextBuilder javaArbitrariesByClass(
+		Map<Property, CombinableArbitrary<?>> javaArbitrariesByClass
 	) {
 		this.javaArbitrariesByProperty = javaArbitrariesByClass;
 		return this;
 	}
 
+	/**
+	 * It is deprecated.
+	 * Use {@link #generatorContextByRootProperty(Map)} instead.
+	 */
+	@Deprecated
 	public MonkeyContextBuilder generatorContextByRootProperty(
 		ConcurrentLruCache<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
+	) {
+		Map<RootProperty, MonkeyGeneratorContext> generatorContexts = generatorContextByRootProperty;
+		return generatorContextByRootProperty(generatorContexts);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public MonkeyContextBuilder generatorContextByRootProperty(
+		Map<RootProperty, MonkeyGeneratorContext> generatorContextByRootProperty
 	) {
 		this.generatorContextByRootProperty = generatorContextByRootProperty;
 		return this;
 	}
 
+	/**
+	 * Sets the factory of the caches which are not set explicitly.
+	 * The default factory creates {@link com.navercorp.fixturemonkey.api.container.ConcurrentClockCache}.
+	 *
+	 * @param cacheFactory the factory of the caches
+	 * @return this builder
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public MonkeyContextBuilder cacheFactory(CacheFactory cacheFactory) {
+		this.cacheFactory = cacheFactory;
+		return this;
+	}
+
 	public MonkeyContextBuilder cacheSize(int cacheSize) {
 		this.cacheSize = cacheSize;
 		return this;
@@ -67,21 +124,35 @@ public final class MonkeyContextBuilder {
 
 	public MonkeyContext build() {
 		if (arbitrariesByProperty == null) {
-			arbitrariesByProperty = new ConcurrentLruCache<>(cacheSize);
+			arbitrariesByProperty = cacheFactory.create(cacheSize);
 		}
 
 		if (javaArbitrariesByProperty == null) {
-			javaArbitrariesByProperty = new ConcurrentLruCache<>(cacheSize);
+			javaArbitrariesByProperty = cacheFactory.create(cacheSize);
 		}
 
 		if (generatorContextByRootProperty == null) {
-			generatorContextByRootProperty = new ConcurrentLruCache<>(generatorContextSize);
+			generatorContextByRootProperty = cacheFactory.create(generatorContextSize);
 		}
 
 		return new MonkeyContext(
 			arbitrariesByProperty,
 			javaArbitrariesByProperty,
-			generatorContextByRootProperty
+			generatorContextByRootProperty,
+			contextFactory(cacheFactory, cacheSize, generatorContextSize)
+		);
+	}
+
+	private static Supplier<MonkeyContext> contextFactory(
+		CacheFactory cacheFactory,
+		int cacheSize,
+		int generatorContextSize
+	) {
+		return () -> new MonkeyContext(
+			cacheFactory.create(cacheSize),
+			cacheFactory.create(cacheSize),
+			cacheFactory.create(generatorContextSize),
+			contextFactory(cacheFactory, cacheSize, generatorContextSize)
 		);
 	}
 }
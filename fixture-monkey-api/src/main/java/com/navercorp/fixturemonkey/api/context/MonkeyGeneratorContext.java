@@ -18,37 +18,133 @@
 
 package com.navercorp.fixturemonkey.api.context;
 
-import java.util.HashSet;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain;
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain.Cursor;
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
 import com.navercorp.fixturemonkey.api.property.PropertyPath;
 
 @API(since = "0.4.3", status = Status.MAINTAINED)
 public final class MonkeyGeneratorContext {
+	private static final Object NULL = new Object();
+
 	private final SortedMap<PropertyPath, Set<Object>> uniqueSetsByProperty;
+	private final boolean concurrent;
+	/**
+	 * The cursors of the domains by the property, they are dropped when the unique values of the property are evicted.
+	 */
+	private final ConcurrentMap<PropertyPath, ConcurrentMap<UniqueDomain<?>, Cursor>> uniqueCursorsByProperty =
+		new ConcurrentHashMap<>();
 
 	public MonkeyGeneratorContext(SortedMap<PropertyPath, Set<Object>> uniqueSetsByProperty) {
 		this.uniqueSetsByProperty = uniqueSetsByProperty;
+		this.concurrent = uniqueSetsByProperty instanceof ConcurrentMap;
 	}
 
-	public synchronized boolean isUniqueAndCheck(PropertyPath property, Object value) {
-		Set<Object> set = uniqueSetsByProperty.computeIfAbsent(property, p -> new HashSet<>());
-		boolean unique = !set.contains(value);
-		if (unique) {
-			set.add(value);
-			return true;
+	/**
+	 * Registers the value for the property, it is safe to be called concurrently.
+	 * It is lock-free when {@code uniqueSetsByProperty} is a concurrent map, for example {@code ConcurrentSkipListMap},
+	 * the check and the registration are a single atomic {@link Set#add(Object)}.
+	 * Otherwise, it is synchronized.
+	 *
+	 * @param property the path of the property whose values should be unique
+	 * @param value    the generated value, it may be null
+	 * @return true if the value has not been generated for the property
+	 */
+	public boolean isUniqueAndCheck(PropertyPath property, Object value) {
+		if (!concurrent) {
+			synchronized (this) {
+				return register(property, value);
+			}
 		}
+		return register(property, value);
+	}
+
+	/**
+	 * Returns a value of the domain which has not been generated for the property.
+	 * A cursor of the domain is kept for the property until it is evicted, each call advances it,
+	 * so a value is found in an amortized constant time instead of retrying a random value until it is unique.
+	 * The values skipped by the cursor, for example filtered out, are visited again once the cursor is exhausted.
+	 * It does not register the returned value, it is registered by {@link #isUniqueAndCheck(PropertyPath, Object)}.
+	 *
+	 * @param property the path of the property whose values should be unique
+	 * @param domain   the domain of the values of the property
+	 * @param <T>      the type of values
+	 * @return a value of the domain which has not been generated for the property
+	 * @throws UniqueValueExhaustedException if every value of the domain has been generated for the property
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public <T> T nextUnique(PropertyPath property, UniqueDomain<T> domain) {
+		ConcurrentMap<UniqueDomain<?>, Cursor> cursorsByDomain =
+			uniqueCursorsByProperty.computeIfAbsent(property, p -> new ConcurrentHashMap<>());
+		boolean walkedAgain = false;
+		while (true) {
+			Cursor cursor = cursorsByDomain.computeIfAbsent(domain, UniqueDomain::cursor);
+			long offset;
+			try {
+				offset = cursor.next();
+			} catch (UniqueValueExhaustedException ex) {
+				if (walkedAgain) {
+					throw new UniqueValueExhaustedException(ex.getMessage(), property);
+				}
+				cursorsByDomain.remove(domain, cursor);
+				walkedAgain = true;
+				continue;
+			}
 
-		return false;
+			T candidate = domain.getValue(offset);
+			if (!isGenerated(property, candidate)) {
+				return candidate;
+			}
+		}
 	}
 
 	public void evictUnique(PropertyPath propertyPath) {
-		if (uniqueSetsByProperty.containsKey(propertyPath)) {
-			uniqueSetsByProperty.get(propertyPath).clear();
+		uniqueCursorsByProperty.remove(propertyPath);
+		if (!concurrent) {
+			synchronized (this) {
+				clear(propertyPath);
+			}
+			return;
+		}
+		clear(propertyPath);
+	}
+
+	private boolean register(PropertyPath property, @Nullable Object value) {
+		Set<Object> set = uniqueSetsByProperty.get(property);
+		if (set == null) {
+			set = uniqueSetsByProperty.computeIfAbsent(property, p -> ConcurrentHashMap.newKeySet());
+		}
+		return set.add(value == null ? NULL : value);
+	}
+
+	private boolean isGenerated(PropertyPath property, Object value) {
+		if (!concurrent) {
+			synchronized (this) {
+				return contains(property, value);
+			}
+		}
+		return contains(property, value);
+	}
+
+	private boolean contains(PropertyPath property, Object value) {
+		Set<Object> set = uniqueSetsByProperty.get(property);
+		return set != null && set.contains(value);
+	}
+
+	private void clear(PropertyPath propertyPath) {
+		Set<Object> set = uniqueSetsByProperty.get(propertyPath);
+		if (set != null) {
+			set.clear();
 		}
 	}
 }
@@ -0,0 +1,66 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.exception;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
+
+/**
+ * It is thrown when every value of a finite domain is already generated.
+ * A new value would never be generated by retrying the same property,
+ * it could be generated only if the whole object is generated again, for example with a smaller container.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class UniqueValueExhaustedException extends RuntimeException {
+	@Nullable
+	private final PropertyPath propertyPath;
+
+	public UniqueValueExhaustedException(String message) {
+		super(message);
+		this.propertyPath = null;
+	}
+
+	/**
+	 * @param message      the detail message
+	 * @param propertyPath the path of the property whose unique values are exhausted
+	 */
+	public UniqueValueExhaustedException(String message, PropertyPath propertyPath) {
+		super(message + ", property : " + toExpression(propertyPath));
+		this.propertyPath = propertyPath;
+	}
+
+	/**
+	 * Returns the path of the property whose unique values are exhausted.
+	 *
+	 * @return the path, null if it is not generated for a property
+	 */
+	@Nullable
+	public PropertyPath getPropertyPath() {
+		return propertyPath;
+	}
+
+	private static String toExpression(PropertyPath propertyPath) {
+		String expression = propertyPath.getExpression();
+		return "".equals(expression) ? "$" : expression;
+	}
+}
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 
@@ -39,11 +40,17 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain;
+import com.navercorp.fixturemonkey.api.constraint.ConstraintPredicate;
 import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
+import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.property.Traceable;
+import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class ArbitraryGeneratorContext implements Traceable {
@@ -58,6 +65,8 @@ public final class ArbitraryGeneratorContext implements Traceable {
 	private final LazyArbitrary<Map<ArbitraryProperty, CombinableArbitrary<?>>> arbitraryListByArbitraryProperty =
 		LazyArbitrary.lazy(this::initArbitraryListByArbitraryProperty);
 	private final int generateUniqueMaxTries;
+	private final List<ConstraintPredicate<?>> constraintPredicates;
+	private final GenerationListener generationListener;
 	private final AtomicReference<CombinableArbitrary<?>> generated =
 		new AtomicReference<>(CombinableArbitrary.NOT_GENERATED);
 
@@ -69,6 +78,39 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, CombinableArbitrary<?>> resolveArbitrary,
 		MonkeyGeneratorContext monkeyGeneratorContext,
 		int generateUniqueMaxTries
+	) {
+		this(
+			resolvedProperty,
+			property,
+			children,
+			ownerContext,
+			resolveArbitrary,
+			monkeyGeneratorContext,
+			generateUniqueMaxTries,
+			Collections.emptyList(),
+			GenerationListener.NOOP
+		);
+	}
+
+	/**
+	 * Creates a context with the constraint predicates applied to the property.
+	 *
+	 * @param constraintPredicates the predicates whose constraints would be pushed down into the generation,
+	 *                             the generated value is generated within their constraints
+	 * @param generationListener   the listener to be notified while generating
+	 * @see ConstraintPredicate
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public ArbitraryGeneratorContext(
+		Property resolvedProperty,
+		ArbitraryProperty property,
+		List<ArbitraryProperty> children,
+		@Nullable ArbitraryGeneratorContext ownerContext,
+		BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, CombinableArbitrary<?>> resolveArbitrary,
+		MonkeyGeneratorContext monkeyGeneratorContext,
+		int generateUniqueMaxTries,
+		List<ConstraintPredicate<?>> constraintPredicates,
+		GenerationListener generationListener
 	) {
 		this.resolvedProperty = resolvedProperty;
 		this.property = property;
@@ -77,6 +119,8 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		this.resolveArbitrary = resolveArbitrary;
 		this.monkeyGeneratorContext = monkeyGeneratorContext;
 		this.generateUniqueMaxTries = generateUniqueMaxTries;
+		this.constraintPredicates = constraintPredicates;
+		this.generationListener = generationListener;
 	}
 
 	public ArbitraryProperty getArbitraryProperty() {
@@ -131,7 +175,7 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		return this.property.getObjectProperty().isRoot();
 	}
 
-	public synchronized boolean isUniqueAndCheck(PropertyPath property, Object value) {
+	public boolean isUniqueAndCheck(PropertyPath property, Object value) {
 		return monkeyGeneratorContext.isUniqueAndCheck(property, value);
 	}
 
@@ -139,6 +183,45 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		monkeyGeneratorContext.evictUnique(propertyPath);
 	}
 
+	/**
+	 * Returns a value of the domain which has not been generated for the property.
+	 *
+	 * @throws UniqueValueExhaustedException if every value of the domain has been generated for the property
+	 * @see MonkeyGeneratorContext#nextUnique(PropertyPath, UniqueDomain)
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public <T> T nextUnique(PropertyPath property, UniqueDomain<T> domain) {
+		return monkeyGeneratorContext.nextUnique(property, domain);
+	}
+
+	/**
+	 * Returns the path whose values the generated value should be unique among.
+	 * It is the path of the owner {@link Set} if the property is its element,
+	 * or the path of the owner {@link Map} if the property is its key.
+	 *
+	 * @return the path, null if the generated value does not have to be unique
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	@Nullable
+	public PropertyPath getUniquePropertyPath() {
+		if (ownerContext == null || !ownerContext.getArbitraryProperty().isContainer()) {
+			return null;
+		}
+
+		if (Set.class.isAssignableFrom(Types.getActualType(ownerContext.getResolvedType()))) {
+			return ownerContext.getPropertyPath();
+		}
+
+		Property ownerProperty = ownerContext.getArbitraryProperty().getObjectProperty().getProperty();
+		if (ownerProperty instanceof MapEntryElementProperty
+			&& ((MapEntryElementProperty)ownerProperty).getKeyProperty()
+			.equals(property.getObjectProperty().getProperty())
+			&& ownerContext.getOwnerContext() != null) {
+			return ownerContext.getOwnerContext().getPropertyPath();
+		}
+		return null;
+	}
+
 	public PropertyPath getPropertyPath() {
 		return pathProperty.getValue();
 	}
@@ -147,6 +230,16 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		return generateUniqueMaxTries;
 	}
 
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public List<ConstraintPredicate<?>> getConstraintPredicates() {
+		return constraintPredicates;
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public GenerationListener getGenerationListener() {
+		return generationListener;
+	}
+
 	public CombinableArbitrary<?> getGenerated() {
 		return generated.get();
 	}
@@ -94,29 +94,22 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 						}
 
 						if (javaStringConstraint.isNotBlank()) {
-							if (string == null) {
+							if (string == null || isBlank(string)) {
 								return false;
 							}
-							return !isBlank(string);
 						}
 
-						if (javaStringConstraint.getMinSize() != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(javaStringConstraint.getMinSize())
-								>= 0;
+						if (string == null) {
+							return true;
 						}
 
-						if (javaStringConstraint.getMaxSize() != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(javaStringConstraint.getMaxSize())
-								<= 0;
+						if (javaStringConstraint.getMinSize() != null
+							&& BigInteger.valueOf(string.length()).compareTo(javaStringConstraint.getMinSize()) < 0) {
+							return false;
 						}
 
-						return true;
+						return javaStringConstraint.getMaxSize() == null
+							|| BigInteger.valueOf(string.length()).compareTo(javaStringConstraint.getMaxSize()) <= 0;
 					}
 				);
 			}
@@ -19,9 +19,9 @@
 package com.navercorp.fixturemonkey.api.introspector;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,7 +36,6 @@ import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitraryDelegator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.type.Reflections;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -58,40 +57,70 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 
 		CombinableArbitrary<?> generated = context.getGenerated();
 		if (generated == CombinableArbitrary.NOT_GENERATED) {
-			generated = CombinableArbitrary.from(() -> Reflections.newInstance(type));
+			generated = CombinableArbitrary.from(() -> TypeCache.getNoArgsConstructorHandle(type).newInstance());
+		}
+
+		Map<String, MethodHandle> writeMethodsByPropertyName = TypeCache.getWriteMethodHandlesByPropertyName(type);
+		Map<ArbitraryProperty, MethodHandle> writeMethodsByArbitraryProperty = new IdentityHashMap<>();
+		for (ArbitraryProperty arbitraryProperty : arbitrariesByArbitraryProperty.keySet()) {
+			String propertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
+			MethodHandle writeMethod = writeMethodsByPropertyName.get(propertyName);
+			if (writeMethod != null) {
+				writeMethodsByArbitraryProperty.put(arbitraryProperty, writeMethod);
+			}
 		}
 
-		Map<String, PropertyDescriptor> propertyDescriptorsByPropertyName =
-			TypeCache.getPropertyDescriptorsByPropertyName(type);
 		return new ArbitraryIntrospectorResult(
 			new CombinableArbitraryDelegator<>(
 				CombinableArbitrary.objectBuilder()
 					.properties(arbitrariesByArbitraryProperty)
-					.build(combine(generated::combined, propertyDescriptorsByPropertyName))
+					.build(combine(generated::combined, writeMethodsByArbitraryProperty, writeMethodsByPropertyName))
 			)
 		);
 	}
 
 	private Function<Map<ArbitraryProperty, Object>, Object> combine(
 		Supplier<Object> instance,
-		Map<String, PropertyDescriptor> propertyDescriptorsByPropertyName
+		Map<ArbitraryProperty, MethodHandle> writeMethodsByArbitraryProperty,
+		Map<String, MethodHandle> writeMethodsByPropertyName
 	) {
 		return propertyValuesByArbitraryProperty -> {
 			Object object = instance.get();
 			propertyValuesByArbitraryProperty.forEach(
 				(arbitraryProperty, value) -> {
+					if (value == null) {
+						return;
+					}
+
 					Property property = arbitraryProperty.getObjectProperty().getProperty();
+					MethodHandle writeMethod = writeMethodsByArbitraryProperty.get(arbitraryProperty);
+					if (writeMethod == null) {
+						writeMethod = writeMethodsByPropertyName.get(property.getName());
+					}
+
+					if (writeMethod == null) {
+						return;
+					}
 
-					String originPropertyName = property.getName();
-					PropertyDescriptor propertyDescriptor = propertyDescriptorsByPropertyName.get(originPropertyName);
-					Method writeMethod = propertyDescriptor.getWriteMethod();
 					try {
-						if (value != null) {
-							writeMethod.invoke(object, value);
+						writeMethod.invokeExact(object, value);
+					} catch (ClassCastException ex) {
+						if (isTypeMismatch(object.getClass(), property.getName(), value)) {
+							throw new IllegalArgumentException(
+								"argument type mismatch. name: " + property.getName() + " value: " + value,
+								ex
+							);
 						}
-					} catch (IllegalAccessException | InvocationTargetException ex) {
 						log.warn("set bean property is failed. name: {} value: {}",
-							writeMethod.getName(),
+							property.getName(),
+							value,
+							ex);
+					} catch (Error ex) {
+						throw ex;
+					} catch (Throwable ex) {
+						// thrown by the write method itself
+						log.warn("set bean property is failed. name: {} value: {}",
+							property.getName(),
 							value,
 							ex);
 					}
@@ -100,4 +129,14 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 			return object;
 		};
 	}
+
+	private static boolean isTypeMismatch(Class<?> type, String propertyName, Object value) {
+		PropertyDescriptor propertyDescriptor = TypeCache.getPropertyDescriptorsByPropertyName(type).get(propertyName);
+		if (propertyDescriptor == null || propertyDescriptor.getWriteMethod() == null) {
+			return false;
+		}
+
+		Class<?> parameterType = propertyDescriptor.getWriteMethod().getParameterTypes()[0];
+		return !Types.primitiveToWrapper(parameterType).isInstance(value);
+	}
 }
@@ -18,22 +18,20 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
-import java.util.Arrays;
-import java.util.List;
-
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.PrimitiveCombinableArbitraries;
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class BooleanIntrospector implements ArbitraryIntrospector, Matcher {
-
 	@Override
 	public boolean match(Property property) {
 		return Matchers.BOOLEAN_TYPE_MATCHER.match(property);
@@ -41,10 +39,13 @@ public final class BooleanIntrospector implements ArbitraryIntrospector, Matcher
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
-		List<Boolean> booleans = Arrays.asList(true, false);
-
-		return new ArbitraryIntrospectorResult(
-			CombinableArbitrary.from(() -> booleans.get(Randoms.nextInt(2)))
-		);
+		PropertyPath uniquePropertyPath = context.getUniquePropertyPath();
+		if (uniquePropertyPath != null) {
+			return new ArbitraryIntrospectorResult(
+				CombinableArbitrary.from(() -> context.nextUnique(uniquePropertyPath, UniqueDomain.booleans()))
+			);
+		}
+
+		return new ArbitraryIntrospectorResult(PrimitiveCombinableArbitraries.booleans());
 	}
 }
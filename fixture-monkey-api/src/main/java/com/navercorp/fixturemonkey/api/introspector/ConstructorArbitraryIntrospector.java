@@ -20,8 +20,6 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -33,7 +31,8 @@ import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.type.Reflections;
+import com.navercorp.fixturemonkey.api.type.ConstructorHandle;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.6.12", status = Status.EXPERIMENTAL)
@@ -52,44 +51,30 @@ public final class ConstructorArbitraryIntrospector implements ArbitraryIntrospe
 			return ArbitraryIntrospectorResult.NOT_INTROSPECTED;
 		}
 
+		Map<ArbitraryProperty, CombinableArbitrary<?>> arbitrariesByArbitraryProperty =
+			context.getCombinableArbitrariesByArbitraryProperty();
+
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.objectBuilder()
-				.properties(context.getCombinableArbitrariesByArbitraryProperty())
+				.properties(arbitrariesByArbitraryProperty)
 				.build(
 					combine(
-						constructorWithParamNames.getConstructor(),
-						constructorWithParamNames.getParameterNames()
+						TypeCache.getConstructorHandle(constructorWithParamNames.getConstructor()),
+						ParameterSlots.of(
+							constructorWithParamNames.getParameterNames(),
+							arbitrariesByArbitraryProperty.keySet()
+						)
 					)
 				)
 		);
 	}
 
 	private static Function<Map<ArbitraryProperty, Object>, Object> combine(
-		Constructor<?> constructor,
-		List<String> parameterNames
+		ConstructorHandle constructor,
+		ParameterSlots parameterSlots
 	) {
-		int parameterSize = parameterNames.size();
-
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> valuesByResolvedName = new HashMap<>();
-
-			propertyValuesByArbitraryProperty.forEach(
-				(key, value) -> valuesByResolvedName.put(
-					key.getObjectProperty().getResolvedPropertyName(),
-					value
-				)
-			);
-
-			List<Object> list = new ArrayList<>(parameterSize);
-			for (String parameterName : parameterNames) {
-				Object combined = valuesByResolvedName.getOrDefault(
-					parameterName,
-					null
-				);
-				list.add(combined);
-			}
-			return Reflections.newInstance(constructor, list.toArray());
-		};
+		return propertyValuesByArbitraryProperty ->
+			constructor.newInstance(parameterSlots.toArguments(propertyValuesByArbitraryProperty));
 	}
 
 	public static class ConstructorWithParameterNames<T> {
@@ -20,9 +20,6 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Function;
@@ -34,7 +31,7 @@ import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.type.Reflections;
+import com.navercorp.fixturemonkey.api.type.ConstructorHandle;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -60,39 +57,26 @@ public final class ConstructorPropertiesArbitraryIntrospector implements Arbitra
 		Constructor<?> primaryConstructor = parameterNamesByConstructor.getKey();
 		String[] parameterNames = parameterNamesByConstructor.getValue();
 
+		Map<ArbitraryProperty, CombinableArbitrary<?>> arbitrariesByArbitraryProperty =
+			context.getCombinableArbitrariesByArbitraryProperty();
+
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.objectBuilder()
-				.properties(context.getCombinableArbitrariesByArbitraryProperty())
-				.build(combine(primaryConstructor, parameterNames))
+				.properties(arbitrariesByArbitraryProperty)
+				.build(
+					combine(
+						TypeCache.getConstructorHandle(primaryConstructor),
+						ParameterSlots.of(parameterNames, arbitrariesByArbitraryProperty.keySet())
+					)
+				)
 		);
 	}
 
 	private static Function<Map<ArbitraryProperty, Object>, Object> combine(
-		Constructor<?> primaryConstructor,
-		String[] parameterNames
+		ConstructorHandle primaryConstructor,
+		ParameterSlots parameterSlots
 	) {
-		int parameterSize = parameterNames.length;
-
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> valuesByResolvedName = new HashMap<>();
-
-			propertyValuesByArbitraryProperty.forEach(
-				(key, value) -> valuesByResolvedName.put(
-					key.getObjectProperty().getResolvedPropertyName(),
-					value)
-			);
-
-			List<Object> list = new ArrayList<>(parameterSize);
-
-			for (String parameterName : parameterNames) {
-				Object combined = valuesByResolvedName.getOrDefault(
-					parameterName,
-					null
-				);
-
-				list.add(combined);
-			}
-			return Reflections.newInstance(primaryConstructor, list.toArray());
-		};
+		return propertyValuesByArbitraryProperty ->
+			primaryConstructor.newInstance(parameterSlots.toArguments(propertyValuesByArbitraryProperty));
 	}
 }
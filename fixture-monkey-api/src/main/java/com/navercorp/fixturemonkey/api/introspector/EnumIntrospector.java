@@ -25,10 +25,12 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -46,7 +48,16 @@ public final class EnumIntrospector implements ArbitraryIntrospector, Matcher {
 			throw new IllegalArgumentException("Given type is not enum. type: " + type);
 		}
 
+		PropertyPath uniquePropertyPath = context.getUniquePropertyPath();
+		if (uniquePropertyPath != null) {
+			UniqueDomain<?> domain = UniqueDomain.enums(type);
+			return new ArbitraryIntrospectorResult(
+				CombinableArbitrary.from(() -> context.nextUnique(uniquePropertyPath, domain))
+			);
+		}
+
 		List<Object> enums = Arrays.asList(type.getEnumConstants());
+
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.from(() -> enums.get(Randoms.nextInt(enums.size())))
 		);
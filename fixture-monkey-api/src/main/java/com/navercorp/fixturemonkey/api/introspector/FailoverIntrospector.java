@@ -18,10 +18,15 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -31,18 +36,46 @@ import org.slf4j.LoggerFactory;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 
+/**
+ * Introspects by the given introspectors in order, the next one is used if the former one fails.
+ * <p>
+ * If it is adaptive, it remembers the introspector which succeeded for each type
+ * and introspects by it first next time.
+ * The other introspectors are introspected lazily only when it fails.
+ * <p>
+ * The failure of an introspector for a type is logged at WARN level only once,
+ * the following failures are logged at DEBUG level.
+ */
 @API(since = "0.6.0", status = Status.EXPERIMENTAL)
 public final class FailoverIntrospector implements ArbitraryIntrospector {
 	private static final Logger LOGGER = LoggerFactory.getLogger(FailoverIntrospector.class);
 
 	private final List<ArbitraryIntrospector> introspectors;
+	private final boolean adaptive;
+	private final Map<Type, Integer> succeededIndexesByType = new ConcurrentHashMap<>();
+	private final Map<Type, Map<Class<?>, AtomicLong>> failureCountsByType = new ConcurrentHashMap<>();
 
 	public FailoverIntrospector(List<ArbitraryIntrospector> introspectors) {
+		this(introspectors, false);
+	}
+
+	/**
+	 * @param introspectors the introspectors to introspect in order
+	 * @param adaptive      if true, the introspector which succeeded for the type is introspected first,
+	 *                      the others are introspected lazily when it fails
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public FailoverIntrospector(List<ArbitraryIntrospector> introspectors, boolean adaptive) {
 		this.introspectors = introspectors;
+		this.adaptive = adaptive;
 	}
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
+		if (adaptive && !introspectors.isEmpty()) {
+			return introspectAdaptively(context);
+		}
+
 		List<FailoverIntrospectorResult> results = new ArrayList<>();
 		for (ArbitraryIntrospector introspector : this.introspectors) {
 			ArbitraryIntrospectorResult result = introspector.introspect(context);
@@ -58,49 +91,27 @@ public final class FailoverIntrospector implements ArbitraryIntrospector {
 			new CombinableArbitrary() {
 				@Override
 				public Object combined() {
-					Iterator<FailoverIntrospectorResult> iterator = results.iterator();
-					FailoverIntrospectorResult result = null;
-					while (iterator.hasNext()) {
-						try {
-							result = iterator.next();
-							return result.getResult().getValue().combined();
-						} catch (Exception ex) {
-							LOGGER.warn(
-								String.format(
-									"\"%s\" is failed to introspect \"%s\" type.",
-									Objects.requireNonNull(result).getIntrospector().getClass().getSimpleName(),
-									((Class<?>)context.getResolvedProperty().getType()).getName()
-								),
-								ex
-							);
-							// omitted
-						}
-					}
-					throw new IllegalArgumentException(
-						String.format(
-							"Failed to generate type \"%s\"",
-							((Class<?>)context.getResolvedProperty().getType()).getSimpleName()
-						)
-					);
+					return generate(CombinableArbitrary::combined);
 				}
 
 				@Override
 				public Object rawValue() {
+					return generate(CombinableArbitrary::rawValue);
+				}
+
+				private Object generate(Function<CombinableArbitrary<?>, Object> generator) {
 					Iterator<FailoverIntrospectorResult> iterator = results.iterator();
-					FailoverIntrospectorResult result = null;
 					while (iterator.hasNext()) {
+						FailoverIntrospectorResult result = iterator.next();
 						try {
-							result = iterator.next();
-							return result.getResult().getValue().rawValue();
-						} catch (Exception ex) {
-							LOGGER.warn(
-								String.format(
-									"\"%s\" is failed to introspect type \"%s\"",
-									Objects.requireNonNull(result).getIntrospector().getClass().getSimpleName(),
-									((Class<?>)context.getResolvedProperty().getType()).getName()
-								),
-								ex
+							Object generated = generator.apply(result.getResult().getValue());
+							context.getGenerationListener().onIntrospected(
+								context.getResolvedProperty(),
+								result.getIntrospector()
 							);
+							return generated;
+						} catch (Exception ex) {
+							logFailure(result.getIntrospector(), context.getResolvedType(), ex);
 							// omitted
 						}
 					}
@@ -128,13 +139,176 @@ public final class FailoverIntrospector implements ArbitraryIntrospector {
 		);
 	}
 
+	private ArbitraryIntrospectorResult introspectAdaptively(ArbitraryGeneratorContext context) {
+		Type type = context.getResolvedType();
+		int succeededIndex = succeededIndexesByType.getOrDefault(type, 0);
+
+		AdaptiveCombinableArbitrary arbitrary = new AdaptiveCombinableArbitrary(context, succeededIndex);
+		if (!arbitrary.introspectNext()) {
+			return ArbitraryIntrospectorResult.NOT_INTROSPECTED;
+		}
+		return new ArbitraryIntrospectorResult(arbitrary);
+	}
+
+	private void logFailure(ArbitraryIntrospector introspector, Type type, Exception ex) {
+		long failureCount = failureCountsByType
+			.computeIfAbsent(type, it -> new ConcurrentHashMap<>())
+			.computeIfAbsent(introspector.getClass(), it -> new AtomicLong())
+			.incrementAndGet();
+
+		if (failureCount == 1) {
+			LOGGER.warn(
+				"\"{}\" is failed to introspect \"{}\" type. The following failures are logged at DEBUG level.",
+				introspector.getClass().getSimpleName(),
+				type.getTypeName(),
+				ex
+			);
+		} else if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(
+				"\"{}\" is failed to introspect \"{}\" type {} times.",
+				introspector.getClass().getSimpleName(),
+				type.getTypeName(),
+				failureCount,
+				ex
+			);
+		}
+	}
+
+	/**
+	 * Introspects by the introspector which succeeded last time first, the others are introspected lazily.
+	 * The result which succeeds is swapped to the front.
+	 */
+	@SuppressWarnings("rawtypes")
+	private final class AdaptiveCombinableArbitrary implements CombinableArbitrary {
+		private final ArbitraryGeneratorContext context;
+		private final CombinableArbitrary<?> generatedBeforeIntrospection;
+		private final int[] introspectOrder;
+		private final List<FailoverIntrospectorResult> results = new CopyOnWriteArrayList<>();
+		private int introspectedCount = 0;
+
+		private AdaptiveCombinableArbitrary(ArbitraryGeneratorContext context, int succeededIndex) {
+			this.context = context;
+			this.generatedBeforeIntrospection = context.getGenerated();
+			this.introspectOrder = new int[introspectors.size()];
+			this.introspectOrder[0] = succeededIndex;
+			int order = 1;
+			for (int i = 0; i < introspectors.size(); i++) {
+				if (i != succeededIndex) {
+					introspectOrder[order++] = i;
+				}
+			}
+		}
+
+		@Override
+		public Object combined() {
+			return generate(CombinableArbitrary::combined);
+		}
+
+		@Override
+		public Object rawValue() {
+			return generate(CombinableArbitrary::rawValue);
+		}
+
+		@Override
+		public void clear() {
+			for (FailoverIntrospectorResult result : results) {
+				result.getResult().getValue().clear();
+			}
+		}
+
+		@Override
+		public boolean fixed() {
+			return results.get(0).getResult().getValue().fixed();
+		}
+
+		/**
+		 * The generated one of the context is restored while introspecting lazily,
+		 * the introspectors like {@link BeanArbitraryIntrospector} use it as an instance to populate.
+		 */
+		private synchronized boolean introspectNext() {
+			while (introspectedCount < introspectOrder.length) {
+				int index = introspectOrder[introspectedCount++];
+				ArbitraryIntrospector introspector = introspectors.get(index);
+				ArbitraryIntrospectorResult result = introspectRestoringGenerated(introspector);
+				if (!ArbitraryIntrospectorResult.EMPTY.equals(result)) {
+					results.add(new FailoverIntrospectorResult(introspector, result, index));
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private ArbitraryIntrospectorResult introspectRestoringGenerated(ArbitraryIntrospector introspector) {
+			CombinableArbitrary<?> generated = context.getGenerated();
+			if (generated == generatedBeforeIntrospection) {
+				return introspector.introspect(context);
+			}
+
+			context.setGenerated(generatedBeforeIntrospection);
+			try {
+				return introspector.introspect(context);
+			} finally {
+				context.setGenerated(generated);
+			}
+		}
+
+		private synchronized void moveToFront(int position, FailoverIntrospectorResult result) {
+			if (results.get(position) == result) {
+				results.set(position, results.get(0));
+				results.set(0, result);
+			}
+		}
+
+		private Object generate(Function<CombinableArbitrary<?>, Object> generator) {
+			Type type = context.getResolvedType();
+			int position = 0;
+			while (position < results.size() || introspectNext()) {
+				FailoverIntrospectorResult result = results.get(position);
+				try {
+					Object generated = generator.apply(result.getResult().getValue());
+					if (position != 0) {
+						moveToFront(position, result);
+					}
+					Integer succeededIndex = succeededIndexesByType.get(type);
+					if (succeededIndex == null || succeededIndex != result.getIndex()) {
+						succeededIndexesByType.put(type, result.getIndex());
+					}
+					context.getGenerationListener().onIntrospected(
+						context.getResolvedProperty(),
+						result.getIntrospector()
+					);
+					return generated;
+				} catch (Exception ex) {
+					logFailure(result.getIntrospector(), type, ex);
+					position++;
+				}
+			}
+			throw new IllegalArgumentException(
+				String.format(
+					"Failed to generate type \"%s\"",
+					((Class<?>)context.getResolvedProperty().getType()).getSimpleName()
+				)
+			);
+		}
+	}
+
 	private static class FailoverIntrospectorResult {
 		private final ArbitraryIntrospector introspector;
 		private final ArbitraryIntrospectorResult result;
+		private final int index;
 
 		public FailoverIntrospectorResult(ArbitraryIntrospector introspector, ArbitraryIntrospectorResult result) {
+			this(introspector, result, -1);
+		}
+
+		public FailoverIntrospectorResult(
+			ArbitraryIntrospector introspector,
+			ArbitraryIntrospectorResult result,
+			int index
+		) {
 			this.introspector = introspector;
 			this.result = result;
+			this.index = index;
 		}
 
 		public ArbitraryIntrospector getIntrospector() {
@@ -144,5 +318,9 @@ public final class FailoverIntrospector implements ArbitraryIntrospector {
 		public ArbitraryIntrospectorResult getResult() {
 			return result;
 		}
+
+		public int getIndex() {
+			return index;
+		}
 	}
 }
@@ -17,8 +17,9 @@
  */
 package com.navercorp.fixturemonkey.api.introspector;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -33,7 +34,6 @@ import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitraryDelegator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.type.Reflections;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -55,50 +55,65 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 
 		CombinableArbitrary<?> generated = context.getGenerated();
 		if (generated == CombinableArbitrary.NOT_GENERATED) {
-			generated = CombinableArbitrary.from(() -> Reflections.newInstance(type));
+			generated = CombinableArbitrary.from(() -> TypeCache.getNoArgsConstructorHandle(type).newInstance());
+		}
+
+		Map<String, MethodHandle> settersByPropertyName = TypeCache.getFieldSettersByName(type);
+		Map<ArbitraryProperty, MethodHandle> settersByArbitraryProperty = new IdentityHashMap<>();
+		for (ArbitraryProperty arbitraryProperty : arbitrariesByArbitraryProperty.keySet()) {
+			String propertyName = arbitraryProperty.getObjectProperty().getProperty().getName();
+			MethodHandle setter = settersByPropertyName.get(propertyName);
+			if (setter != null) {
+				settersByArbitraryProperty.put(arbitraryProperty, setter);
+			}
 		}
 
-		Map<String, Field> fieldsByPropertyName = TypeCache.getFieldsByName(type);
 		return new ArbitraryIntrospectorResult(
 			new CombinableArbitraryDelegator<>(
 				CombinableArbitrary.objectBuilder()
 					.properties(arbitrariesByArbitraryProperty)
-					.build(combine(generated::combined, fieldsByPropertyName))
+					.build(combine(generated::combined, settersByArbitraryProperty, settersByPropertyName))
 			)
 		);
 	}
 
 	private Function<Map<ArbitraryProperty, Object>, Object> combine(
 		Supplier<Object> instance,
-		Map<String, Field> fieldsByPropertyName
+		Map<ArbitraryProperty, MethodHandle> settersByArbitraryProperty,
+		Map<String, MethodHandle> settersByPropertyName
 	) {
 		return propertyValuesByArbitraryProperty -> {
 			Object object = instance.get();
 			propertyValuesByArbitraryProperty.forEach(
 				(arbitraryProperty, value) -> {
-					Property property = arbitraryProperty.getObjectProperty().getProperty();
-					String originPropertyName = property.getName();
-					Field field = fieldsByPropertyName.get(originPropertyName);
-
-					if (field == null
-						|| (Modifier.isFinal(field.getModifiers()) && Modifier.isStatic(field.getModifiers()))
-						|| Modifier.isTransient(field.getModifiers())) {
+					if (value == null) {
 						return;
 					}
 
-					String resolvePropertyName =
-						arbitraryProperty.getObjectProperty().getResolvedPropertyName();
+					MethodHandle setter = settersByArbitraryProperty.get(arbitraryProperty);
+					if (setter == null) {
+						Property property = arbitraryProperty.getObjectProperty().getProperty();
+						setter = settersByPropertyName.get(property.getName());
+					}
+
+					if (setter == null) {
+						return;
+					}
 
 					try {
-						if (value != null) {
-							field.set(object, value);
-						}
-					} catch (IllegalAccessException | IllegalArgumentException ex) {
+						setter.invokeExact(object, value);
+					} catch (ClassCastException ex) {
+						// a type mismatch, Field#set throws IllegalArgumentException for it
 						log.warn("set field by reflection is failed. field: {} value: {}",
-							resolvePropertyName,
+							arbitraryProperty.getObjectProperty().getResolvedPropertyName(),
 							value,
 							ex
 						);
+					} catch (RuntimeException | Error ex) {
+						throw ex;
+					} catch (Throwable ex) {
+						// a field setter throws no checked exception
+						throw new IllegalStateException(ex);
 					}
 				});
 
@@ -0,0 +1,92 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+
+/**
+ * Places the combined values of child properties into the argument slots of a constructor.
+ * The slot of each {@link ArbitraryProperty} is resolved once when introspecting,
+ * so combining does not need to match the parameter names for every generated instance.
+ */
+final class ParameterSlots {
+	private static final int NOT_PARAMETER = -1;
+
+	private final int size;
+	private final Map<String, Integer> indexesByParameterName;
+	private final Map<ArbitraryProperty, Integer> indexesByArbitraryProperty;
+
+	private ParameterSlots(
+		int size,
+		Map<String, Integer> indexesByParameterName,
+		Map<ArbitraryProperty, Integer> indexesByArbitraryProperty
+	) {
+		this.size = size;
+		this.indexesByParameterName = indexesByParameterName;
+		this.indexesByArbitraryProperty = indexesByArbitraryProperty;
+	}
+
+	static ParameterSlots of(String[] parameterNames, Collection<ArbitraryProperty> arbitraryProperties) {
+		return of(Arrays.asList(parameterNames), arbitraryProperties);
+	}
+
+	static ParameterSlots of(List<String> parameterNames, Collection<ArbitraryProperty> arbitraryProperties) {
+		Map<String, Integer> indexesByParameterName = new HashMap<>();
+		for (int i = 0; i < parameterNames.size(); i++) {
+			indexesByParameterName.put(parameterNames.get(i), i);
+		}
+
+		Map<ArbitraryProperty, Integer> indexesByArbitraryProperty = new IdentityHashMap<>();
+		for (ArbitraryProperty arbitraryProperty : arbitraryProperties) {
+			indexesByArbitraryProperty.put(
+				arbitraryProperty,
+				indexesByParameterName.getOrDefault(
+					arbitraryProperty.getObjectProperty().getResolvedPropertyName(),
+					NOT_PARAMETER
+				)
+			);
+		}
+		return new ParameterSlots(parameterNames.size(), indexesByParameterName, indexesByArbitraryProperty);
+	}
+
+	Object[] toArguments(Map<ArbitraryProperty, Object> valuesByArbitraryProperty) {
+		Object[] arguments = new Object[size];
+		valuesByArbitraryProperty.forEach((arbitraryProperty, value) -> {
+			Integer index = indexesByArbitraryProperty.get(arbitraryProperty);
+			if (index == null) {
+				index = indexesByParameterName.getOrDefault(
+					arbitraryProperty.getObjectProperty().getResolvedPropertyName(),
+					NOT_PARAMETER
+				);
+			}
+
+			if (index != NOT_PARAMETER) {
+				arguments[index] = value;
+			}
+		});
+		return arguments;
+	}
+}
@@ -18,24 +18,148 @@
 
 package com.navercorp.fixturemonkey.api.jqwik;
 
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
+import net.jqwik.api.JqwikException;
+import net.jqwik.api.RandomGenerator;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 
 @API(since = "0.6.9", status = Status.EXPERIMENTAL)
 public final class ArbitraryUtils {
+	/**
+	 * The genSize jqwik uses for sampling.
+	 * The values generated by it follow the same distribution as {@link Arbitrary#sample()}.
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static final int DEFAULT_GEN_SIZE = 1000;
+
+	private static final Object SAMPLE_LOCK = new Object();
+	private static final ConcurrentClockCache<GeneratorKey, RandomGenerator<?>> GENERATORS =
+		new ConcurrentClockCache<>(2048);
+
+	private ArbitraryUtils() {
+	}
+
 	public static <T> CombinableArbitrary<T> toCombinableArbitrary(Arbitrary<T> arbitrary) {
-		return CombinableArbitrary.from(LazyArbitrary.lazy(
-			() -> {
-				if (arbitrary != null) {
-					return arbitrary.sample();
-				}
-				return null;
+		return toCombinableArbitrary(arbitrary, DEFAULT_GEN_SIZE);
+	}
+
+	/**
+	 * Converts the given {@link Arbitrary} into a {@link CombinableArbitrary}.
+	 * It generates a value by a {@link RandomGenerator} of the arbitrary with the random source of the calling thread,
+	 * the generator is created once per arbitrary and genSize. The shrinkable generated would be unwrapped at once.
+	 *
+	 * @param arbitrary the arbitrary to generate a value
+	 * @param genSize   the genSize of the {@link RandomGenerator}
+	 * @return a {@link CombinableArbitrary} generates a value of given arbitrary
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static <T> CombinableArbitrary<T> toCombinableArbitrary(@Nullable Arbitrary<T> arbitrary, int genSize) {
+		if (arbitrary == null) {
+			return CombinableArbitrary.from(LazyArbitrary.lazy(() -> null));
+		}
+
+		return CombinableArbitrary.from(LazyArbitrary.lazy(new RandomGeneratorSupplier<>(arbitrary, genSize)));
+	}
+
+	/**
+	 * Samples a value from the given {@link Arbitrary}.
+	 * jqwik caches the generators used for sampling in a static map which is not thread-safe,
+	 * it makes sampling from multiple threads safe. The value depends on the random source of the calling thread.
+	 *
+	 * @param arbitrary the arbitrary to sample
+	 * @return a sampled value
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static <T> T sample(Arbitrary<T> arbitrary) {
+		synchronized (SAMPLE_LOCK) {
+			return arbitrary.sample();
+		}
+	}
+
+	/**
+	 * Creates the {@link RandomGenerator} of given arbitrary.
+	 * It is created within the context jqwik uses for sampling, since the generators are memoized in it.
+	 * Creating it draws nothing from the random source, a seeded generation stays the same as sampling.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> RandomGenerator<T> getGenerator(Arbitrary<T> arbitrary, int genSize) {
+		return (RandomGenerator<T>)GENERATORS.computeIfAbsent(
+			new GeneratorKey(arbitrary, genSize),
+			key -> sample(Arbitraries.create(() -> arbitrary.generator(genSize, true)).withoutEdgeCases())
+		);
+	}
+
+	private static final class RandomGeneratorSupplier<T> implements Supplier<T> {
+		private final Arbitrary<T> arbitrary;
+		private final int genSize;
+		@Nullable
+		private volatile RandomGenerator<T> generator;
+		private volatile boolean sampleOnly = false;
+
+		private RandomGeneratorSupplier(Arbitrary<T> arbitrary, int genSize) {
+			this.arbitrary = arbitrary;
+			this.genSize = genSize;
+		}
+
+		@Override
+		public T get() {
+			if (sampleOnly) {
+				return sample(arbitrary);
+			}
+
+			RandomGenerator<T> generator = this.generator;
+			if (generator == null) {
+				generator = getGenerator(arbitrary, genSize);
+				this.generator = generator;
+			}
+
+			try {
+				return generator.next(Randoms.current()).value();
+			} catch (JqwikException ex) {
+				// some generators are only available within the context of jqwik, such as flatMapped ones.
+				sampleOnly = true;
+				return sample(arbitrary);
 			}
-		));
+		}
+	}
+
+	private static final class GeneratorKey {
+		private final Arbitrary<?> arbitrary;
+		private final int genSize;
+
+		private GeneratorKey(Arbitrary<?> arbitrary, int genSize) {
+			this.arbitrary = arbitrary;
+			this.genSize = genSize;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			GeneratorKey that = (GeneratorKey)obj;
+			return genSize == that.genSize && arbitrary.equals(that.arbitrary);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(arbitrary, genSize);
+		}
 	}
 }
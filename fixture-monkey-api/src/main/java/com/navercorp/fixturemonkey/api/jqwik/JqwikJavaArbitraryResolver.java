@@ -18,11 +18,8 @@
 
 package com.navercorp.fixturemonkey.api.jqwik;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.List;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -48,8 +45,10 @@ import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
 import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
 import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
 import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint.PatternConstraint;
+import com.navercorp.fixturemonkey.api.constraint.PushdownJavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
+import com.navercorp.fixturemonkey.api.random.CompiledRegex;
 import com.navercorp.fixturemonkey.api.random.RegexGenerator;
 
 @API(since = "0.6.9", status = Status.EXPERIMENTAL)
@@ -58,7 +57,7 @@ public final class JqwikJavaArbitraryResolver implements JavaArbitraryResolver {
 	private final JavaConstraintGenerator constraintGenerator;
 
 	public JqwikJavaArbitraryResolver(JavaConstraintGenerator constraintGenerator) {
-		this.constraintGenerator = constraintGenerator;
+		this.constraintGenerator = new PushdownJavaConstraintGenerator(constraintGenerator);
 	}
 
 	@Override
@@ -82,19 +81,18 @@ public final class JqwikJavaArbitraryResolver implements JavaArbitraryResolver {
 		if (pattern != null) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(
+			CompiledRegex compiledRegex = REGEX_GENERATOR.compile(
 				pattern.getRegexp(),
 				pattern.getFlags(),
 				minValue,
 				maxValue
 			);
+			Arbitrary<String> patternArbitrary = Arbitraries.randomValue(compiledRegex::sample);
 			if (notBlank) {
-				values = values.stream()
-					.filter(it -> it != null && !it.trim().isEmpty())
-					.collect(toList());
+				patternArbitrary = patternArbitrary.filter(it -> it != null && !it.trim().isEmpty());
 			}
 
-			return Arbitraries.of(values);
+			return patternArbitrary;
 		}
 
 		if (email) {
@@ -51,114 +51,158 @@ import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerat
 public final class JqwikJavaTimeArbitraryGeneratorSet implements JavaTimeArbitraryGeneratorSet {
 	private final JavaTimeTypeArbitraryGenerator arbitraryGenerator;
 	private final JavaTimeArbitraryResolver arbitraryResolver;
+	private final int genSize;
 
 	public JqwikJavaTimeArbitraryGeneratorSet(
 		JavaTimeTypeArbitraryGenerator arbitraryGenerator,
 		JavaTimeArbitraryResolver arbitraryResolver
+	) {
+		this(arbitraryGenerator, arbitraryResolver, ArbitraryUtils.DEFAULT_GEN_SIZE);
+	}
+
+	/**
+	 * Creates a set which generates the values by the jqwik generators of given genSize.
+	 *
+	 * @param arbitraryGenerator the generator of the jqwik arbitraries
+	 * @param arbitraryResolver  the resolver which applies the constraints to the jqwik arbitraries
+	 * @param genSize            the genSize of the jqwik generators, {@link ArbitraryUtils#DEFAULT_GEN_SIZE} by default
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public JqwikJavaTimeArbitraryGeneratorSet(
+		JavaTimeTypeArbitraryGenerator arbitraryGenerator,
+		JavaTimeArbitraryResolver arbitraryResolver,
+		int genSize
 	) {
 		this.arbitraryGenerator = arbitraryGenerator;
 		this.arbitraryResolver = arbitraryResolver;
+		this.genSize = genSize;
 	}
 
 	@Override
 	public CombinableArbitrary<Calendar> calendars(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.calendars(arbitraryGenerator.calendars(), context)
+			arbitraryResolver.calendars(arbitraryGenerator.calendars(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<Date> dates(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.dates(arbitraryGenerator.dates(), context));
+		return ArbitraryUtils.toCombinableArbitrary(
+			arbitraryResolver.dates(arbitraryGenerator.dates(), context),
+			genSize
+		);
 	}
 
 	@Override
 	public CombinableArbitrary<Instant> instants(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.instants(arbitraryGenerator.instants(), context));
+		return ArbitraryUtils.toCombinableArbitrary(
+			arbitraryResolver.instants(arbitraryGenerator.instants(), context),
+			genSize
+		);
 	}
 
 	@Override
 	public CombinableArbitrary<LocalDate> localDates(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.localDates(arbitraryGenerator.localDates(), context)
+			arbitraryResolver.localDates(arbitraryGenerator.localDates(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<LocalDateTime> localDateTimes(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.localDateTimes(arbitraryGenerator.localDateTimes(), context)
+			arbitraryResolver.localDateTimes(arbitraryGenerator.localDateTimes(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<LocalTime> localTimes(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.localTimes(arbitraryGenerator.localTimes(), context)
+			arbitraryResolver.localTimes(arbitraryGenerator.localTimes(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<ZonedDateTime> zonedDateTimes(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.zonedDateTimes(arbitraryGenerator.zonedDateTimes(), context)
+			arbitraryResolver.zonedDateTimes(arbitraryGenerator.zonedDateTimes(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<MonthDay> monthDays(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.monthDays(arbitraryGenerator.monthDays(), context)
+			arbitraryResolver.monthDays(arbitraryGenerator.monthDays(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<OffsetDateTime> offsetDateTimes(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.offsetDateTimes(arbitraryGenerator.offsetDateTimes(), context)
+			arbitraryResolver.offsetDateTimes(arbitraryGenerator.offsetDateTimes(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<OffsetTime> offsetTimes(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.offsetTimes(arbitraryGenerator.offsetTimes(), context)
+			arbitraryResolver.offsetTimes(arbitraryGenerator.offsetTimes(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<Period> periods(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.periods(arbitraryGenerator.periods(), context));
+		return ArbitraryUtils.toCombinableArbitrary(
+			arbitraryResolver.periods(arbitraryGenerator.periods(), context),
+			genSize
+		);
 	}
 
 	@Override
 	public CombinableArbitrary<Duration> durations(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.durations(arbitraryGenerator.durations(), context)
+			arbitraryResolver.durations(arbitraryGenerator.durations(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<Year> years(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.years(arbitraryGenerator.years(), context));
+		return ArbitraryUtils.toCombinableArbitrary(
+			arbitraryResolver.years(arbitraryGenerator.years(), context),
+			genSize
+		);
 	}
 
 	@Override
 	public CombinableArbitrary<YearMonth> yearMonths(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.yearMonths(arbitraryGenerator.yearMonths(), context)
+			arbitraryResolver.yearMonths(arbitraryGenerator.yearMonths(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<ZoneOffset> zoneOffsets(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.zoneOffsets(arbitraryGenerator.zoneOffsets(), context)
+			arbitraryResolver.zoneOffsets(arbitraryGenerator.zoneOffsets(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<ZoneId> zoneIds(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.zoneIds(arbitraryGenerator.zoneId(), context));
+		return ArbitraryUtils.toCombinableArbitrary(
+			arbitraryResolver.zoneIds(arbitraryGenerator.zoneId(), context),
+			genSize
+		);
 	}
 }
@@ -20,85 +20,323 @@ package com.navercorp.fixturemonkey.api.jqwik;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.arbitraries.ByteArbitrary;
+import net.jqwik.api.arbitraries.DoubleArbitrary;
+import net.jqwik.api.arbitraries.FloatArbitrary;
+import net.jqwik.api.arbitraries.IntegerArbitrary;
+import net.jqwik.api.arbitraries.LongArbitrary;
+import net.jqwik.api.arbitraries.ShortArbitrary;
+import net.jqwik.api.arbitraries.StringArbitrary;
+
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.arbitrary.JavaTypeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.arbitrary.PrimitiveCombinableArbitraries;
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain;
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.PushdownJavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
 
 /**
  * It would be moved into jqwik module in 0.7.0.
  */
 @API(since = "0.6.3", status = Status.EXPERIMENTAL)
 public final class JqwikJavaTypeArbitraryGeneratorSet implements JavaTypeArbitraryGeneratorSet {
+	private static final ShortArbitrary DEFAULT_SHORTS = Arbitraries.shorts();
+	private static final ByteArbitrary DEFAULT_BYTES = Arbitraries.bytes();
+	private static final DoubleArbitrary DEFAULT_DOUBLES = Arbitraries.doubles();
+	private static final FloatArbitrary DEFAULT_FLOATS = Arbitraries.floats();
+	private static final IntegerArbitrary DEFAULT_INTEGERS = Arbitraries.integers();
+	private static final LongArbitrary DEFAULT_LONGS = Arbitraries.longs();
+
 	private final JavaTypeArbitraryGenerator arbitraryGenerator;
 	private final JavaArbitraryResolver arbitraryResolver;
+	private final int genSize;
+	@Nullable
+	private final JavaConstraintGenerator constraintGenerator;
 
 	public JqwikJavaTypeArbitraryGeneratorSet(
 		JavaTypeArbitraryGenerator arbitraryGenerator,
 		JavaArbitraryResolver arbitraryResolver
+	) {
+		this(arbitraryGenerator, arbitraryResolver, ArbitraryUtils.DEFAULT_GEN_SIZE);
+	}
+
+	/**
+	 * Creates a set which generates the values by the jqwik generators of given genSize.
+	 *
+	 * @param arbitraryGenerator the generator of the jqwik arbitraries
+	 * @param arbitraryResolver  the resolver which applies the constraints to the jqwik arbitraries
+	 * @param genSize            the genSize of the jqwik generators, {@link ArbitraryUtils#DEFAULT_GEN_SIZE} by default
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public JqwikJavaTypeArbitraryGeneratorSet(
+		JavaTypeArbitraryGenerator arbitraryGenerator,
+		JavaArbitraryResolver arbitraryResolver,
+		int genSize
+	) {
+		this.arbitraryGenerator = arbitraryGenerator;
+		this.arbitraryResolver = arbitraryResolver;
+		this.genSize = genSize;
+		this.constraintGenerator = null;
+	}
+
+	/**
+	 * Creates a set which generates the unique values of Set elements and Map keys without retrying.
+	 * The integral values are drawn from a permutation of the range of the constraint,
+	 * the given constraintGenerator should generate the same constraint as the arbitraryResolver applies.
+	 * The unconstrained strings are suffixed by a sequence.
+	 *
+	 * @param arbitraryGenerator  the generator of the jqwik arbitraries
+	 * @param arbitraryResolver   the resolver which applies the constraints to the jqwik arbitraries
+	 * @param genSize             the genSize of the jqwik generators
+	 * @param constraintGenerator the generator of the constraints applied by the arbitraryResolver
+	 * @see ArbitraryGeneratorContext#getUniquePropertyPath()
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public JqwikJavaTypeArbitraryGeneratorSet(
+		JavaTypeArbitraryGenerator arbitraryGenerator,
+		JavaArbitraryResolver arbitraryResolver,
+		int genSize,
+		JavaConstraintGenerator constraintGenerator
 	) {
 		this.arbitraryGenerator = arbitraryGenerator;
 		this.arbitraryResolver = arbitraryResolver;
+		this.genSize = genSize;
+		this.constraintGenerator = new PushdownJavaConstraintGenerator(constraintGenerator);
 	}
 
 	@Override
 	public CombinableArbitrary<String> strings(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.strings(arbitraryGenerator.strings(), context));
+		StringArbitrary stringArbitrary = arbitraryGenerator.strings();
+		Arbitrary<String> resolved = arbitraryResolver.strings(stringArbitrary, context);
+		CombinableArbitrary<String> combinableArbitrary = ArbitraryUtils.toCombinableArbitrary(resolved, genSize);
+		PropertyPath uniquePropertyPath = context.getUniquePropertyPath();
+		if (uniquePropertyPath != null && constraintGenerator != null && resolved == stringArbitrary) {
+			return CombinableArbitrary.from(
+				() -> context.nextUnique(uniquePropertyPath, UniqueDomain.strings(combinableArbitrary.combined()))
+			);
+		}
+		return combinableArbitrary;
 	}
 
 	@Override
 	public CombinableArbitrary<Character> characters(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.characters(arbitraryGenerator.characters(), context)
+			arbitraryResolver.characters(arbitraryGenerator.characters(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<Short> shorts(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.shorts(arbitraryGenerator.shorts(), context));
+		ShortArbitrary shortArbitrary = arbitraryGenerator.shorts();
+		CombinableArbitrary<Short> unique = uniqueIntegers(
+			context,
+			shortArbitrary,
+			DEFAULT_SHORTS,
+			Short.MIN_VALUE,
+			Short.MAX_VALUE,
+			(min, max) -> UniqueDomain.shorts(min.shortValue(), max.shortValue())
+		);
+		if (unique != null) {
+			return unique;
+		}
+
+		Arbitrary<Short> resolved = arbitraryResolver.shorts(shortArbitrary, context);
+		if (isUnconstrainedDefault(shortArbitrary, resolved, DEFAULT_SHORTS)) {
+			return PrimitiveCombinableArbitraries.shorts(genSize);
+		}
+		return ArbitraryUtils.toCombinableArbitrary(resolved, genSize);
 	}
 
 	@Override
 	public CombinableArbitrary<Byte> bytes(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.bytes(arbitraryGenerator.bytes(), context));
+		ByteArbitrary byteArbitrary = arbitraryGenerator.bytes();
+		CombinableArbitrary<Byte> unique = uniqueIntegers(
+			context,
+			byteArbitrary,
+			DEFAULT_BYTES,
+			Byte.MIN_VALUE,
+			Byte.MAX_VALUE,
+			(min, max) -> UniqueDomain.bytes(min.byteValue(), max.byteValue())
+		);
+		if (unique != null) {
+			return unique;
+		}
+
+		Arbitrary<Byte> resolved = arbitraryResolver.bytes(byteArbitrary, context);
+		if (isUnconstrainedDefault(byteArbitrary, resolved, DEFAULT_BYTES)) {
+			return PrimitiveCombinableArbitraries.bytes(genSize);
+		}
+		return ArbitraryUtils.toCombinableArbitrary(resolved, genSize);
 	}
 
 	@Override
 	public CombinableArbitrary<Double> doubles(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.doubles(arbitraryGenerator.doubles(), context));
+		DoubleArbitrary doubleArbitrary = arbitraryGenerator.doubles();
+		Arbitrary<Double> resolved = arbitraryResolver.doubles(doubleArbitrary, context);
+		if (isUnconstrainedDefault(doubleArbitrary, resolved, DEFAULT_DOUBLES)) {
+			return PrimitiveCombinableArbitraries.doubles(genSize);
+		}
+		return ArbitraryUtils.toCombinableArbitrary(resolved, genSize);
 	}
 
 	@Override
 	public CombinableArbitrary<Float> floats(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.floats(arbitraryGenerator.floats(), context));
+		FloatArbitrary floatArbitrary = arbitraryGenerator.floats();
+		Arbitrary<Float> resolved = arbitraryResolver.floats(floatArbitrary, context);
+		if (isUnconstrainedDefault(floatArbitrary, resolved, DEFAULT_FLOATS)) {
+			return PrimitiveCombinableArbitraries.floats(genSize);
+		}
+		return ArbitraryUtils.toCombinableArbitrary(resolved, genSize);
 	}
 
 	@Override
 	public CombinableArbitrary<Integer> integers(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.integers(arbitraryGenerator.integers(), context));
+		IntegerArbitrary integerArbitrary = arbitraryGenerator.integers();
+		CombinableArbitrary<Integer> unique = uniqueIntegers(
+			context,
+			integerArbitrary,
+			DEFAULT_INTEGERS,
+			Integer.MIN_VALUE,
+			Integer.MAX_VALUE,
+			(min, max) -> UniqueDomain.integers(min.intValue(), max.intValue())
+		);
+		if (unique != null) {
+			return unique;
+		}
+
+		Arbitrary<Integer> resolved = arbitraryResolver.integers(integerArbitrary, context);
+		if (isUnconstrainedDefault(integerArbitrary, resolved, DEFAULT_INTEGERS)) {
+			return PrimitiveCombinableArbitraries.integers(genSize);
+		}
+		return ArbitraryUtils.toCombinableArbitrary(resolved, genSize);
 	}
 
 	@Override
 	public CombinableArbitrary<Long> longs(ArbitraryGeneratorContext context) {
-		return ArbitraryUtils.toCombinableArbitrary(arbitraryResolver.longs(arbitraryGenerator.longs(), context));
+		LongArbitrary longArbitrary = arbitraryGenerator.longs();
+		CombinableArbitrary<Long> unique = uniqueIntegers(
+			context,
+			longArbitrary,
+			DEFAULT_LONGS,
+			Long.MIN_VALUE,
+			Long.MAX_VALUE,
+			UniqueDomain::longs
+		);
+		if (unique != null) {
+			return unique;
+		}
+
+		Arbitrary<Long> resolved = arbitraryResolver.longs(longArbitrary, context);
+		if (isUnconstrainedDefault(longArbitrary, resolved, DEFAULT_LONGS)) {
+			return PrimitiveCombinableArbitraries.longs(genSize);
+		}
+		return ArbitraryUtils.toCombinableArbitrary(resolved, genSize);
 	}
 
 	@Override
 	public CombinableArbitrary<BigInteger> bigIntegers(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.bigIntegers(arbitraryGenerator.bigIntegers(), context)
+			arbitraryResolver.bigIntegers(arbitraryGenerator.bigIntegers(), context),
+			genSize
 		);
 	}
 
 	@Override
 	public CombinableArbitrary<BigDecimal> bigDecimals(ArbitraryGeneratorContext context) {
 		return ArbitraryUtils.toCombinableArbitrary(
-			arbitraryResolver.bigDecimals(arbitraryGenerator.bigDecimals(), context)
+			arbitraryResolver.bigDecimals(arbitraryGenerator.bigDecimals(), context),
+			genSize
 		);
 	}
+
+	/**
+	 * Generates the unique values of the range of the integer constraint by a permutation,
+	 * only if the arbitrary is the default one which has the range of the type.
+	 * Returns null if the constraint has two disjoint ranges, the values would be filtered to be unique then.
+	 */
+	@Nullable
+	private <T> CombinableArbitrary<T> uniqueIntegers(
+		ArbitraryGeneratorContext context,
+		Arbitrary<T> arbitrary,
+		Arbitrary<T> defaultArbitrary,
+		long typeMin,
+		long typeMax,
+		BiFunction<Long, Long, UniqueDomain<T>> toDomain
+	) {
+		PropertyPath uniquePropertyPath = context.getUniquePropertyPath();
+		if (uniquePropertyPath == null || constraintGenerator == null || !defaultArbitrary.equals(arbitrary)) {
+			return null;
+		}
+
+		BigInteger min = BigInteger.valueOf(typeMin);
+		BigInteger max = BigInteger.valueOf(typeMax);
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		if (constraint != null) {
+			boolean positive = constraint.getPositiveMin() != null || constraint.getPositiveMax() != null;
+			boolean negative = constraint.getNegativeMin() != null || constraint.getNegativeMax() != null;
+			BigInteger positiveMin = clamp(constraint.getPositiveMin(), min, max, min);
+			BigInteger positiveMax = clamp(constraint.getPositiveMax(), min, max, max);
+			BigInteger negativeMin = clamp(constraint.getNegativeMin(), min, max, min);
+			BigInteger negativeMax = clamp(constraint.getNegativeMax(), min, max, max);
+			if (positive && negative) {
+				if (positiveMin.max(negativeMin).compareTo(positiveMax.min(negativeMax).add(BigInteger.ONE)) > 0) {
+					return null;
+				}
+				min = positiveMin.min(negativeMin);
+				max = positiveMax.max(negativeMax);
+			} else if (positive) {
+				min = positiveMin;
+				max = positiveMax;
+			} else if (negative) {
+				min = negativeMin;
+				max = negativeMax;
+			}
+		}
+
+		if (min.compareTo(max) > 0) {
+			return null;
+		}
+
+		UniqueDomain<T> domain = toDomain.apply(min.longValueExact(), max.longValueExact());
+		return CombinableArbitrary.from(() -> context.nextUnique(uniquePropertyPath, domain));
+	}
+
+	private static BigInteger clamp(
+		@Nullable BigInteger value,
+		BigInteger min,
+		BigInteger max,
+		BigInteger defaultValue
+	) {
+		if (value == null) {
+			return defaultValue;
+		}
+		return value.max(min).min(max);
+	}
+
+	/**
+	 * The resolver returns the given arbitrary as it is if no constraint is generated.
+	 * A default arbitrary without any constraints could be generated by {@link PrimitiveCombinableArbitraries}.
+	 */
+	private static boolean isUnconstrainedDefault(
+		Arbitrary<?> arbitrary,
+		Arbitrary<?> resolved,
+		Arbitrary<?> defaultArbitrary
+	) {
+		return resolved == arbitrary && defaultArbitrary.equals(arbitrary);
+	}
 }
@@ -0,0 +1,67 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A snapshot of the statistics of a cache.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class CacheStatistics {
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+	public CacheStatistics(long hitCount, long missCount, long evictionCount) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the ratio of hits to requests, 0 if there is no request
+	 */
+	public double getHitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0 : (double)hitCount / requestCount;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStatistics{"
+			+ "hitCount=" + hitCount
+			+ ", missCount=" + missCount
+			+ ", evictionCount=" + evictionCount
+			+ '}';
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+
+/**
+ * Listens to the events while generating an object, it is used for finding where the generation time goes.
+ * It is called in the generating thread, the implementation should be thread-safe and lightweight.
+ * Every method does nothing by default.
+ *
+ * @see InMemoryGenerationRecorder
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public interface GenerationListener {
+	GenerationListener NOOP = new GenerationListener() {
+	};
+
+	/**
+	 * Called when the tree of the root property is traversed.
+	 *
+	 * @param rootProperty the root property to generate
+	 * @param nodeCount    the number of nodes of the traversed tree
+	 * @param elapsedNanos the elapsed time of traversing
+	 */
+	default void onTraversed(RootProperty rootProperty, int nodeCount, long elapsedNanos) {
+	}
+
+	/**
+	 * Called when the manipulators are applied to the traversed tree.
+	 *
+	 * @param rootProperty     the root property to generate
+	 * @param manipulatorCount the number of manipulators applied
+	 * @param eliminatedCount  the number of manipulators eliminated by the optimizer
+	 * @param elapsedNanos     the elapsed time of optimizing and applying the manipulators
+	 */
+	default void onManipulated(
+		RootProperty rootProperty,
+		int manipulatorCount,
+		int eliminatedCount,
+		long elapsedNanos
+	) {
+	}
+
+	/**
+	 * Called when an object of the root property is generated.
+	 *
+	 * @param rootProperty the root property to generate
+	 * @param elapsedNanos the elapsed time of generating including the retries
+	 */
+	default void onGenerated(RootProperty rootProperty, long elapsedNanos) {
+	}
+
+	/**
+	 * Called when the generation of the root property is retried.
+	 *
+	 * @param rootProperty the root property to generate
+	 * @param cause        the reason of retrying, for example a filter miss
+	 */
+	default void onRetried(RootProperty rootProperty, Exception cause) {
+	}
+
+	/**
+	 * Called when the generated value of the property does not satisfy its filter.
+	 *
+	 * @param property the property filtered
+	 */
+	default void onFilterMissed(Property property) {
+	}
+
+	/**
+	 * Called when the generated object of the root property fails the validation.
+	 *
+	 * @param rootProperty the root property to generate
+	 * @param cause        the validation failure
+	 */
+	default void onValidationFailed(RootProperty rootProperty, Exception cause) {
+	}
+
+	/**
+	 * Called when the introspector is selected to generate the property, for example by a failover.
+	 *
+	 * @param property     the property to generate
+	 * @param introspector the selected introspector
+	 */
+	default void onIntrospected(Property property, ArbitraryIntrospector introspector) {
+	}
+
+	/**
+	 * Called with the cumulative statistics of the cache after a tree is traversed.
+	 *
+	 * @param cacheName  the name of the cache
+	 * @param statistics the cumulative statistics of the cache
+	 */
+	default void onCacheStatistics(String cacheName, CacheStatistics statistics) {
+	}
+}
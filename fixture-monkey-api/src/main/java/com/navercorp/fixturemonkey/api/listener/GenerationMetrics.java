@@ -0,0 +1,129 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import java.lang.reflect.Type;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A snapshot of the metrics of generating a type recorded by {@link InMemoryGenerationRecorder}.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class GenerationMetrics {
+	private final Type type;
+	private final long traversalCount;
+	private final long nodeCount;
+	private final long traversalNanos;
+	private final long manipulatorCount;
+	private final long eliminatedManipulatorCount;
+	private final long manipulationNanos;
+	private final long generationCount;
+	private final long generationNanos;
+	private final long retryCount;
+	private final long validationFailureCount;
+
+	public GenerationMetrics(
+		Type type,
+		long traversalCount,
+		long nodeCount,
+		long traversalNanos,
+		long manipulatorCount,
+		long eliminatedManipulatorCount,
+		long manipulationNanos,
+		long generationCount,
+		long generationNanos,
+		long retryCount,
+		long validationFailureCount
+	) {
+		this.type = type;
+		this.traversalCount = traversalCount;
+		this.nodeCount = nodeCount;
+		this.traversalNanos = traversalNanos;
+		this.manipulatorCount = manipulatorCount;
+		this.eliminatedManipulatorCount = eliminatedManipulatorCount;
+		this.manipulationNanos = manipulationNanos;
+		this.generationCount = generationCount;
+		this.generationNanos = generationNanos;
+		this.retryCount = retryCount;
+		this.validationFailureCount = validationFailureCount;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public long getTraversalCount() {
+		return traversalCount;
+	}
+
+	public long getNodeCount() {
+		return nodeCount;
+	}
+
+	public long getTraversalNanos() {
+		return traversalNanos;
+	}
+
+	public long getManipulatorCount() {
+		return manipulatorCount;
+	}
+
+	public long getEliminatedManipulatorCount() {
+		return eliminatedManipulatorCount;
+	}
+
+	public long getManipulationNanos() {
+		return manipulationNanos;
+	}
+
+	public long getGenerationCount() {
+		return generationCount;
+	}
+
+	public long getGenerationNanos() {
+		return generationNanos;
+	}
+
+	public long getRetryCount() {
+		return retryCount;
+	}
+
+	public long getValidationFailureCount() {
+		return validationFailureCount;
+	}
+
+	@Override
+	public String toString() {
+		return "GenerationMetrics{"
+			+ "type=" + type.getTypeName()
+			+ ", traversalCount=" + traversalCount
+			+ ", nodeCount=" + nodeCount
+			+ ", traversalNanos=" + traversalNanos
+			+ ", manipulatorCount=" + manipulatorCount
+			+ ", eliminatedManipulatorCount=" + eliminatedManipulatorCount
+			+ ", manipulationNanos=" + manipulationNanos
+			+ ", generationCount=" + generationCount
+			+ ", generationNanos=" + generationNanos
+			+ ", retryCount=" + retryCount
+			+ ", validationFailureCount=" + validationFailureCount
+			+ '}';
+	}
+}
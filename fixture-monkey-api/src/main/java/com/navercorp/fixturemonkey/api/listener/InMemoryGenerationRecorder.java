@@ -0,0 +1,195 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.listener;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+
+/**
+ * A {@link GenerationListener} recording the metrics in memory, the metrics are aggregated by the type to generate.
+ * It is thread-safe, the metrics could be read while generating.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class InMemoryGenerationRecorder implements GenerationListener {
+	private final Map<Type, TypeMetrics> metricsByType = new ConcurrentHashMap<>();
+	private final Map<Property, LongAdder> filterMissCountsByProperty = new ConcurrentHashMap<>();
+	private final Map<Type, Map<Class<?>, LongAdder>> introspectedCountsByType = new ConcurrentHashMap<>();
+	private final Map<String, CacheStatistics> cacheStatisticsByName = new ConcurrentHashMap<>();
+
+	@Override
+	public void onTraversed(RootProperty rootProperty, int nodeCount, long elapsedNanos) {
+		TypeMetrics metrics = getMetrics(rootProperty);
+		metrics.traversalCount.increment();
+		metrics.nodeCount.add(nodeCount);
+		metrics.traversalNanos.add(elapsedNanos);
+	}
+
+	@Override
+	public void onManipulated(
+		RootProperty rootProperty,
+		int manipulatorCount,
+		int eliminatedCount,
+		long elapsedNanos
+	) {
+		TypeMetrics metrics = getMetrics(rootProperty);
+		metrics.manipulatorCount.add(manipulatorCount);
+		metrics.eliminatedManipulatorCount.add(eliminatedCount);
+		metrics.manipulationNanos.add(elapsedNanos);
+	}
+
+	@Override
+	public void onGenerated(RootProperty rootProperty, long elapsedNanos) {
+		TypeMetrics metrics = getMetrics(rootProperty);
+		metrics.generationCount.increment();
+		metrics.generationNanos.add(elapsedNanos);
+	}
+
+	@Override
+	public void onRetried(RootProperty rootProperty, Exception cause) {
+		getMetrics(rootProperty).retryCount.increment();
+	}
+
+	@Override
+	public void onFilterMissed(Property property) {
+		filterMissCountsByProperty.computeIfAbsent(property, it -> new LongAdder()).increment();
+	}
+
+	@Override
+	public void onValidationFailed(RootProperty rootProperty, Exception cause) {
+		getMetrics(rootProperty).validationFailureCount.increment();
+	}
+
+	@Override
+	public void onIntrospected(Property property, ArbitraryIntrospector introspector) {
+		introspectedCountsByType
+			.computeIfAbsent(property.getType(), it -> new ConcurrentHashMap<>())
+			.computeIfAbsent(introspector.getClass(), it -> new LongAdder())
+			.increment();
+	}
+
+	@Override
+	public void onCacheStatistics(String cacheName, CacheStatistics statistics) {
+		cacheStatisticsByName.put(cacheName, statistics);
+	}
+
+	/**
+	 * Returns the metrics of generating the given type.
+	 *
+	 * @param type the root type to generate
+	 * @return the snapshot of metrics, all values are zero if the type has never been generated
+	 */
+	public GenerationMetrics getMetrics(Type type) {
+		TypeMetrics metrics = metricsByType.get(type);
+		if (metrics == null) {
+			return new GenerationMetrics(type, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+		}
+		return metrics.snapshot(type);
+	}
+
+	/**
+	 * @return the snapshots of metrics by the root types generated
+	 */
+	public Map<Type, GenerationMetrics> getMetricsByType() {
+		Map<Type, GenerationMetrics> snapshots = new HashMap<>();
+		metricsByType.forEach((type, metrics) -> snapshots.put(type, metrics.snapshot(type)));
+		return Collections.unmodifiableMap(snapshots);
+	}
+
+	/**
+	 * @return the number of filter misses by the filtered property
+	 */
+	public Map<Property, Long> getFilterMissCounts() {
+		Map<Property, Long> snapshots = new HashMap<>();
+		filterMissCountsByProperty.forEach((property, count) -> snapshots.put(property, count.sum()));
+		return Collections.unmodifiableMap(snapshots);
+	}
+
+	/**
+	 * @param type the type of the property introspected
+	 * @return the number of selections by the class of introspector
+	 */
+	public Map<Class<?>, Long> getIntrospectedCounts(Type type) {
+		Map<Class<?>, LongAdder> counts = introspectedCountsByType.get(type);
+		if (counts == null) {
+			return Collections.emptyMap();
+		}
+
+		Map<Class<?>, Long> snapshots = new HashMap<>();
+		counts.forEach((introspectorType, count) -> snapshots.put(introspectorType, count.sum()));
+		return Collections.unmodifiableMap(snapshots);
+	}
+
+	/**
+	 * @return the latest statistics by the name of cache
+	 */
+	public Map<String, CacheStatistics> getCacheStatistics() {
+		return Collections.unmodifiableMap(new HashMap<>(cacheStatisticsByName));
+	}
+
+	public void clear() {
+		metricsByType.clear();
+		filterMissCountsByProperty.clear();
+		introspectedCountsByType.clear();
+		cacheStatisticsByName.clear();
+	}
+
+	private TypeMetrics getMetrics(RootProperty rootProperty) {
+		return metricsByType.computeIfAbsent(rootProperty.getType(), it -> new TypeMetrics());
+	}
+
+	private static final class TypeMetrics {
+		private final LongAdder traversalCount = new LongAdder();
+		private final LongAdder nodeCount = new LongAdder();
+		private final LongAdder traversalNanos = new LongAdder();
+		private final LongAdder manipulatorCount = new LongAdder();
+		private final LongAdder eliminatedManipulatorCount = new LongAdder();
+		private final LongAdder manipulationNanos = new LongAdder();
+		private final LongAdder generationCount = new LongAdder();
+		private final LongAdder generationNanos = new LongAdder();
+		private final LongAdder retryCount = new LongAdder();
+		private final LongAdder validationFailureCount = new LongAdder();
+
+		private GenerationMetrics snapshot(Type type) {
+			return new GenerationMetrics(
+				type,
+				traversalCount.sum(),
+				nodeCount.sum(),
+				traversalNanos.sum(),
+				manipulatorCount.sum(),
+				eliminatedManipulatorCount.sum(),
+				manipulationNanos.sum(),
+				generationCount.sum(),
+				generationNanos.sum(),
+				retryCount.sum(),
+				validationFailureCount.sum()
+			);
+		}
+	}
+}
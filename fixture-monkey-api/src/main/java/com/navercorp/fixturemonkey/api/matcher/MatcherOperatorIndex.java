@@ -0,0 +1,165 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * A dispatch index of ordered {@link MatcherOperator}s which returns the same operator as scanning them in order.
+ * <p>
+ * Operators matched by {@link ExactTypeMatcher} are bucketed by their type and operators matched by
+ * {@link AssignableTypeMatcher} are checked against the class hierarchy of the property type.
+ * The first type-based match is memoized per actual type of the property. Other matchers could depend on
+ * anything of the property, they are scanned in order but only up to the first type-based match.
+ *
+ * @param <T> the type of operator
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class MatcherOperatorIndex<T> {
+	private static final int DEFAULT_CACHE_SIZE = 1024;
+	private static final int NOT_FOUND = -1;
+
+	private final List<MatcherOperator<T>> matcherOperators;
+	private final Map<Class<?>, Integer> exactTypeIndexes;
+	private final List<Class<?>> assignableTypes;
+	private final int[] assignableTypeIndexes;
+	private final int[] customMatcherIndexes;
+	private final Map<Class<?>, Integer> firstTypeMatchedIndexesByType;
+
+	public MatcherOperatorIndex(List<MatcherOperator<T>> matcherOperators) {
+		this(matcherOperators, DEFAULT_CACHE_SIZE);
+	}
+
+	public MatcherOperatorIndex(List<MatcherOperator<T>> matcherOperators, int cacheSize) {
+		this.matcherOperators = Collections.unmodifiableList(new ArrayList<>(matcherOperators));
+
+		Map<Class<?>, Integer> exactTypeIndexes = new HashMap<>();
+		List<Class<?>> assignableTypes = new ArrayList<>();
+		List<Integer> assignableTypeIndexes = new ArrayList<>();
+		List<Integer> customMatcherIndexes = new ArrayList<>();
+		for (int i = 0; i < this.matcherOperators.size(); i++) {
+			Matcher matcher = this.matcherOperators.get(i).getMatcher();
+			if (matcher instanceof ExactTypeMatcher) {
+				exactTypeIndexes.putIfAbsent(((ExactTypeMatcher)matcher).getType(), i);
+			} else if (matcher instanceof AssignableTypeMatcher) {
+				assignableTypes.add(((AssignableTypeMatcher)matcher).getType());
+				assignableTypeIndexes.add(i);
+			} else {
+				customMatcherIndexes.add(i);
+			}
+		}
+		this.exactTypeIndexes = exactTypeIndexes;
+		this.assignableTypes = assignableTypes;
+		this.assignableTypeIndexes = toArray(assignableTypeIndexes);
+		this.customMatcherIndexes = toArray(customMatcherIndexes);
+		this.firstTypeMatchedIndexesByType = new ConcurrentClockCache<>(cacheSize);
+	}
+
+	/**
+	 * Finds the operator of the first {@link MatcherOperator} matching the given property.
+	 *
+	 * @param property the property to match
+	 * @return the operator of the first matched {@link MatcherOperator}, {@code null} if nothing matches
+	 */
+	@Nullable
+	public T findOperator(Property property) {
+		if (this.customMatcherIndexes.length == this.matcherOperators.size()) {
+			return findOperatorInOrder(property);
+		}
+
+		Class<?> actualType;
+		try {
+			actualType = Types.getActualType(property.getType());
+		} catch (RuntimeException ex) {
+			// a type-based matcher would fail the same way when it is reached in order
+			return findOperatorInOrder(property);
+		}
+
+		int firstTypeMatchedIndex = this.firstTypeMatchedIndexesByType.computeIfAbsent(
+			actualType,
+			this::getFirstTypeMatchedIndex
+		);
+
+		for (int customMatcherIndex : this.customMatcherIndexes) {
+			if (firstTypeMatchedIndex != NOT_FOUND && customMatcherIndex > firstTypeMatchedIndex) {
+				break;
+			}
+
+			MatcherOperator<T> matcherOperator = this.matcherOperators.get(customMatcherIndex);
+			if (matcherOperator.match(property)) {
+				return matcherOperator.getOperator();
+			}
+		}
+
+		if (firstTypeMatchedIndex == NOT_FOUND) {
+			return null;
+		}
+		return this.matcherOperators.get(firstTypeMatchedIndex).getOperator();
+	}
+
+	public List<MatcherOperator<T>> getMatcherOperators() {
+		return matcherOperators;
+	}
+
+	@Nullable
+	private T findOperatorInOrder(Property property) {
+		for (MatcherOperator<T> matcherOperator : this.matcherOperators) {
+			if (matcherOperator.match(property)) {
+				return matcherOperator.getOperator();
+			}
+		}
+		return null;
+	}
+
+	private int getFirstTypeMatchedIndex(Class<?> actualType) {
+		int firstTypeMatchedIndex = this.exactTypeIndexes.getOrDefault(actualType, NOT_FOUND);
+		for (int i = 0; i < this.assignableTypeIndexes.length; i++) {
+			int assignableTypeIndex = this.assignableTypeIndexes[i];
+			if (firstTypeMatchedIndex != NOT_FOUND && assignableTypeIndex > firstTypeMatchedIndex) {
+				break;
+			}
+
+			if (this.assignableTypes.get(i).isAssignableFrom(actualType)) {
+				return assignableTypeIndex;
+			}
+		}
+		return firstTypeMatchedIndex;
+	}
+
+	private static int[] toArray(List<Integer> indexes) {
+		int[] result = new int[indexes.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = indexes.get(i);
+		}
+		return result;
+	}
+}
@@ -62,9 +62,11 @@ import com.navercorp.fixturemonkey.api.generator.OptionalContainerPropertyGenera
 import com.navercorp.fixturemonkey.api.generator.SetContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.SingleValueObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.StreamContainerPropertyGenerator;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.DoubleGenericTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperatorIndex;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.matcher.SingleGenericTypeMatcher;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
@@ -123,6 +125,14 @@ public final class FixtureMonkeyOptions {
 	private final int generateUniqueMaxTries;
 	private final JavaConstraintGenerator javaConstraintGenerator;
 	private final InstantiatorProcessor instantiatorProcessor;
+	private final GenerationListener generationListener;
+	private final MatcherOperatorIndex<PropertyGenerator> propertyGeneratorIndex;
+	private final MatcherOperatorIndex<ObjectPropertyGenerator> objectPropertyGeneratorIndex;
+	private final MatcherOperatorIndex<ContainerPropertyGenerator> containerPropertyGeneratorIndex;
+	private final MatcherOperatorIndex<PropertyNameResolver> propertyNameResolverIndex;
+	private final MatcherOperatorIndex<NullInjectGenerator> nullInjectGeneratorIndex;
+	private final MatcherOperatorIndex<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGeneratorIndex;
+	private final MatcherOperatorIndex<ArbitraryGenerator> arbitraryGeneratorIndex;
 
 	public FixtureMonkeyOptions(
 		List<MatcherOperator<PropertyGenerator>> propertyGenerators,
@@ -144,6 +154,53 @@ public final class FixtureMonkeyOptions {
 		int generateUniqueMaxTries,
 		JavaConstraintGenerator javaConstraintGenerator,
 		InstantiatorProcessor instantiatorProcessor
+	) {
+		this(
+			propertyGenerators,
+			defaultPropertyGenerator,
+			objectPropertyGenerators,
+			defaultObjectPropertyGenerator,
+			containerPropertyGenerators,
+			propertyNameResolvers,
+			defaultPropertyNameResolver,
+			nullInjectGenerators,
+			defaultNullInjectGenerator,
+			arbitraryContainerInfoGenerators,
+			defaultArbitraryContainerInfoGenerator,
+			arbitraryGenerators,
+			defaultArbitraryGenerator,
+			defaultArbitraryValidator,
+			decomposedContainerValueFactory,
+			generateMaxTries,
+			generateUniqueMaxTries,
+			javaConstraintGenerator,
+			instantiatorProcessor,
+			GenerationListener.NOOP
+		);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyOptions(
+		List<MatcherOperator<PropertyGenerator>> propertyGenerators,
+		PropertyGenerator defaultPropertyGenerator,
+		List<MatcherOperator<ObjectPropertyGenerator>> objectPropertyGenerators,
+		ObjectPropertyGenerator defaultObjectPropertyGenerator,
+		List<MatcherOperator<ContainerPropertyGenerator>> containerPropertyGenerators,
+		List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers,
+		PropertyNameResolver defaultPropertyNameResolver,
+		List<MatcherOperator<NullInjectGenerator>> nullInjectGenerators,
+		NullInjectGenerator defaultNullInjectGenerator,
+		List<MatcherOperator<ArbitraryContainerInfoGenerator>> arbitraryContainerInfoGenerators,
+		ArbitraryContainerInfoGenerator defaultArbitraryContainerInfoGenerator,
+		List<MatcherOperator<ArbitraryGenerator>> arbitraryGenerators,
+		ArbitraryGenerator defaultArbitraryGenerator,
+		ArbitraryValidator defaultArbitraryValidator,
+		DecomposedContainerValueFactory decomposedContainerValueFactory,
+		int generateMaxTries,
+		int generateUniqueMaxTries,
+		JavaConstraintGenerator javaConstraintGenerator,
+		InstantiatorProcessor instantiatorProcessor,
+		GenerationListener generationListener
 	) {
 		this.propertyGenerators = propertyGenerators;
 		this.defaultPropertyGenerator = defaultPropertyGenerator;
@@ -164,6 +221,14 @@ public final class FixtureMonkeyOptions {
 		this.generateUniqueMaxTries = generateUniqueMaxTries;
 		this.javaConstraintGenerator = javaConstraintGenerator;
 		this.instantiatorProcessor = instantiatorProcessor;
+		this.generationListener = generationListener;
+		this.propertyGeneratorIndex = new MatcherOperatorIndex<>(propertyGenerators);
+		this.objectPropertyGeneratorIndex = new MatcherOperatorIndex<>(objectPropertyGenerators);
+		this.containerPropertyGeneratorIndex = new MatcherOperatorIndex<>(containerPropertyGenerators);
+		this.propertyNameResolverIndex = new MatcherOperatorIndex<>(propertyNameResolvers);
+		this.nullInjectGeneratorIndex = new MatcherOperatorIndex<>(nullInjectGenerators);
+		this.arbitraryContainerInfoGeneratorIndex = new MatcherOperatorIndex<>(arbitraryContainerInfoGenerators);
+		this.arbitraryGeneratorIndex = new MatcherOperatorIndex<>(arbitraryGenerators);
 	}
 
 	public static FixtureMonkeyOptionsBuilder builder() {
@@ -175,11 +240,8 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public PropertyGenerator getPropertyGenerator(Property property) {
-		return this.getPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultPropertyGenerator());
+		PropertyGenerator propertyGenerator = this.propertyGeneratorIndex.findOperator(property);
+		return propertyGenerator != null ? propertyGenerator : this.getDefaultPropertyGenerator();
 	}
 
 	public PropertyGenerator getDefaultPropertyGenerator() {
@@ -191,11 +253,8 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public ObjectPropertyGenerator getObjectPropertyGenerator(Property property) {
-		return this.getObjectPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultObjectPropertyGenerator());
+		ObjectPropertyGenerator objectPropertyGenerator = this.objectPropertyGeneratorIndex.findOperator(property);
+		return objectPropertyGenerator != null ? objectPropertyGenerator : this.getDefaultObjectPropertyGenerator();
 	}
 
 	public ObjectPropertyGenerator getDefaultObjectPropertyGenerator() {
@@ -208,11 +267,7 @@ public final class FixtureMonkeyOptions {
 
 	@Nullable
 	public ContainerPropertyGenerator getContainerPropertyGenerator(Property property) {
-		return this.getContainerPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		return this.containerPropertyGeneratorIndex.findOperator(property);
 	}
 
 	public List<MatcherOperator<PropertyNameResolver>> getPropertyNameResolvers() {
@@ -220,11 +275,8 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public PropertyNameResolver getPropertyNameResolver(Property property) {
-		return this.getPropertyNameResolvers().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultPropertyNameResolver());
+		PropertyNameResolver propertyNameResolver = this.propertyNameResolverIndex.findOperator(property);
+		return propertyNameResolver != null ? propertyNameResolver : this.getDefaultPropertyNameResolver();
 	}
 
 	public PropertyNameResolver getDefaultPropertyNameResolver() {
@@ -236,11 +288,8 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public NullInjectGenerator getNullInjectGenerator(Property property) {
-		return this.getNullInjectGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultNullInjectGenerator());
+		NullInjectGenerator nullInjectGenerator = this.nullInjectGeneratorIndex.findOperator(property);
+		return nullInjectGenerator != null ? nullInjectGenerator : this.getDefaultNullInjectGenerator();
 	}
 
 	public NullInjectGenerator getDefaultNullInjectGenerator() {
@@ -252,11 +301,12 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public ArbitraryContainerInfoGenerator getArbitraryContainerInfoGenerator(Property property) {
-		return this.getArbitraryContainerInfoGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryContainerInfoGenerator());
+		ArbitraryContainerInfoGenerator containerInfoGenerator =
+			this.arbitraryContainerInfoGeneratorIndex.findOperator(property);
+		if (containerInfoGenerator == null) {
+			return this.getDefaultArbitraryContainerInfoGenerator();
+		}
+		return containerInfoGenerator;
 	}
 
 	public ArbitraryContainerInfoGenerator getDefaultArbitraryContainerInfoGenerator() {
@@ -268,11 +318,8 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public ArbitraryGenerator getArbitraryGenerator(Property property) {
-		return this.getArbitraryGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryGenerator());
+		ArbitraryGenerator arbitraryGenerator = this.arbitraryGeneratorIndex.findOperator(property);
+		return arbitraryGenerator != null ? arbitraryGenerator : this.getDefaultArbitraryGenerator();
 	}
 
 	public ArbitraryGenerator getDefaultArbitraryGenerator() {
@@ -303,6 +350,11 @@ public final class FixtureMonkeyOptions {
 		return instantiatorProcessor;
 	}
 
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public GenerationListener getGenerationListener() {
+		return generationListener;
+	}
+
 	public FixtureMonkeyOptionsBuilder toBuilder() {
 		return builder()
 			.defaultPropertyGenerator(defaultPropertyGenerator)
@@ -320,7 +372,8 @@ public final class FixtureMonkeyOptions {
 			.defaultArbitraryValidator(defaultArbitraryValidator)
 			.decomposedContainerValueFactory(decomposedContainerValueFactory)
 			.javaConstraintGenerator(javaConstraintGenerator)
-			.instantiatorProcessor(instantiatorProcessor);
+			.instantiatorProcessor(instantiatorProcessor)
+			.generationListener(generationListener);
 	}
 
 	private static List<MatcherOperator<ObjectPropertyGenerator>> getDefaultObjectPropertyGenerators(
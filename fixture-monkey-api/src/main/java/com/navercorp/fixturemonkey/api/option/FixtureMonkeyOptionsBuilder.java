@@ -66,10 +66,12 @@ import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerat
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.MatchArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.TypedArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.jqwik.ArbitraryUtils;
 import com.navercorp.fixturemonkey.api.jqwik.JqwikJavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.jqwik.JqwikJavaTimeArbitraryGeneratorSet;
 import com.navercorp.fixturemonkey.api.jqwik.JqwikJavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.jqwik.JqwikJavaTypeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.plugin.Plugin;
@@ -132,6 +134,7 @@ public final class FixtureMonkeyOptionsBuilder {
 	@Nullable
 	private Function<JavaConstraintGenerator, JavaTimeArbitraryGeneratorSet> generateJavaTimeArbitrarySet = null;
 	private InstantiatorProcessor instantiatorProcessor = new JavaInstantiatorProcessor();
+	private GenerationListener generationListener = GenerationListener.NOOP;
 
 	FixtureMonkeyOptionsBuilder() {
 	}
@@ -577,6 +580,12 @@ public final class FixtureMonkeyOptionsBuilder {
 		return this;
 	}
 
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyOptionsBuilder generationListener(GenerationListener generationListener) {
+		this.generationListener = generationListener;
+		return this;
+	}
+
 	public FixtureMonkeyOptions build() {
 		ObjectPropertyGenerator defaultObjectPropertyGenerator = defaultIfNull(
 			this.defaultObjectPropertyGenerator,
@@ -613,13 +622,23 @@ public final class FixtureMonkeyOptionsBuilder {
 			() -> new JqwikJavaArbitraryResolver(this.javaConstraintGenerator)
 		);
 
+		JavaArbitraryResolver customJavaArbitraryResolver = this.javaArbitraryResolver;
 		this.generateJavaTypeArbitrarySet = defaultIfNull(
 			this.generateJavaTypeArbitrarySet,
-			() -> constraintGenerator ->
-				new JqwikJavaTypeArbitraryGeneratorSet(
+			() -> constraintGenerator -> {
+				if (customJavaArbitraryResolver != null) {
+					return new JqwikJavaTypeArbitraryGeneratorSet(
+						this.javaTypeArbitraryGenerator,
+						customJavaArbitraryResolver
+					);
+				}
+				return new JqwikJavaTypeArbitraryGeneratorSet(
 					this.javaTypeArbitraryGenerator,
-					javaArbitraryResolver
-				)
+					javaArbitraryResolver,
+					ArbitraryUtils.DEFAULT_GEN_SIZE,
+					constraintGenerator
+				);
+			}
 		);
 
 		javaDefaultArbitraryGeneratorBuilder.javaTypeArbitraryGeneratorSet(
@@ -697,7 +716,8 @@ public final class FixtureMonkeyOptionsBuilder {
 			this.generateMaxTries,
 			this.generateUniqueMaxTries,
 			this.javaConstraintGenerator,
-			this.instantiatorProcessor
+			this.instantiatorProcessor,
+			this.generationListener
 		);
 	}
 
@@ -22,7 +22,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,6 +45,7 @@ public final class ConstructorProperty implements Property {
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
 	@Nullable
 	private final Boolean nullable;
+	private int hashCode;
 
 	@Deprecated
 	public ConstructorProperty(
@@ -74,7 +74,7 @@ public final class ConstructorProperty implements Property {
 		this.constructor = constructor;
 		this.parameterName = parameterName;
 		this.fieldProperty = fieldProperty;
-		this.annotations = Arrays.asList(annotatedType.getAnnotations());
+		this.annotations = PropertyAnnotations.of(annotatedType.getAnnotations());
 		this.annotationsMap = this.annotations.stream()
 			.collect(Collectors.toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
 		this.nullable = nullable;
@@ -130,6 +130,9 @@ public final class ConstructorProperty implements Property {
 			return false;
 		}
 		ConstructorProperty that = (ConstructorProperty)obj;
+		if (hashCode() != that.hashCode()) {
+			return false;
+		}
 		return annotatedType.equals(that.annotatedType)
 			&& constructor.equals(that.constructor)
 			&& parameterName.equals(that.parameterName)
@@ -139,7 +142,12 @@ public final class ConstructorProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(annotatedType, constructor, parameterName, fieldProperty, annotations);
+		int hashCode = this.hashCode;
+		if (hashCode == 0) {
+			hashCode = Objects.hash(annotatedType, constructor, parameterName, fieldProperty, annotations);
+			this.hashCode = hashCode;
+		}
+		return hashCode;
 	}
 
 	@Nullable
@@ -22,7 +22,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -55,6 +54,8 @@ public final class ElementProperty implements Property {
 
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
 
+	private int hashCode;
+
 	public ElementProperty(
 		Property containerProperty,
 		AnnotatedType elementType,
@@ -65,7 +66,7 @@ public final class ElementProperty implements Property {
 		this.elementType = elementType;
 		this.index = index;
 		this.sequence = sequence;
-		this.annotations = Arrays.asList(this.elementType.getAnnotations());
+		this.annotations = PropertyAnnotations.of(this.elementType.getAnnotations());
 		this.annotationsMap = this.annotations.stream()
 			.collect(Collectors.toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
 	}
@@ -150,6 +151,9 @@ public final class ElementProperty implements Property {
 			return false;
 		}
 		ElementProperty that = (ElementProperty)obj;
+		if (hashCode() != that.hashCode()) {
+			return false;
+		}
 		return containerProperty.equals(that.containerProperty)
 			&& elementType.equals(that.elementType)
 			&& annotations.equals(that.annotations);
@@ -157,7 +161,12 @@ public final class ElementProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(containerProperty, elementType, annotations);
+		int hashCode = this.hashCode;
+		if (hashCode == 0) {
+			hashCode = Objects.hash(containerProperty, elementType, annotations);
+			this.hashCode = hashCode;
+		}
+		return hashCode;
 	}
 
 	private boolean isOptional(Class<?> type) {
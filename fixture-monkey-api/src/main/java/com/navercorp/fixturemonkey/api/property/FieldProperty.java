@@ -22,7 +22,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +42,7 @@ public final class FieldProperty implements Property {
 	private final Field field;
 	private final List<Annotation> annotations;
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
+	private int hashCode;
 
 	public FieldProperty(Field field) {
 		this(TypeCache.getAnnotatedType(field), field);
@@ -60,7 +60,7 @@ public final class FieldProperty implements Property {
 	public FieldProperty(AnnotatedType annotatedType, Field field) {
 		this.annotatedType = annotatedType;
 		this.field = field;
-		this.annotations = Arrays.asList(field.getAnnotations());
+		this.annotations = PropertyAnnotations.of(field);
 		this.annotationsMap = this.annotations.stream()
 			.collect(Collectors.toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
 	}
@@ -104,6 +104,9 @@ public final class FieldProperty implements Property {
 			return false;
 		}
 		FieldProperty that = (FieldProperty)obj;
+		if (hashCode() != that.hashCode()) {
+			return false;
+		}
 
 		return annotatedType.getType().equals(that.annotatedType.getType())
 			&& annotations.equals(that.annotations);
@@ -111,16 +114,22 @@ public final class FieldProperty implements Property {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(annotatedType.getType(), annotations);
+		int hashCode = this.hashCode;
+		if (hashCode == 0) {
+			hashCode = Objects.hash(annotatedType.getType(), annotations);
+			this.hashCode = hashCode;
+		}
+		return hashCode;
 	}
 
 	@Nullable
 	@Override
 	public Object getValue(Object instance) {
 		try {
-			this.field.setAccessible(true);
-			return this.field.get(instance);
-		} catch (IllegalAccessException ex) {
+			return (Object)TypeCache.getFieldGetter(this.field).invokeExact(instance);
+		} catch (Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
 			throw new IllegalArgumentException(
 				"Can not extract value. obj: " + instance.toString() + ", fieldName: " + this.field.getName(),
 				ex
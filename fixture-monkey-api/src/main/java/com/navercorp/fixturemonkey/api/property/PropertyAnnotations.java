@@ -0,0 +1,120 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+
+/**
+ * Interns the annotations of the declaring members of properties.
+ * The annotations are hashed reflectively by their proxies,
+ * the returned list computes its hash code once and compares by identity first.
+ */
+final class PropertyAnnotations {
+	private static final Map<Object, List<Annotation>> ANNOTATIONS_BY_MEMBER = new ConcurrentClockCache<>(2048);
+
+	private PropertyAnnotations() {
+	}
+
+	/**
+	 * Returns the interned annotations of the given member.
+	 *
+	 * @param member the member declaring the annotations, such as a field or a method
+	 * @return the annotations of the member, the same instance is returned for the same member
+	 */
+	static List<Annotation> of(AnnotatedElement member) {
+		return ANNOTATIONS_BY_MEMBER.computeIfAbsent(member, it -> new AnnotationList(member.getAnnotations()));
+	}
+
+	/**
+	 * Returns the interned annotations declared by the given members in order.
+	 *
+	 * @param members the members declaring the annotations, null members are ignored
+	 * @return the annotations of the members, the same instance is returned for the same members
+	 */
+	static List<Annotation> of(List<? extends AnnotatedElement> members) {
+		return ANNOTATIONS_BY_MEMBER.computeIfAbsent(members, it -> {
+			List<Annotation> annotations = new ArrayList<>();
+			for (AnnotatedElement member : members) {
+				if (member != null) {
+					annotations.addAll(Arrays.asList(member.getAnnotations()));
+				}
+			}
+			return new AnnotationList(annotations.toArray(new Annotation[0]));
+		});
+	}
+
+	/**
+	 * Returns the annotations without interning, its hash code is computed once.
+	 *
+	 * @param annotations the annotations
+	 * @return the annotations
+	 */
+	static List<Annotation> of(Annotation[] annotations) {
+		return new AnnotationList(annotations);
+	}
+
+	private static final class AnnotationList extends AbstractList<Annotation> implements RandomAccess {
+		private final Annotation[] annotations;
+		private int hash;
+
+		private AnnotationList(Annotation[] annotations) {
+			this.annotations = annotations;
+		}
+
+		@Override
+		public Annotation get(int index) {
+			return annotations[index];
+		}
+
+		@Override
+		public int size() {
+			return annotations.length;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof AnnotationList && hashCode() != obj.hashCode()) {
+				return false;
+			}
+			return super.equals(obj);
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = this.hash;
+			if (hash == 0 && annotations.length != 0) {
+				hash = super.hashCode();
+				this.hash = hash;
+			}
+			return hash;
+		}
+	}
+}
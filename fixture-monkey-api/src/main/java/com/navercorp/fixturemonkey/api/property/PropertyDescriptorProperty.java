@@ -23,11 +23,8 @@ import static java.util.stream.Collectors.toMap;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +44,7 @@ public final class PropertyDescriptorProperty implements Property {
 	private final PropertyDescriptor propertyDescriptor;
 	private final List<Annotation> annotations;
 	private final Map<Class<? extends Annotation>, Annotation> annotationsMap;
+	private int hashCode;
 
 	public PropertyDescriptorProperty(PropertyDescriptor propertyDescriptor) {
 		this(TypeCache.getAnnotatedType(propertyDescriptor), propertyDescriptor);
@@ -64,14 +62,9 @@ public final class PropertyDescriptorProperty implements Property {
 	public PropertyDescriptorProperty(AnnotatedType annotatedType, PropertyDescriptor propertyDescriptor) {
 		this.annotatedType = annotatedType;
 		this.propertyDescriptor = propertyDescriptor;
-		List<Annotation> concatAnnotations = new ArrayList<>();
-		if (propertyDescriptor.getWriteMethod() != null) {
-			concatAnnotations.addAll(Arrays.asList(propertyDescriptor.getWriteMethod().getAnnotations()));
-		}
-		if (propertyDescriptor.getReadMethod() != null) {
-			concatAnnotations.addAll(Arrays.asList(propertyDescriptor.getReadMethod().getAnnotations()));
-		}
-		this.annotations = Collections.unmodifiableList(concatAnnotations);
+		this.annotations = PropertyAnnotations.of(
+			Arrays.asList(propertyDescriptor.getWriteMethod(), propertyDescriptor.getReadMethod())
+		);
 		this.annotationsMap = this.annotations.stream()
 			.collect(toMap(Annotation::annotationType, Function.identity(), (a1, a2) -> a1));
 	}
@@ -110,8 +103,10 @@ public final class PropertyDescriptorProperty implements Property {
 	@Override
 	public Object getValue(Object instance) {
 		try {
-			return this.propertyDescriptor.getReadMethod().invoke(instance);
-		} catch (InvocationTargetException | IllegalAccessException ex) {
+			return (Object)TypeCache.getReadMethodHandle(this.propertyDescriptor.getReadMethod()).invokeExact(instance);
+		} catch (Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
 			throw new IllegalArgumentException(
 				"Can not invoke value. obj: " + instance.toString() + ", propertyName: "
 					+ this.propertyDescriptor.getName(),
@@ -129,13 +124,21 @@ public final class PropertyDescriptorProperty implements Property {
 			return false;
 		}
 		PropertyDescriptorProperty that = (PropertyDescriptorProperty)obj;
+		if (hashCode() != that.hashCode()) {
+			return false;
+		}
 		return annotatedType.getType().equals(that.annotatedType.getType())
 			&& annotations.equals(that.annotations);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(annotatedType.getType(), annotations);
+		int hashCode = this.hashCode;
+		if (hashCode == 0) {
+			hashCode = Objects.hash(annotatedType.getType(), annotations);
+			this.hashCode = hashCode;
+		}
+		return hashCode;
 	}
 
 	@Override
@@ -15,6 +15,7 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 	@Nullable
 	private final PropertyPath parentPropertyPath;
 	private final int depth;
+	private int hashCode;
 
 	private final LazyArbitrary<String> expression = LazyArbitrary.lazy(this::initExpression);
 
@@ -41,6 +42,9 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 			return false;
 		}
 		PropertyPath that = (PropertyPath)obj;
+		if (hashCode() != that.hashCode()) {
+			return false;
+		}
 		return depth == that.depth
 			&& property.equals(that.property)
 			&& Objects.equals(parentPropertyPath, that.parentPropertyPath);
@@ -48,7 +52,12 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(property, parentPropertyPath, depth);
+		int hashCode = this.hashCode;
+		if (hashCode == 0) {
+			hashCode = Objects.hash(property, parentPropertyPath, depth);
+			this.hashCode = hashCode;
+		}
+		return hashCode;
 	}
 
 	@Override
@@ -0,0 +1,169 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+/**
+ * A regular expression compiled into an automaton with length constraints.
+ * It samples a matching string by a random walk over the automaton,
+ * it takes time proportional to the length of the sampled string.
+ * The length of the sampled string is chosen uniformly among the lengths which could be matched.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class CompiledRegex {
+	private final boolean[] accepts;
+	private final char[][] transitionMins;
+	private final char[][] transitionMaxs;
+	private final int[][] transitionDests;
+	/**
+	 * finishable[state][length] is true if any accept state is reachable in exactly length steps from state.
+	 */
+	private final boolean[][] finishable;
+	private final int[] lengths;
+
+	CompiledRegex(Automaton automaton, int minLength, int maxLength) {
+		List<State> states = numberStates(automaton.getInitialState());
+		Map<State, Integer> numbers = new IdentityHashMap<>();
+		for (int i = 0; i < states.size(); i++) {
+			numbers.put(states.get(i), i);
+		}
+
+		int stateSize = states.size();
+		this.accepts = new boolean[stateSize];
+		this.transitionMins = new char[stateSize][];
+		this.transitionMaxs = new char[stateSize][];
+		this.transitionDests = new int[stateSize][];
+		for (int i = 0; i < stateSize; i++) {
+			State state = states.get(i);
+			List<Transition> transitions = state.getSortedTransitions(false);
+			accepts[i] = state.isAccept();
+			transitionMins[i] = new char[transitions.size()];
+			transitionMaxs[i] = new char[transitions.size()];
+			transitionDests[i] = new int[transitions.size()];
+			for (int j = 0; j < transitions.size(); j++) {
+				Transition transition = transitions.get(j);
+				transitionMins[i][j] = transition.getMin();
+				transitionMaxs[i][j] = transition.getMax();
+				transitionDests[i][j] = numbers.get(transition.getDest());
+			}
+		}
+
+		this.finishable = new boolean[stateSize][maxLength + 1];
+		for (int i = 0; i < stateSize; i++) {
+			finishable[i][0] = accepts[i];
+		}
+		for (int length = 1; length <= maxLength; length++) {
+			for (int i = 0; i < stateSize; i++) {
+				for (int dest : transitionDests[i]) {
+					if (finishable[dest][length - 1]) {
+						finishable[i][length] = true;
+						break;
+					}
+				}
+			}
+		}
+
+		List<Integer> matchableLengths = new ArrayList<>();
+		for (int length = Math.max(minLength, 0); length <= maxLength; length++) {
+			if (finishable[0][length]) {
+				matchableLengths.add(length);
+			}
+		}
+		this.lengths = matchableLengths.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Determines if there is no string matched within the length constraints.
+	 *
+	 * @return true if it could not sample any string
+	 */
+	public boolean isEmpty() {
+		return lengths.length == 0;
+	}
+
+	/**
+	 * Samples a string matched by the regular expression within the length constraints.
+	 *
+	 * @param random the source of randomness
+	 * @return a matched string
+	 * @throws IllegalArgumentException if there is no string matched within the length constraints
+	 */
+	public String sample(Random random) {
+		if (isEmpty()) {
+			throw new IllegalArgumentException("Given regex has no matched string within the length constraints.");
+		}
+
+		int remaining = lengths[random.nextInt(lengths.length)];
+		char[] sampled = new char[remaining];
+		int state = 0;
+		for (int index = 0; remaining > 0; index++, remaining--) {
+			int[] dests = transitionDests[state];
+			int candidateCount = 0;
+			for (int dest : dests) {
+				if (finishable[dest][remaining - 1]) {
+					candidateCount++;
+				}
+			}
+
+			int candidate = random.nextInt(candidateCount);
+			for (int transition = 0; transition < dests.length; transition++) {
+				if (!finishable[dests[transition]][remaining - 1]) {
+					continue;
+				}
+
+				if (candidate-- == 0) {
+					char min = transitionMins[state][transition];
+					char max = transitionMaxs[state][transition];
+					sampled[index] = (char)(min + random.nextInt(max - min + 1));
+					state = dests[transition];
+					break;
+				}
+			}
+		}
+		return new String(sampled);
+	}
+
+	private static List<State> numberStates(State initialState) {
+		List<State> states = new ArrayList<>();
+		Map<State, Boolean> visited = new IdentityHashMap<>();
+		states.add(initialState);
+		visited.put(initialState, true);
+		for (int i = 0; i < states.size(); i++) {
+			for (Transition transition : states.get(i).getSortedTransitions(false)) {
+				State dest = transition.getDest();
+				if (visited.put(dest, true) == null) {
+					states.add(dest);
+				}
+			}
+		}
+		return states;
+	}
+}
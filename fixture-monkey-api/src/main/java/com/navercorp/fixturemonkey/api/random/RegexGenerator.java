@@ -20,10 +20,12 @@ package com.navercorp.fixturemonkey.api.random;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.annotation.Nullable;
 
@@ -34,6 +36,8 @@ import com.mifmif.common.regex.Generex;
 
 import dk.brics.automaton.RegExp;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+
 @API(since = "0.6.9", status = Status.EXPERIMENTAL)
 public final class RegexGenerator {
 	private static final Map<String, String> PREDEFINED_CHARACTER_CLASSES;
@@ -49,26 +53,42 @@ public final class RegexGenerator {
 		PREDEFINED_CHARACTER_CLASSES = Collections.unmodifiableMap(characterClasses);
 	}
 
-	public List<String> generateAll(String regex, int[] flags, @Nullable Integer min, @Nullable Integer max) {
-		for (Map.Entry<String, String> charClass : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
-			regex = regex.replaceAll(charClass.getKey(), charClass.getValue());
-		}
+	private static final int DEFAULT_MAX_LENGTH = 255;
+	private static final int COMPILED_REGEX_CACHE_SIZE = 1024;
 
-		RegExp regExp;
-		if (flags.length == 0) {
-			regExp = new RegExp(regex);
-		} else {
-			int intFlag = 0;
-			for (int flag : flags) {
-				intFlag = intFlag | flag;
-			}
-			regExp = new RegExp(regex, intFlag);
-		}
+	private final Map<CompiledRegexKey, CompiledRegex> compiledRegexes =
+		new ConcurrentClockCache<>(COMPILED_REGEX_CACHE_SIZE);
 
-		Generex generex = new Generex(regExp.toAutomaton());
+	public List<String> generateAll(String regex, int[] flags, @Nullable Integer min, @Nullable Integer max) {
+		Generex generex = new Generex(toRegExp(regex, flags).toAutomaton());
 		return this.generateAll(generex, min, max);
 	}
 
+	/**
+	 * Compiles the given regex into {@link CompiledRegex} which samples a string matched within the length constraints.
+	 * It is cached by the regex, flags and length constraints.
+	 * The max length would be limited to 255 more than the min length.
+	 *
+	 * @param regex the regex to compile
+	 * @param flags the flags of the regex
+	 * @param min   the min length of the sampled string, 0 if null
+	 * @param max   the max length of the sampled string, 255 if null
+	 * @return the compiled regex
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public CompiledRegex compile(String regex, int[] flags, @Nullable Integer min, @Nullable Integer max) {
+		return compiledRegexes.computeIfAbsent(
+			new CompiledRegexKey(regex, flags, min, max),
+			key -> {
+				int minLength = min != null ? Math.max(min, 0) : 0;
+				int maxLength = max != null
+					? (int)Math.min(max, (long)minLength + DEFAULT_MAX_LENGTH)
+					: DEFAULT_MAX_LENGTH;
+				return new CompiledRegex(toRegExp(regex, flags).toAutomaton(), minLength, maxLength);
+			}
+		);
+	}
+
 	public List<String> generateAll(String regex) {
 		return this.generateAll(regex, null, null);
 	}
@@ -77,6 +97,22 @@ public final class RegexGenerator {
 		return this.generateAll(new Generex(regex), min, max);
 	}
 
+	private static RegExp toRegExp(String regex, int[] flags) {
+		for (Map.Entry<String, String> charClass : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
+			regex = regex.replaceAll(charClass.getKey(), charClass.getValue());
+		}
+
+		if (flags.length == 0) {
+			return new RegExp(regex);
+		}
+
+		int intFlag = 0;
+		for (int flag : flags) {
+			intFlag = intFlag | flag;
+		}
+		return new RegExp(regex, intFlag);
+	}
+
 	private List<String> generateAll(Generex generex, @Nullable Integer min, @Nullable Integer max) {
 		if (min == null) {
 			min = 0;
@@ -94,4 +130,40 @@ public final class RegexGenerator {
 		Collections.shuffle(result);
 		return result;
 	}
+
+	private static final class CompiledRegexKey {
+		private final String regex;
+		private final int[] flags;
+		@Nullable
+		private final Integer min;
+		@Nullable
+		private final Integer max;
+
+		private CompiledRegexKey(String regex, int[] flags, @Nullable Integer min, @Nullable Integer max) {
+			this.regex = regex;
+			this.flags = flags.clone();
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CompiledRegexKey that = (CompiledRegexKey)obj;
+			return regex.equals(that.regex)
+				&& Arrays.equals(flags, that.flags)
+				&& Objects.equals(min, that.min)
+				&& Objects.equals(max, that.max);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(regex, Arrays.hashCode(flags), min, max);
+		}
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Instantiates a type by a {@link MethodHandle} of given {@link Constructor}.
+ * The handle is resolved once and cached in {@link TypeCache}, it is cheaper than {@link Constructor#newInstance}.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class ConstructorHandle {
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	private final Constructor<?> constructor;
+	private final Class<?>[] parameterTypes;
+	private final boolean[] primitives;
+	private final MethodHandle methodHandle;
+
+	ConstructorHandle(Constructor<?> constructor) throws IllegalAccessException {
+		if (!constructor.isAccessible()) {
+			constructor.setAccessible(true);
+		}
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		boolean[] primitives = new boolean[parameterTypes.length];
+		for (int i = 0; i < parameterTypes.length; i++) {
+			primitives[i] = parameterTypes[i].isPrimitive();
+			parameterTypes[i] = Types.primitiveToWrapper(parameterTypes[i]);
+		}
+
+		this.constructor = constructor;
+		this.parameterTypes = parameterTypes;
+		this.primitives = primitives;
+		this.methodHandle = MethodHandles.lookup()
+			.unreflectConstructor(constructor)
+			.asSpreader(Object[].class, parameterTypes.length)
+			.asType(CONSTRUCTOR_TYPE);
+	}
+
+	public Constructor<?> getConstructor() {
+		return constructor;
+	}
+
+	public int getParameterCount() {
+		return parameterTypes.length;
+	}
+
+	/**
+	 * Instantiates with given arguments, they should be ordered by the parameters of the constructor.
+	 * If an argument does not match its parameter exactly, it falls back to {@link Constructor#newInstance}
+	 * which also applies widening conversions and fails the same way as before.
+	 *
+	 * @param args the arguments of the constructor
+	 * @return a new instance
+	 */
+	public Object newInstance(Object... args) {
+		if (args.length != parameterTypes.length) {
+			return Reflections.newInstance(constructor, args);
+		}
+
+		for (int i = 0; i < args.length; i++) {
+			Object arg = args[i];
+			if (arg == null ? primitives[i] : !parameterTypes[i].isInstance(arg)) {
+				return Reflections.newInstance(constructor, args);
+			}
+		}
+
+		try {
+			return (Object)methodHandle.invokeExact(args);
+		} catch (Throwable throwable) {
+			throw Reflections.throwAsUnchecked(throwable);
+		}
+	}
+}
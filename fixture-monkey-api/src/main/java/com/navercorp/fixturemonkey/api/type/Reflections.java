@@ -148,7 +148,7 @@ public final class Reflections {
 	}
 
 	@SuppressWarnings("UnusedReturnValue")
-	private static RuntimeException throwAsUnchecked(Throwable throwable) {
+	static RuntimeException throwAsUnchecked(Throwable throwable) {
 		throwSelf(throwable);
 
 		return new RuntimeException(throwable); // prevent return nullable, but won't be reached.
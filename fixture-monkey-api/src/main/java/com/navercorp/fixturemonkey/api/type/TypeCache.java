@@ -24,9 +24,13 @@ import java.beans.ConstructorProperties;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.AbstractMap.SimpleEntry;
@@ -44,7 +48,7 @@ import org.apiguardian.api.API.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class TypeCache {
@@ -53,11 +57,21 @@ public final class TypeCache {
 	private static final Map<PropertyDescriptor, AnnotatedType> PROPERTY_DESCRIPTOR_ANNOTATED_TYPE_MAP =
 		new ConcurrentHashMap<>(2048);
 	private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS =
-		new ConcurrentLruCache<>(2048);
-	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentLruCache<>(2048);
+		new ConcurrentClockCache<>(2048);
+	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentClockCache<>(2048);
 	private static final Map<Class<?>, Map.Entry<Constructor<?>, String[]>> PARAMETER_NAMES_BY_PRIMARY_CONSTRUCTOR =
-		new ConcurrentLruCache<>(2048);
-	private static final Map<Class<?>, List<Constructor<?>>> CONSTRUCTORS = new ConcurrentLruCache<>(2048);
+		new ConcurrentClockCache<>(2048);
+	private static final Map<Class<?>, List<Constructor<?>>> CONSTRUCTORS = new ConcurrentClockCache<>(2048);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final Map<Class<?>, Map<String, MethodHandle>> FIELD_SETTERS = new ConcurrentClockCache<>(2048);
+	private static final Map<Class<?>, Map<String, MethodHandle>> WRITE_METHOD_HANDLES =
+		new ConcurrentClockCache<>(2048);
+	private static final Map<Field, MethodHandle> FIELD_GETTERS = new ConcurrentClockCache<>(2048);
+	private static final Map<Method, MethodHandle> READ_METHOD_HANDLES = new ConcurrentClockCache<>(2048);
+	private static final Map<Constructor<?>, ConstructorHandle> CONSTRUCTOR_HANDLES = new ConcurrentClockCache<>(2048);
+	private static final Map<Class<?>, ConstructorHandle> NO_ARGS_CONSTRUCTOR_HANDLES =
+		new ConcurrentClockCache<>(2048);
 
 	public static AnnotatedType getAnnotatedType(Field field) {
 		return FIELD_ANNOTATED_TYPE_MAP.computeIfAbsent(field, Field::getAnnotatedType);
@@ -108,6 +122,110 @@ public final class TypeCache {
 		});
 	}
 
+	/**
+	 * Returns setters of the writable fields of given class by field name.
+	 * A setter is a {@link MethodHandle} of type {@code (Object, Object)void}, transient fields are excluded.
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static Map<String, MethodHandle> getFieldSettersByName(Class<?> clazz) {
+		return FIELD_SETTERS.computeIfAbsent(clazz, type -> {
+			Map<String, MethodHandle> result = new ConcurrentHashMap<>();
+			getFieldsByName(type).forEach((name, field) -> {
+				if (Modifier.isTransient(field.getModifiers())) {
+					return;
+				}
+
+				try {
+					result.put(name, MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE));
+				} catch (IllegalAccessException ex) {
+					LOGGER.warn("Failed to create setter of field {} in type {}.", name, type.getName());
+				}
+			});
+			return result;
+		});
+	}
+
+	/**
+	 * Returns the write methods of the bean properties of given class by property name.
+	 * A write method is a {@link MethodHandle} of type {@code (Object, Object)void}.
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static Map<String, MethodHandle> getWriteMethodHandlesByPropertyName(Class<?> clazz) {
+		return WRITE_METHOD_HANDLES.computeIfAbsent(clazz, type -> {
+			Map<String, MethodHandle> result = new ConcurrentHashMap<>();
+			getPropertyDescriptorsByPropertyName(type).forEach((name, propertyDescriptor) -> {
+				Method writeMethod = propertyDescriptor.getWriteMethod();
+				if (writeMethod == null) {
+					return;
+				}
+
+				try {
+					writeMethod.setAccessible(true);
+					result.put(name, MethodHandles.lookup().unreflect(writeMethod).asType(SETTER_TYPE));
+				} catch (RuntimeException | IllegalAccessException ex) {
+					LOGGER.warn("Failed to create write method of property {} in type {}.", name, type.getName());
+				}
+			});
+			return result;
+		});
+	}
+
+	/**
+	 * Returns a getter of given field, it is a {@link MethodHandle} of type {@code (Object)Object}.
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static MethodHandle getFieldGetter(Field field) {
+		return FIELD_GETTERS.computeIfAbsent(field, it -> {
+			try {
+				it.setAccessible(true);
+				return MethodHandles.lookup().unreflectGetter(it).asType(GETTER_TYPE);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Failed to create getter of field " + it.getName(), ex);
+			}
+		});
+	}
+
+	/**
+	 * Returns given read method as a {@link MethodHandle} of type {@code (Object)Object}.
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static MethodHandle getReadMethodHandle(Method readMethod) {
+		return READ_METHOD_HANDLES.computeIfAbsent(readMethod, it -> {
+			try {
+				it.setAccessible(true);
+				return MethodHandles.lookup().unreflect(it).asType(GETTER_TYPE);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Failed to create read method " + it.getName(), ex);
+			}
+		});
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static ConstructorHandle getConstructorHandle(Constructor<?> constructor) {
+		return CONSTRUCTOR_HANDLES.computeIfAbsent(constructor, it -> {
+			try {
+				return new ConstructorHandle(it);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalArgumentException("Failed to create constructor of " + it.getName(), ex);
+			}
+		});
+	}
+
+	/**
+	 * Returns the no-args constructor of given class.
+	 * It throws the same exception as {@link Class#getDeclaredConstructor} if it does not exist.
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public static ConstructorHandle getNoArgsConstructorHandle(Class<?> clazz) {
+		return NO_ARGS_CONSTRUCTOR_HANDLES.computeIfAbsent(clazz, type -> {
+			try {
+				return getConstructorHandle(type.getDeclaredConstructor());
+			} catch (NoSuchMethodException ex) {
+				throw Reflections.throwAsUnchecked(ex);
+			}
+		});
+	}
+
 	public static List<Constructor<?>> getDeclaredConstructors(Class<?> type) {
 		return CONSTRUCTORS.computeIfAbsent(type, clazz -> Arrays.asList(clazz.getDeclaredConstructors()));
 	}
@@ -173,6 +291,12 @@ public final class TypeCache {
 		PARAMETER_NAMES_BY_PRIMARY_CONSTRUCTOR.clear();
 		PROPERTY_DESCRIPTORS.clear();
 		FIELDS.clear();
+		FIELD_SETTERS.clear();
+		WRITE_METHOD_HANDLES.clear();
+		FIELD_GETTERS.clear();
+		READ_METHOD_HANDLES.clear();
+		CONSTRUCTOR_HANDLES.clear();
+		NO_ARGS_CONSTRUCTOR_HANDLES.clear();
 	}
 
 	private static String[] getParameterNames(Constructor<?> constructor) {
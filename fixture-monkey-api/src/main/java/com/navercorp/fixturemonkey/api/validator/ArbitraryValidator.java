@@ -18,7 +18,26 @@
 
 package com.navercorp.fixturemonkey.api.validator;
 
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
 public interface ArbitraryValidator {
 	// if arbitrary is not valid throw exception then re-create arbitrary for valid.
 	void validate(Object arbitrary);
+
+	/**
+	 * Validates given arbitrary which is generated by Fixture Monkey.
+	 * The constraints already satisfied while generating the properties could be skipped,
+	 * except the properties in {@code manipulatedPropertyNames} which may have been set regardless of them.
+	 *
+	 * @param arbitrary                the generated arbitrary
+	 * @param manipulatedPropertyNames the names of the properties of given arbitrary
+	 *                                 whose values or any of their nested values have been manipulated
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	default void validate(Object arbitrary, Set<String> manipulatedPropertyNames) {
+		validate(arbitrary);
+	}
 }
@@ -0,0 +1,59 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.arbitraries.StringArbitrary;
+
+import com.navercorp.fixturemonkey.api.jqwik.ArbitraryUtils;
+
+class MonkeyStringArbitraryTest {
+	@Test
+	void generateWithConfiguredCharacters() {
+		Arbitrary<String> arbitrary = new MonkeyStringArbitrary()
+			.filterCharacter(c -> c != 'b')
+			.withChars("abc")
+			.numeric()
+			.ofMinLength(3)
+			.ofMaxLength(5)
+			.repeatChars(0.5);
+
+		for (int i = 0; i < 100; i++) {
+			String actual = ArbitraryUtils.sample(arbitrary);
+
+			then(actual).hasSizeBetween(3, 5).matches("[ac0-9]+");
+		}
+	}
+
+	@Test
+	void equalsIfSameConfiguration() {
+		Predicate<Character> filter = Character::isUpperCase;
+
+		StringArbitrary actual = new MonkeyStringArbitrary().filterCharacter(filter).alpha();
+
+		then(actual).isEqualTo(new MonkeyStringArbitrary().filterCharacter(filter).alpha());
+		then(actual.hashCode()).isEqualTo(new MonkeyStringArbitrary().filterCharacter(filter).alpha().hashCode());
+	}
+}
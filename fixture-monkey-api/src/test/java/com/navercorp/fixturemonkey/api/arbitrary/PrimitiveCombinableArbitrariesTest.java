@@ -0,0 +1,96 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.jqwik.ArbitraryUtils;
+
+class PrimitiveCombinableArbitrariesTest {
+	private static final int SAMPLE_SIZE = 5000;
+
+	@Test
+	void integersGenerateEdgeCases() {
+		List<Integer> actual = generate(PrimitiveCombinableArbitraries.integers(ArbitraryUtils.DEFAULT_GEN_SIZE));
+
+		then(actual).contains(0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	@Test
+	void integersAreBiasedTowardsZero() {
+		List<Integer> actual = generate(PrimitiveCombinableArbitraries.integers(ArbitraryUtils.DEFAULT_GEN_SIZE));
+
+		long small = actual.stream().filter(it -> Math.abs((long)it) <= 10_000).count();
+		then(small).isGreaterThan(SAMPLE_SIZE / 10);
+	}
+
+	@Test
+	void longsGenerateEdgeCases() {
+		List<Long> actual = generate(PrimitiveCombinableArbitraries.longs(ArbitraryUtils.DEFAULT_GEN_SIZE));
+
+		then(actual).contains(0L, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	@Test
+	void bytesGenerateEveryPartition() {
+		List<Byte> actual = generate(PrimitiveCombinableArbitraries.bytes(ArbitraryUtils.DEFAULT_GEN_SIZE));
+
+		then(actual).anySatisfy(it -> then(it).isLessThan((byte)-20))
+			.anySatisfy(it -> then(it).isBetween((byte)-20, (byte)20))
+			.anySatisfy(it -> then(it).isGreaterThan((byte)20));
+	}
+
+	@Test
+	void doublesHaveScaleTwo() {
+		List<Double> actual = generate(PrimitiveCombinableArbitraries.doubles(ArbitraryUtils.DEFAULT_GEN_SIZE));
+
+		then(actual).allSatisfy(it -> then(it).isFinite())
+			.filteredOn(it -> Math.abs(it) < 1_000_000)
+			.isNotEmpty()
+			.allSatisfy(it -> then(Math.round(it * 100) / 100.0).isEqualTo(it));
+	}
+
+	@Test
+	void floatsGenerateEdgeCases() {
+		List<Float> actual = generate(PrimitiveCombinableArbitraries.floats(ArbitraryUtils.DEFAULT_GEN_SIZE));
+
+		then(actual).allSatisfy(it -> then(it).isFinite())
+			.contains(0.0f, -Float.MAX_VALUE, Float.MAX_VALUE);
+	}
+
+	@Test
+	void booleansGenerateBoth() {
+		List<Boolean> actual = generate(PrimitiveCombinableArbitraries.booleans());
+
+		then(actual).contains(true, false);
+	}
+
+	private static <T> List<T> generate(CombinableArbitrary<T> arbitrary) {
+		List<T> generated = new ArrayList<>();
+		for (int i = 0; i < SAMPLE_SIZE; i++) {
+			generated.add(arbitrary.combined());
+		}
+		return generated;
+	}
+}
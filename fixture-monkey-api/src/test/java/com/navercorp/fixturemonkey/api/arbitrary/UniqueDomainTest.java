@@ -0,0 +1,106 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain.Cursor;
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
+
+class UniqueDomainTest {
+	@Test
+	void integersCursorReturnsEveryValueOnce() {
+		UniqueDomain<Integer> sut = UniqueDomain.integers(-3, 96);
+		Cursor cursor = sut.cursor();
+
+		Set<Integer> actual = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			actual.add(sut.getValue(cursor.next()));
+		}
+
+		then(actual).hasSize(100).allSatisfy(it -> then(it).isBetween(-3, 96));
+	}
+
+	@Test
+	void integersCursorThrowsWhenExhausted() {
+		UniqueDomain<Integer> sut = UniqueDomain.integers(0, 2);
+		Cursor cursor = sut.cursor();
+		for (int i = 0; i < 3; i++) {
+			cursor.next();
+		}
+
+		thenThrownBy(cursor::next).isExactlyInstanceOf(UniqueValueExhaustedException.class);
+	}
+
+	@Test
+	void longsOfWholeRange() {
+		UniqueDomain<Long> sut = UniqueDomain.longs(Long.MIN_VALUE, Long.MAX_VALUE);
+		Cursor cursor = sut.cursor();
+
+		Set<Long> actual = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			actual.add(sut.getValue(cursor.next()));
+		}
+
+		then(actual).hasSize(1000);
+	}
+
+	@Test
+	void enumsCursorReturnsEveryConstantOnce() {
+		UniqueDomain<TimeUnit> sut = UniqueDomain.enums(TimeUnit.class);
+		Cursor cursor = sut.cursor();
+
+		Set<TimeUnit> actual = new HashSet<>();
+		for (int i = 0; i < TimeUnit.values().length; i++) {
+			actual.add(sut.getValue(cursor.next()));
+		}
+
+		then(actual).containsExactlyInAnyOrder(TimeUnit.values());
+	}
+
+	@Test
+	void enumsNotEnumThrows() {
+		thenThrownBy(() -> UniqueDomain.enums(String.class))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void stringsOfDifferentSequencesAreDifferent() {
+		UniqueDomain<String> sut = UniqueDomain.strings("x1");
+
+		String actual = sut.getValue(2);
+
+		then(actual).isNotEqualTo(UniqueDomain.strings("x").getValue(12));
+	}
+
+	@Test
+	void domainsOfSameValuesAreEqual() {
+		then(UniqueDomain.integers(0, 9)).isEqualTo(UniqueDomain.integers(0, 9));
+		then(UniqueDomain.integers(0, 9)).isNotEqualTo(UniqueDomain.integers(0, 10));
+		then(UniqueDomain.integers(0, 9)).isNotEqualTo(UniqueDomain.longs(0, 9));
+		then(UniqueDomain.strings("a")).isEqualTo(UniqueDomain.strings("b"));
+	}
+}
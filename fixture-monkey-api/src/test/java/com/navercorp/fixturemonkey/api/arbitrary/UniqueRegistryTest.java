@@ -0,0 +1,42 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class UniqueRegistryTest {
+	@Test
+	void uniqueWithBloomFilterNeverReturnsDuplicate() {
+		AtomicInteger counter = new AtomicInteger();
+		CombinableArbitrary<Integer> sut = CombinableArbitrary.from(() -> counter.getAndIncrement() % 10)
+			.unique(UniqueRegistry.bloomFilter(10, 0.01));
+
+		Set<Integer> actual = new HashSet<>();
+		for (int i = 0; i < 5; i++) {
+			then(actual.add(sut.combined())).isTrue();
+			sut.clear();
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class CachedJavaConstraintGeneratorTest {
+	@Test
+	void generateConstraintOncePerProperty() {
+		// given
+		CountingJavaConstraintGenerator delegate = new CountingJavaConstraintGenerator();
+		CachedJavaConstraintGenerator sut = new CachedJavaConstraintGenerator(delegate);
+		ArbitraryGeneratorContext stringContext = context(PropertyUtils.toProperty(String.class), false);
+		ArbitraryGeneratorContext integerContext = context(PropertyUtils.toProperty(Integer.class), false);
+
+		// when
+		JavaStringConstraint firstStringConstraint = sut.generateStringConstraint(stringContext);
+		JavaStringConstraint secondStringConstraint = sut.generateStringConstraint(stringContext);
+		JavaIntegerConstraint firstIntegerConstraint = sut.generateIntegerConstraint(integerContext);
+		JavaIntegerConstraint secondIntegerConstraint = sut.generateIntegerConstraint(integerContext);
+
+		// then
+		then(delegate.stringCount).hasValue(1);
+		then(delegate.integerCount).hasValue(1);
+		then(firstStringConstraint).isNotNull().isSameAs(secondStringConstraint);
+		then(firstIntegerConstraint).isNotNull().isSameAs(secondIntegerConstraint);
+	}
+
+	@Test
+	void generateContainerConstraintOncePerProperty() {
+		// given
+		CountingJavaConstraintGenerator delegate = new CountingJavaConstraintGenerator();
+		CachedJavaConstraintGenerator sut = new CachedJavaConstraintGenerator(delegate);
+		ArbitraryGeneratorContext context = context(
+			PropertyUtils.toProperty(new TypeReference<List<String>>() {
+			}),
+			true
+		);
+
+		// when
+		JavaContainerConstraint first = sut.generateContainerConstraint(context);
+		JavaContainerConstraint second = sut.generateContainerConstraint(context);
+
+		// then
+		then(delegate.containerCount).hasValue(1);
+		then(first).isNotNull().isSameAs(second);
+	}
+
+	@Test
+	void generateDateTimeConstraintNotCached() {
+		// given
+		CountingJavaConstraintGenerator delegate = new CountingJavaConstraintGenerator();
+		CachedJavaConstraintGenerator sut = new CachedJavaConstraintGenerator(delegate);
+		ArbitraryGeneratorContext context = context(PropertyUtils.toProperty(LocalDateTime.class), false);
+
+		// when
+		JavaDateTimeConstraint first = sut.generateDateTimeConstraint(context);
+		JavaDateTimeConstraint second = sut.generateDateTimeConstraint(context);
+
+		// then
+		then(delegate.dateTimeCount).hasValue(2);
+		then(first).isNotSameAs(second);
+	}
+
+	@Test
+	void generateNotMatchingConstraintDelegated() {
+		// given
+		CountingJavaConstraintGenerator delegate = new CountingJavaConstraintGenerator();
+		CachedJavaConstraintGenerator sut = new CachedJavaConstraintGenerator(delegate);
+		ArbitraryGeneratorContext context = context(PropertyUtils.toProperty(String.class), false);
+
+		// when
+		sut.generateIntegerConstraint(context);
+		sut.generateIntegerConstraint(context);
+		sut.generateDecimalConstraint(context);
+		sut.generateDecimalConstraint(context);
+		sut.generateContainerConstraint(context);
+		sut.generateContainerConstraint(context);
+
+		// then
+		then(delegate.integerCount).hasValue(2);
+		then(delegate.decimalCount).hasValue(2);
+		then(delegate.containerCount).hasValue(2);
+		then(delegate.stringCount).hasValue(0);
+	}
+
+	private static ArbitraryGeneratorContext context(Property property, boolean container) {
+		return new ArbitraryGeneratorContext(
+			property,
+			new ArbitraryProperty(
+				new ObjectProperty(property, PropertyNameResolver.IDENTITY, 0.0d, null, Collections.emptyMap()),
+				container
+			),
+			Collections.emptyList(),
+			null,
+			(context, arbitraryProperty) -> null,
+			new MonkeyGeneratorContext(new ConcurrentSkipListMap<>()),
+			0
+		);
+	}
+
+	private static final class CountingJavaConstraintGenerator implements JavaConstraintGenerator {
+		private final AtomicInteger stringCount = new AtomicInteger();
+		private final AtomicInteger integerCount = new AtomicInteger();
+		private final AtomicInteger decimalCount = new AtomicInteger();
+		private final AtomicInteger containerCount = new AtomicInteger();
+		private final AtomicInteger dateTimeCount = new AtomicInteger();
+
+		@Override
+		public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+			stringCount.incrementAndGet();
+			return new JavaStringConstraint(BigInteger.ONE, BigInteger.TEN, false, true, true, null, false);
+		}
+
+		@Override
+		public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+			integerCount.incrementAndGet();
+			return new JavaIntegerConstraint(BigInteger.ONE, BigInteger.TEN, null, null);
+		}
+
+		@Override
+		@Nullable
+		public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+			decimalCount.incrementAndGet();
+			return null;
+		}
+
+		@Override
+		public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+			containerCount.incrementAndGet();
+			return new JavaContainerConstraint(1, 3, true);
+		}
+
+		@Override
+		public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+			dateTimeCount.incrementAndGet();
+			return new JavaDateTimeConstraint(LocalDateTime::now, null);
+		}
+	}
+}
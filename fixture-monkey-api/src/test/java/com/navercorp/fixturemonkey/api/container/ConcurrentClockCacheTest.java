@@ -0,0 +1,123 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentClockCacheTest {
+	@Test
+	void getCountsHitAndMiss() {
+		ConcurrentClockCache<String, Integer> sut = new ConcurrentClockCache<>(2);
+		sut.put("a", 1);
+
+		Integer hit = sut.get("a");
+		Integer miss = sut.get("b");
+
+		then(hit).isEqualTo(1);
+		then(miss).isNull();
+		then(sut.getHitCount()).isEqualTo(1);
+		then(sut.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void putEvictsNotReferencedFirst() {
+		ConcurrentClockCache<String, Integer> sut = new ConcurrentClockCache<>(2);
+		sut.put("a", 1);
+		sut.put("b", 2);
+		sut.get("a");
+
+		sut.put("c", 3);
+
+		then(sut).containsOnlyKeys("a", "c");
+		then(sut.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void putReplacesValue() {
+		ConcurrentClockCache<String, Integer> sut = new ConcurrentClockCache<>(2);
+		sut.put("a", 1);
+
+		Integer previous = sut.put("a", 2);
+
+		then(previous).isEqualTo(1);
+		then(sut).hasSize(1).containsEntry("a", 2);
+	}
+
+	@Test
+	void computeIfAbsentComputesOnce() throws Exception {
+		ConcurrentClockCache<String, Integer> sut = new ConcurrentClockCache<>(16);
+		AtomicInteger computeCount = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				futures.add(
+					executorService.submit(() -> sut.computeIfAbsent("a", it -> computeCount.incrementAndGet()))
+				);
+			}
+			for (Future<Integer> future : futures) {
+				then(future.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		then(computeCount).hasValue(1);
+	}
+
+	@Test
+	void sizeBounded() throws Exception {
+		int maxSize = 100;
+		ConcurrentClockCache<Integer, Integer> sut = new ConcurrentClockCache<>(maxSize);
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				int offset = thread * 1000;
+				futures.add(executorService.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						sut.put(offset + i, i);
+						sut.get(offset + i / 2);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		sut.put(-1, -1);
+		then(sut.size()).isLessThanOrEqualTo(maxSize);
+		then(sut.getEvictionCount()).isGreaterThanOrEqualTo(8 * 1000 + 1 - maxSize);
+	}
+}
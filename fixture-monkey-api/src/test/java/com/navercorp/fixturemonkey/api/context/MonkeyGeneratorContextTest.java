@@ -0,0 +1,177 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueDomain;
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+
+class MonkeyGeneratorContextTest {
+	private static final PropertyPath PROPERTY_PATH =
+		new PropertyPath(PropertyUtils.toProperty(Boolean.class), null, 1);
+	private static final UniqueDomain<Boolean> BOOLEANS = UniqueDomain.booleans();
+
+	@Test
+	void nextUniqueReturnsNotGenerated() {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(new ConcurrentSkipListMap<>());
+		sut.isUniqueAndCheck(PROPERTY_PATH, true);
+
+		// when
+		Boolean actual = sut.nextUnique(PROPERTY_PATH, BOOLEANS);
+
+		then(actual).isFalse();
+	}
+
+	@Test
+	void nextUniqueExhaustedThrowsWithPropertyPath() {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(new ConcurrentSkipListMap<>());
+		sut.isUniqueAndCheck(PROPERTY_PATH, true);
+		sut.isUniqueAndCheck(PROPERTY_PATH, false);
+
+		// when, then
+		thenThrownBy(() -> sut.nextUnique(PROPERTY_PATH, BOOLEANS))
+			.isExactlyInstanceOf(UniqueValueExhaustedException.class)
+			.hasMessageContaining("property : $")
+			.extracting(it -> ((UniqueValueExhaustedException)it).getPropertyPath())
+			.isEqualTo(PROPERTY_PATH);
+	}
+
+	@Test
+	void nextUniqueAfterEvicted() {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(new ConcurrentSkipListMap<>());
+		sut.isUniqueAndCheck(PROPERTY_PATH, true);
+		sut.isUniqueAndCheck(PROPERTY_PATH, false);
+
+		// when
+		sut.evictUnique(PROPERTY_PATH);
+
+		then(sut.nextUnique(PROPERTY_PATH, BOOLEANS)).isIn(true, false);
+	}
+
+	@Test
+	void nextUniqueVisitsEveryValueOnce() {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(new ConcurrentSkipListMap<>());
+		UniqueDomain<Integer> domain = UniqueDomain.integers(0, 9999);
+		Set<Integer> actual = new HashSet<>();
+
+		// when
+		for (int i = 0; i < 10000; i++) {
+			Integer value = sut.nextUnique(PROPERTY_PATH, domain);
+			then(sut.isUniqueAndCheck(PROPERTY_PATH, value)).isTrue();
+			actual.add(value);
+		}
+
+		then(actual).hasSize(10000);
+		thenThrownBy(() -> sut.nextUnique(PROPERTY_PATH, domain))
+			.isExactlyInstanceOf(UniqueValueExhaustedException.class);
+	}
+
+	@Test
+	void nextUniqueVisitsSkippedValueAgain() {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(new ConcurrentSkipListMap<>());
+		Boolean skipped = sut.nextUnique(PROPERTY_PATH, BOOLEANS);
+		sut.isUniqueAndCheck(PROPERTY_PATH, sut.nextUnique(PROPERTY_PATH, BOOLEANS));
+
+		// when
+		Boolean actual = sut.nextUnique(PROPERTY_PATH, BOOLEANS);
+
+		then(actual).isEqualTo(skipped);
+	}
+
+	@Test
+	void nextUniqueAfterEvictedVisitsEveryValue() {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(new ConcurrentSkipListMap<>());
+		UniqueDomain<Integer> domain = UniqueDomain.integers(0, 2);
+		for (int i = 0; i < 3; i++) {
+			sut.isUniqueAndCheck(PROPERTY_PATH, sut.nextUnique(PROPERTY_PATH, domain));
+		}
+
+		// when
+		sut.evictUnique(PROPERTY_PATH);
+
+		Set<Integer> actual = new HashSet<>();
+		for (int i = 0; i < 3; i++) {
+			Integer value = sut.nextUnique(PROPERTY_PATH, domain);
+			sut.isUniqueAndCheck(PROPERTY_PATH, value);
+			actual.add(value);
+		}
+		then(actual).containsExactlyInAnyOrder(0, 1, 2);
+	}
+
+	@Test
+	void isUniqueAndCheckConcurrentlyWithNotConcurrentMap() throws Exception {
+		// given
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext(new TreeMap<>());
+		int threadCount = 8;
+		int valueCount = 1000;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> futures = new ArrayList<>();
+
+		// when
+		try {
+			for (int i = 0; i < threadCount; i++) {
+				futures.add(executorService.submit(() -> {
+					start.await();
+					int unique = 0;
+					for (int value = 0; value < valueCount; value++) {
+						if (sut.isUniqueAndCheck(PROPERTY_PATH, value)) {
+							unique++;
+						}
+					}
+					return unique;
+				}));
+			}
+			start.countDown();
+
+			int actual = 0;
+			for (Future<Integer> future : futures) {
+				actual += future.get(10, TimeUnit.SECONDS);
+			}
+
+			then(actual).isEqualTo(valueCount);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+class ArbitraryUtilsTest {
+	@Test
+	void toCombinableArbitraryGeneratesSameValueAsSample() {
+		Arbitrary<String> arbitrary = Arbitraries.strings().ofMaxLength(10);
+		Randoms.create("123");
+		String expected = ArbitraryUtils.sample(arbitrary);
+
+		Randoms.create("123");
+		CombinableArbitrary<String> sut = ArbitraryUtils.toCombinableArbitrary(arbitrary);
+		String actual = sut.combined();
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void toCombinableArbitraryGeneratesFlatMappedArbitrary() {
+		CombinableArbitrary<String> sut = ArbitraryUtils.toCombinableArbitrary(
+			Arbitraries.integers().between(1, 3).flatMap(it -> Arbitraries.strings().ofLength(it)),
+			10
+		);
+
+		for (int i = 0; i < 10; i++) {
+			then(sut.combined()).hasSizeBetween(1, 3);
+			sut.clear();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class MatcherOperatorIndexTest {
+	@Test
+	void findOperatorReturnsFirstMatched() {
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(
+			Arrays.asList(
+				MatcherOperator.exactTypeMatchOperator(Integer.class, "integer"),
+				MatcherOperator.assignableTypeMatchOperator(CharSequence.class, "charSequence"),
+				MatcherOperator.exactTypeMatchOperator(String.class, "string")
+			)
+		);
+
+		String actual = sut.findOperator(rootProperty(new TypeReference<String>() {
+		}));
+
+		then(actual).isEqualTo("charSequence");
+	}
+
+	@Test
+	void findOperatorReturnsExactTypeMatchedBeforeAssignableTypeMatched() {
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(
+			Arrays.asList(
+				MatcherOperator.exactTypeMatchOperator(String.class, "string"),
+				MatcherOperator.assignableTypeMatchOperator(CharSequence.class, "charSequence")
+			)
+		);
+
+		String actual = sut.findOperator(rootProperty(new TypeReference<String>() {
+		}));
+
+		then(actual).isEqualTo("string");
+	}
+
+	@Test
+	void findOperatorReturnsCustomMatchedBeforeTypeMatched() {
+		Property customProperty = rootProperty(new TypeReference<String>() {
+		});
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(
+			Arrays.asList(
+				new MatcherOperator<>(property -> property == customProperty, "custom"),
+				MatcherOperator.exactTypeMatchOperator(String.class, "string")
+			)
+		);
+
+		String customActual = sut.findOperator(customProperty);
+		String actual = sut.findOperator(rootProperty(new TypeReference<String>() {
+		}));
+
+		then(customActual).isEqualTo("custom");
+		then(actual).isEqualTo("string");
+	}
+
+	@Test
+	void findOperatorNotReturnsCustomMatchedAfterTypeMatched() {
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(
+			Arrays.asList(
+				MatcherOperator.assignableTypeMatchOperator(CharSequence.class, "charSequence"),
+				new MatcherOperator<>(property -> true, "custom")
+			)
+		);
+
+		String actual = sut.findOperator(rootProperty(new TypeReference<String>() {
+		}));
+
+		then(actual).isEqualTo("charSequence");
+	}
+
+	@Test
+	void findOperatorReturnsNullIfNotMatched() {
+		MatcherOperatorIndex<String> sut = new MatcherOperatorIndex<>(
+			Collections.singletonList(MatcherOperator.exactTypeMatchOperator(Integer.class, "integer"))
+		);
+
+		String actual = sut.findOperator(rootProperty(new TypeReference<List<String>>() {
+		}));
+
+		then(actual).isNull();
+	}
+
+	private static Property rootProperty(TypeReference<?> typeReference) {
+		return new RootProperty(typeReference.getAnnotatedType());
+	}
+}
@@ -79,4 +79,14 @@ class FieldPropertyTest {
 		PropertyValue propertyValue = new PropertyValue("hello world");
 		then(sut.getValue(propertyValue)).isEqualTo("hello world");
 	}
+
+	@Test
+	void annotationsInternedPerField() throws NoSuchFieldException {
+		Field field = PropertyValue.class.getDeclaredField("name");
+		FieldProperty sut = new FieldProperty(field);
+		FieldProperty other = new FieldProperty(field);
+
+		then(sut.getAnnotations()).isSameAs(other.getAnnotations());
+		then(sut).isEqualTo(other).hasSameHashCodeAs(other);
+	}
 }
@@ -0,0 +1,84 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class RegexGeneratorTest {
+	private static final int[] NO_FLAGS = new int[0];
+
+	@Test
+	void compiledRegexSamplesMatchedString() {
+		CompiledRegex sut = new RegexGenerator().compile("\\d{3}-\\d{4}", NO_FLAGS, null, null);
+		Random random = new Random(0L);
+
+		for (int i = 0; i < 1000; i++) {
+			then(sut.sample(random)).matches("[0-9]{3}-[0-9]{4}");
+		}
+	}
+
+	@Test
+	void compiledRegexSamplesWithinLength() {
+		CompiledRegex sut = new RegexGenerator().compile("[a-z]+", NO_FLAGS, 3, 5);
+		Random random = new Random(0L);
+
+		for (int i = 0; i < 1000; i++) {
+			then(sut.sample(random)).matches("[a-z]{3,5}");
+		}
+	}
+
+	@Test
+	void compiledRegexSamplesMoreThanHundredValues() {
+		CompiledRegex sut = new RegexGenerator().compile("[a-z]{8}", NO_FLAGS, null, null);
+		Random random = new Random(0L);
+
+		Set<String> actual = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			actual.add(sut.sample(random));
+		}
+
+		then(actual).hasSizeGreaterThan(100);
+	}
+
+	@Test
+	void compileReturnsCached() {
+		RegexGenerator sut = new RegexGenerator();
+
+		CompiledRegex actual = sut.compile("[a-z]+", NO_FLAGS, 1, 3);
+
+		then(actual).isSameAs(sut.compile("[a-z]+", NO_FLAGS, 1, 3));
+		then(actual).isNotSameAs(sut.compile("[a-z]+", NO_FLAGS, 1, 4));
+	}
+
+	@Test
+	void sampleNotMatchedLengthThrows() {
+		CompiledRegex sut = new RegexGenerator().compile("[a-z]{5}", NO_FLAGS, null, 3);
+
+		then(sut.isEmpty()).isTrue();
+		thenThrownBy(() -> sut.sample(new Random(0L)))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TypeCacheTest {
+	@Test
+	void fieldSetterSetsField() throws Throwable {
+		// given
+		TestTarget target = new TestTarget();
+		MethodHandle setter = TypeCache.getFieldSettersByName(TestTarget.class).get("name");
+
+		// when
+		setter.invokeExact((Object)target, (Object)"test");
+
+		then(target.name).isEqualTo("test");
+	}
+
+	@Test
+	void fieldSettersExcludeTransientField() {
+		Map<String, MethodHandle> actual = TypeCache.getFieldSettersByName(TestTarget.class);
+
+		then(actual).containsOnlyKeys("name", "age");
+	}
+
+	@Test
+	void writeMethodHandleInvokesSetter() throws Throwable {
+		// given
+		TestTarget target = new TestTarget();
+		MethodHandle writeMethod = TypeCache.getWriteMethodHandlesByPropertyName(TestTarget.class).get("age");
+
+		// when
+		writeMethod.invokeExact((Object)target, (Object)3);
+
+		then(target.age).isEqualTo(3);
+	}
+
+	@Test
+	void constructorHandleNewInstance() throws NoSuchMethodException {
+		// given
+		ConstructorHandle constructor = TypeCache.getConstructorHandle(
+			TestTarget.class.getDeclaredConstructor(String.class, int.class)
+		);
+
+		// when
+		Object actual = constructor.newInstance("test", 3);
+
+		then(actual).isInstanceOfSatisfying(TestTarget.class, it -> {
+			then(it.name).isEqualTo("test");
+			then(it.age).isEqualTo(3);
+		});
+	}
+
+	@Test
+	void constructorHandleNullPrimitiveArgumentThrows() throws NoSuchMethodException {
+		ConstructorHandle constructor = TypeCache.getConstructorHandle(
+			TestTarget.class.getDeclaredConstructor(String.class, int.class)
+		);
+
+		thenThrownBy(() -> constructor.newInstance("test", null))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void noArgsConstructorHandleNewInstance() {
+		Object actual = TypeCache.getNoArgsConstructorHandle(TestTarget.class).newInstance();
+
+		then(actual).isInstanceOf(TestTarget.class);
+	}
+
+	public static class TestTarget {
+		private String name;
+		private int age;
+		private transient String ignored;
+
+		public TestTarget() {
+		}
+
+		private TestTarget(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+	}
+}
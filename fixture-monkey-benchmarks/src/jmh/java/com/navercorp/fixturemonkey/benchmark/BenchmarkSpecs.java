@@ -0,0 +1,202 @@
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.beans.ConstructorProperties;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Value;
+
+public final class BenchmarkSpecs {
+	private BenchmarkSpecs() {
+	}
+
+	public enum OrderStatus {
+		ORDERED,
+		PAID,
+		SHIPPED,
+		DELIVERED,
+		CANCELED
+	}
+
+	@Data
+	public static class Order {
+		private String id;
+		private long orderNo;
+		private BigDecimal price;
+		private Instant orderedAt;
+		private OrderStatus status;
+		private List<OrderItem> items;
+		private Map<String, String> attributes;
+	}
+
+	@Data
+	public static class OrderItem {
+		private String name;
+		private int quantity;
+		private BigDecimal price;
+	}
+
+	@Getter
+	public static class ConstructorOrder {
+		private final String id;
+		private final long orderNo;
+		private final BigDecimal price;
+		private final Instant orderedAt;
+		private final OrderStatus status;
+		private final List<String> itemNames;
+
+		@ConstructorProperties({"id", "orderNo", "price", "orderedAt", "status", "itemNames"})
+		public ConstructorOrder(
+			String id,
+			long orderNo,
+			BigDecimal price,
+			Instant orderedAt,
+			OrderStatus status,
+			List<String> itemNames
+		) {
+			this.id = id;
+			this.orderNo = orderNo;
+			this.price = price;
+			this.orderedAt = orderedAt;
+			this.status = status;
+			this.itemNames = itemNames;
+		}
+	}
+
+	@Value
+	@Builder
+	public static class BuilderOrder {
+		String id;
+		long orderNo;
+		BigDecimal price;
+		Instant orderedAt;
+		OrderStatus status;
+		List<String> itemNames;
+	}
+
+	@Data
+	public static class DeepObject {
+		private String value;
+		private DepthTwo child;
+	}
+
+	@Data
+	public static class DepthTwo {
+		private String value;
+		private DepthThree child;
+	}
+
+	@Data
+	public static class DepthThree {
+		private String value;
+		private DepthFour child;
+	}
+
+	@Data
+	public static class DepthFour {
+		private String value;
+		private DepthFive child;
+	}
+
+	@Data
+	public static class DepthFive {
+		private String value;
+		private DepthSix child;
+	}
+
+	@Data
+	public static class DepthSix {
+		private String value;
+		private int number;
+		private List<String> values;
+	}
+
+	@Data
+	public static class WideObject {
+		private String string1;
+		private String string2;
+		private String string3;
+		private String string4;
+		private String string5;
+		private String string6;
+		private String string7;
+		private String string8;
+		private int int1;
+		private int int2;
+		private int int3;
+		private int int4;
+		private Integer integer1;
+		private Integer integer2;
+		private Integer integer3;
+		private Integer integer4;
+		private long long1;
+		private long long2;
+		private Long wrapperLong1;
+		private Long wrapperLong2;
+		private double double1;
+		private double double2;
+		private Double wrapperDouble1;
+		private Double wrapperDouble2;
+		private boolean boolean1;
+		private Boolean wrapperBoolean1;
+		private BigDecimal bigDecimal1;
+		private BigDecimal bigDecimal2;
+		private Instant instant1;
+		private LocalDate localDate1;
+		private OrderStatus status1;
+		private OrderStatus status2;
+	}
+
+	@Data
+	public static class ContainerObject {
+		private List<String> values;
+		private Set<Long> ids;
+		private Map<String, Integer> counts;
+		private List<OrderItem> items;
+	}
+
+	@Data
+	public static class ValidatedOrder {
+		@NotBlank
+		@Size(min = 8, max = 20)
+		private String id;
+
+		@Pattern(regexp = "^01[016789]-\\d{3,4}-\\d{4}$")
+		private String phoneNumber;
+
+		@Pattern(regexp = "\\d{5}")
+		private String postalCode;
+
+		@Email
+		private String email;
+
+		@Min(1)
+		@Max(100)
+		private int quantity;
+
+		@Positive
+		private BigDecimal price;
+
+		@Past
+		private Instant orderedAt;
+
+		@Size(min = 1, max = 3)
+		private List<@NotBlank String> itemNames;
+	}
+}
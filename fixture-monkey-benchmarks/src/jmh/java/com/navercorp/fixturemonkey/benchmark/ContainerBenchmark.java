@@ -0,0 +1,52 @@
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.ContainerObject;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ContainerBenchmark {
+	private final FixtureMonkey fixtureMonkey = FixtureMonkey.create();
+
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	@Benchmark
+	public ContainerObject list() {
+		return fixtureMonkey.giveMeBuilder(ContainerObject.class)
+			.size("values", size)
+			.sample();
+	}
+
+	@Benchmark
+	public ContainerObject set() {
+		return fixtureMonkey.giveMeBuilder(ContainerObject.class)
+			.size("ids", size)
+			.sample();
+	}
+
+	@Benchmark
+	public ContainerObject map() {
+		return fixtureMonkey.giveMeBuilder(ContainerObject.class)
+			.size("counts", size)
+			.sample();
+	}
+
+	@Benchmark
+	public ContainerObject objectList() {
+		return fixtureMonkey.giveMeBuilder(ContainerObject.class)
+			.size("items", size)
+			.sample();
+	}
+}
@@ -0,0 +1,110 @@
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.FixtureMonkeyBuilder;
+import com.navercorp.fixturemonkey.api.introspector.BeanArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.FailoverIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.BuilderOrder;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.ConstructorOrder;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.Order;
+import com.navercorp.fixturemonkey.jackson.plugin.JacksonPlugin;
+import com.navercorp.fixturemonkey.kotlin.KotlinPlugin;
+
+/**
+ * Measures the steady-state generation per introspector, {@link FixtureMonkey} is built once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IntrospectorBenchmark {
+	@Param
+	public Introspector introspector;
+
+	private FixtureMonkey fixtureMonkey;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.fixtureMonkey = introspector.configure(FixtureMonkey.builder()).build();
+	}
+
+	@Benchmark
+	public Object giveMeOne() {
+		return fixtureMonkey.giveMeOne(introspector.type);
+	}
+
+	public enum Introspector {
+		BEAN(Order.class) {
+			@Override
+			FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder) {
+				return builder.objectIntrospector(BeanArbitraryIntrospector.INSTANCE);
+			}
+		},
+		FIELD_REFLECTION(Order.class) {
+			@Override
+			FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder) {
+				return builder.objectIntrospector(FieldReflectionArbitraryIntrospector.INSTANCE);
+			}
+		},
+		CONSTRUCTOR_PROPERTIES(ConstructorOrder.class) {
+			@Override
+			FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder) {
+				return builder.objectIntrospector(ConstructorPropertiesArbitraryIntrospector.INSTANCE);
+			}
+		},
+		BUILDER(BuilderOrder.class) {
+			@Override
+			FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder) {
+				return builder.objectIntrospector(BuilderArbitraryIntrospector.INSTANCE);
+			}
+		},
+		JACKSON(Order.class) {
+			@Override
+			FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder) {
+				return builder.plugin(new JacksonPlugin());
+			}
+		},
+		FAILOVER(Order.class) {
+			@Override
+			FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder) {
+				return builder.objectIntrospector(
+					new FailoverIntrospector(
+						Arrays.asList(
+							ConstructorPropertiesArbitraryIntrospector.INSTANCE,
+							BeanArbitraryIntrospector.INSTANCE
+						)
+					)
+				);
+			}
+		},
+		KOTLIN(KotlinOrder.class) {
+			@Override
+			FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder) {
+				return builder.plugin(new KotlinPlugin());
+			}
+		};
+
+		private final Class<?> type;
+
+		Introspector(Class<?> type) {
+			this.type = type;
+		}
+
+		abstract FixtureMonkeyBuilder configure(FixtureMonkeyBuilder builder);
+	}
+}
@@ -0,0 +1,65 @@
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.Order;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.OrderStatus;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ManipulationChainBenchmark {
+	private final FixtureMonkey fixtureMonkey = FixtureMonkey.create();
+
+	@Benchmark
+	public Order set() {
+		return fixtureMonkey.giveMeBuilder(Order.class)
+			.set("id", "order")
+			.set("status", OrderStatus.PAID)
+			.set("items[*].quantity", 1)
+			.sample();
+	}
+
+	@Benchmark
+	public Order size() {
+		return fixtureMonkey.giveMeBuilder(Order.class)
+			.size("items", 5)
+			.size("attributes", 3)
+			.sample();
+	}
+
+	@Benchmark
+	public Order setPostCondition() {
+		return fixtureMonkey.giveMeBuilder(Order.class)
+			.setPostCondition("orderNo", Long.class, it -> it > 0)
+			.setPostCondition("price", BigDecimal.class, it -> it.signum() > 0)
+			.sample();
+	}
+
+	@Benchmark
+	public Order thenApply() {
+		return fixtureMonkey.giveMeBuilder(Order.class)
+			.thenApply((order, builder) -> builder.set("id", String.valueOf(order.getOrderNo())))
+			.sample();
+	}
+
+	@Benchmark
+	public Order chain() {
+		return fixtureMonkey.giveMeBuilder(Order.class)
+			.set("status", OrderStatus.SHIPPED)
+			.size("items", 3)
+			.set("items[*].quantity", 1)
+			.setPostCondition("orderNo", Long.class, it -> it > 0)
+			.thenApply((order, builder) -> builder.set("id", String.valueOf(order.getOrderNo())))
+			.sample();
+	}
+}
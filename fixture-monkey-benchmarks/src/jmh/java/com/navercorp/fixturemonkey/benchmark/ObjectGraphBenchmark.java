@@ -0,0 +1,31 @@
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.DeepObject;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.WideObject;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ObjectGraphBenchmark {
+	private final FixtureMonkey fixtureMonkey = FixtureMonkey.create();
+
+	@Benchmark
+	public DeepObject deep() {
+		return fixtureMonkey.giveMeOne(DeepObject.class);
+	}
+
+	@Benchmark
+	public WideObject wide() {
+		return fixtureMonkey.giveMeOne(WideObject.class);
+	}
+}
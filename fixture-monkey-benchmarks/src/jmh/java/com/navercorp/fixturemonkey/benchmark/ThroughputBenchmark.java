@@ -0,0 +1,50 @@
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.Order;
+
+/**
+ * Measures the throughput of a {@link FixtureMonkey} shared by threads and the bulk generation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ThroughputBenchmark {
+	private static final int BULK_SIZE = 1000;
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	private final FixtureMonkey fixtureMonkey = FixtureMonkey.create();
+
+	@Benchmark
+	@Threads(1)
+	public Order singleThread() {
+		return fixtureMonkey.giveMeOne(Order.class);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Order fourThreads() {
+		return fixtureMonkey.giveMeOne(Order.class);
+	}
+
+	@Benchmark
+	public List<Order> giveMe() {
+		return fixtureMonkey.giveMe(Order.class, BULK_SIZE);
+	}
+
+	@Benchmark
+	public List<Order> giveMeParallel() {
+		return fixtureMonkey.giveMeParallel(Order.class, BULK_SIZE, PARALLELISM);
+	}
+}
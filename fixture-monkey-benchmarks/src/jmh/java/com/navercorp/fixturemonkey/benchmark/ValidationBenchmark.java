@@ -0,0 +1,35 @@
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.ValidatedOrder;
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+	private final FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
+		.plugin(new JavaxValidationPlugin())
+		.build();
+
+	@Benchmark
+	public ValidatedOrder validOnly() {
+		return fixtureMonkey.giveMeOne(ValidatedOrder.class);
+	}
+
+	@Benchmark
+	public ValidatedOrder notValidOnly() {
+		return fixtureMonkey.giveMeBuilder(ValidatedOrder.class)
+			.validOnly(false)
+			.sample();
+	}
+}
@@ -0,0 +1,14 @@
+package com.navercorp.fixturemonkey.benchmark
+
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.OrderStatus
+import java.math.BigDecimal
+import java.time.Instant
+
+data class KotlinOrder(
+    val id: String,
+    val orderNo: Long,
+    val price: BigDecimal,
+    val orderedAt: Instant,
+    val status: OrderStatus,
+    val itemNames: List<String>,
+)
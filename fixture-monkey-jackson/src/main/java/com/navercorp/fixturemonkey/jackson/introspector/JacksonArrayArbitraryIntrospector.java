@@ -18,16 +18,15 @@
 
 package com.navercorp.fixturemonkey.jackson.introspector;
 
-import java.lang.reflect.Type;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.ArrayType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
@@ -36,7 +35,6 @@ import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
-import com.navercorp.fixturemonkey.jackson.type.JacksonTypeReference;
 
 @API(since = "0.5.5", status = Status.MAINTAINED)
 public final class JacksonArrayArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
@@ -45,10 +43,14 @@ public final class JacksonArrayArbitraryIntrospector implements ArbitraryIntrosp
 	);
 	private static final ArbitraryIntrospector DELEGATOR = new ListIntrospector();
 
-	private final ObjectMapper objectMapper;
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final JsonValueConverter jsonValueConverter;
+	private final ConcurrentClockCache<Property, JavaType> javaTypesByProperty =
+		new ConcurrentClockCache<>(DEFAULT_CACHE_SIZE);
 
 	public JacksonArrayArbitraryIntrospector(ObjectMapper objectMapper) {
-		this.objectMapper = objectMapper;
+		this.jsonValueConverter = new JsonValueConverter(objectMapper);
 	}
 
 	@Override
@@ -58,23 +60,25 @@ public final class JacksonArrayArbitraryIntrospector implements ArbitraryIntrosp
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
-		Property property = context.getResolvedProperty();
-		TypeFactory typeFactory = TypeFactory.defaultInstance();
-		JavaType elementType = typeFactory.constructType(new JacksonTypeReference<Object>() {
-			@Override
-			public Type getType() {
-				return Types.getArrayComponentAnnotatedType(property.getAnnotatedType()).getType();
-			}
-		});
-
-		ArrayType arrayType = TypeFactory.defaultInstance()
-			.constructArrayType(elementType);
+		JavaType arrayType = javaTypesByProperty.computeIfAbsent(
+			context.getResolvedProperty(),
+			JacksonArrayArbitraryIntrospector::toArrayType
+		);
 
 		return new ArbitraryIntrospectorResult(
 			new JacksonCombinableArbitrary<>(
 				DELEGATOR.introspect(context).getValue(),
-				list -> objectMapper.convertValue(list, arrayType)
+				list -> jsonValueConverter.convert(list, arrayType)
 			)
 		);
 	}
+
+	private static JavaType toArrayType(Property property) {
+		TypeFactory typeFactory = TypeFactory.defaultInstance();
+		JavaType elementType = typeFactory.constructType(
+			Types.getArrayComponentAnnotatedType(property.getAnnotatedType()).getType()
+		);
+
+		return typeFactory.constructArrayType(elementType);
+	}
 }
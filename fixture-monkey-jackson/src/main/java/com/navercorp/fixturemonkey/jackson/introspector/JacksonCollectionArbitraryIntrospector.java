@@ -19,7 +19,6 @@
 package com.navercorp.fixturemonkey.jackson.introspector;
 
 import java.lang.reflect.AnnotatedType;
-import java.lang.reflect.Type;
 import java.util.Collection;
 
 import org.apiguardian.api.API;
@@ -27,9 +26,9 @@ import org.apiguardian.api.API.Status;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
@@ -38,7 +37,6 @@ import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
-import com.navercorp.fixturemonkey.jackson.type.JacksonTypeReference;
 
 @API(since = "0.5.5", status = Status.MAINTAINED)
 public final class JacksonCollectionArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
@@ -47,10 +45,14 @@ public final class JacksonCollectionArbitraryIntrospector implements ArbitraryIn
 	);
 	private static final ArbitraryIntrospector DELEGATOR = new ListIntrospector();
 
-	private final ObjectMapper objectMapper;
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final JsonValueConverter jsonValueConverter;
+	private final ConcurrentClockCache<Property, JavaType> javaTypesByProperty =
+		new ConcurrentClockCache<>(DEFAULT_CACHE_SIZE);
 
 	public JacksonCollectionArbitraryIntrospector(ObjectMapper objectMapper) {
-		this.objectMapper = objectMapper;
+		this.jsonValueConverter = new JsonValueConverter(objectMapper);
 	}
 
 	@Override
@@ -58,28 +60,28 @@ public final class JacksonCollectionArbitraryIntrospector implements ArbitraryIn
 		return Collection.class.isAssignableFrom(Types.getActualType(property.getType()));
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
-		Property property = context.getResolvedProperty();
-		Class<?> containerType = Types.getActualType(property.getType());
-		TypeFactory typeFactory = TypeFactory.defaultInstance();
-		AnnotatedType elementAnnotatedType = Types.getGenericsTypes(property.getAnnotatedType()).get(0);
-		JavaType elementType = typeFactory.constructType(new JacksonTypeReference<Object>() {
-			@Override
-			public Type getType() {
-				return elementAnnotatedType.getType();
-			}
-		});
-
-		CollectionType collectionType = typeFactory
-			.constructCollectionType((Class<? extends Collection<?>>)containerType, elementType);
+		JavaType collectionType = javaTypesByProperty.computeIfAbsent(
+			context.getResolvedProperty(),
+			JacksonCollectionArbitraryIntrospector::toCollectionType
+		);
 
 		return new ArbitraryIntrospectorResult(
 			new JacksonCombinableArbitrary<>(
 				DELEGATOR.introspect(context).getValue(),
-				list -> objectMapper.convertValue(list, collectionType)
+				list -> jsonValueConverter.convert(list, collectionType)
 			)
 		);
 	}
+
+	@SuppressWarnings("unchecked")
+	private static JavaType toCollectionType(Property property) {
+		Class<?> containerType = Types.getActualType(property.getType());
+		TypeFactory typeFactory = TypeFactory.defaultInstance();
+		AnnotatedType elementAnnotatedType = Types.getGenericsTypes(property.getAnnotatedType()).get(0);
+		JavaType elementType = typeFactory.constructType(elementAnnotatedType.getType());
+
+		return typeFactory.constructCollectionType((Class<? extends Collection<?>>)containerType, elementType);
+	}
 }
@@ -19,7 +19,6 @@
 package com.navercorp.fixturemonkey.jackson.introspector;
 
 import java.lang.reflect.AnnotatedType;
-import java.lang.reflect.Type;
 import java.util.Map;
 
 import org.apiguardian.api.API;
@@ -27,9 +26,9 @@ import org.apiguardian.api.API.Status;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.MapLikeType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
@@ -38,7 +37,6 @@ import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
-import com.navercorp.fixturemonkey.jackson.type.JacksonTypeReference;
 
 @API(since = "0.5.5", status = Status.MAINTAINED)
 public final class JacksonMapArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
@@ -47,10 +45,14 @@ public final class JacksonMapArbitraryIntrospector implements ArbitraryIntrospec
 	);
 	private static final ArbitraryIntrospector DELEGATOR = new MapIntrospector();
 
-	private final ObjectMapper objectMapper;
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final JsonValueConverter jsonValueConverter;
+	private final ConcurrentClockCache<Property, JavaType> javaTypesByProperty =
+		new ConcurrentClockCache<>(DEFAULT_CACHE_SIZE);
 
 	public JacksonMapArbitraryIntrospector(ObjectMapper objectMapper) {
-		this.objectMapper = objectMapper;
+		this.jsonValueConverter = new JsonValueConverter(objectMapper);
 	}
 
 	@Override
@@ -58,38 +60,31 @@ public final class JacksonMapArbitraryIntrospector implements ArbitraryIntrospec
 		return Map.class.isAssignableFrom(Types.getActualType(property.getType()));
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
-		TypeFactory typeFactory = TypeFactory.defaultInstance();
-
-		Property property = context.getResolvedProperty();
-		Class<? extends Map<?, ?>> containerType = (Class<? extends Map<?, ?>>)Types.getActualType(property.getType());
-
-		AnnotatedType keyAnnotatedType = Types.getGenericsTypes(property.getAnnotatedType()).get(0);
-		AnnotatedType valueAnnotatedType = Types.getGenericsTypes(property.getAnnotatedType()).get(1);
-		JavaType keyType = typeFactory.constructType(new JacksonTypeReference<Object>() {
-			@Override
-			public Type getType() {
-				return keyAnnotatedType.getType();
-			}
-		});
-
-		JavaType valueType = typeFactory.constructType(new JacksonTypeReference<Object>() {
-			@Override
-			public Type getType() {
-				return valueAnnotatedType.getType();
-			}
-		});
-
-		MapLikeType mapType = typeFactory
-			.constructMapType(containerType, keyType, valueType);
+		JavaType mapType = javaTypesByProperty.computeIfAbsent(
+			context.getResolvedProperty(),
+			JacksonMapArbitraryIntrospector::toMapType
+		);
 
 		return new ArbitraryIntrospectorResult(
 			new JacksonCombinableArbitrary<>(
 				DELEGATOR.introspect(context).getValue(),
-				list -> objectMapper.convertValue(list, mapType)
+				map -> jsonValueConverter.convert(map, mapType)
 			)
 		);
 	}
+
+	@SuppressWarnings("unchecked")
+	private static JavaType toMapType(Property property) {
+		TypeFactory typeFactory = TypeFactory.defaultInstance();
+		Class<? extends Map<?, ?>> containerType = (Class<? extends Map<?, ?>>)Types.getActualType(property.getType());
+
+		AnnotatedType keyAnnotatedType = Types.getGenericsTypes(property.getAnnotatedType()).get(0);
+		AnnotatedType valueAnnotatedType = Types.getGenericsTypes(property.getAnnotatedType()).get(1);
+		JavaType keyType = typeFactory.constructType(keyAnnotatedType.getType());
+		JavaType valueType = typeFactory.constructType(valueAnnotatedType.getType());
+
+		return typeFactory.constructMapType(containerType, keyType, valueType);
+	}
 }
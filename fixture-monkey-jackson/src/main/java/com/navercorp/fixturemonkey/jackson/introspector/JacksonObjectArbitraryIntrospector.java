@@ -20,15 +20,17 @@ package com.navercorp.fixturemonkey.jackson.introspector;
 
 import static com.navercorp.fixturemonkey.jackson.property.JacksonAnnotations.getJacksonAnnotation;
 
-import java.lang.reflect.Type;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -42,10 +44,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.CompositeProperty;
 import com.navercorp.fixturemonkey.api.property.ConstructorProperty;
 import com.navercorp.fixturemonkey.api.property.FieldProperty;
@@ -53,84 +57,79 @@ import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyDescriptorProperty;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.jackson.FixtureMonkeyJackson;
-import com.navercorp.fixturemonkey.jackson.type.JacksonTypeReference;
 
 @API(since = "0.5.5", status = Status.MAINTAINED)
 public final class JacksonObjectArbitraryIntrospector implements ArbitraryIntrospector {
 	public static final JacksonObjectArbitraryIntrospector INSTANCE = new JacksonObjectArbitraryIntrospector(
 		FixtureMonkeyJackson.defaultObjectMapper()
 	);
+	private static final int DEFAULT_CACHE_SIZE = 2048;
 
-	private final ObjectMapper objectMapper;
+	private final JsonValueConverter jsonValueConverter;
+	private final ConcurrentClockCache<Property, JavaType> javaTypesByProperty =
+		new ConcurrentClockCache<>(DEFAULT_CACHE_SIZE);
+	private final ConcurrentClockCache<Property, JsonPropertyFormat> jsonPropertyFormatsByProperty =
+		new ConcurrentClockCache<>(DEFAULT_CACHE_SIZE);
 
 	public JacksonObjectArbitraryIntrospector(ObjectMapper objectMapper) {
-		this.objectMapper = objectMapper;
+		this.jsonValueConverter = new JsonValueConverter(objectMapper);
 	}
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
 		Property property = context.getResolvedProperty();
-		TypeFactory typeFactory = TypeFactory.defaultInstance();
-		JavaType type = typeFactory.constructType(new JacksonTypeReference<Object>() {
-			@Override
-			public Type getType() {
-				return property.getType();
-			}
-		});
+		JavaType type = javaTypesByProperty.computeIfAbsent(
+			property,
+			it -> TypeFactory.defaultInstance().constructType(it.getType())
+		);
 
 		return new ArbitraryIntrospectorResult(
 			new JacksonCombinableArbitrary<>(
 				CombinableArbitrary.objectBuilder()
 					.properties(context.getCombinableArbitrariesByArbitraryProperty())
 					.build(combineAsJson(property)),
-				map -> objectMapper.convertValue(map, type)
+				map -> jsonValueConverter.convert(map, type)
 			)
 		);
 	}
 
 	@SuppressWarnings("unchecked")
 	private Function<Map<ArbitraryProperty, Object>, Object> combineAsJson(Property property) {
+		JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
+		LazyArbitrary<String> typeIdentifier = LazyArbitrary.lazy(
+			() -> getJsonTypeInfoIdentifier(jsonTypeInfo, property)
+		);
+
 		return propertyValuesByArbitraryProperty -> {
 			Map<String, Object> map = initializeMap(property);
 
-			propertyValuesByArbitraryProperty.entrySet()
-				.stream()
-				.filter(it -> isJacksonSerializableProperty(it.getKey().getObjectProperty().getProperty()))
-				.forEach(
-					entry -> {
-						ArbitraryProperty arbitraryProperty = entry.getKey();
-						Object value = entry.getValue();
-
-						String resolvePropertyName = arbitraryProperty.getObjectProperty()
-							.getResolvedPropertyName();
-
-						if (value != null) {
-							Object jsonFormatted = arbitraryProperty.getObjectProperty()
-								.getProperty()
-								.getAnnotation(JsonFormat.class)
-								.map(it -> format(value, it))
-								.orElse(value);
-
-							JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property,
-								JsonTypeInfo.class);
-							if (jsonTypeInfo == null) {
-								map.put(resolvePropertyName, jsonFormatted);
-							} else {
-								if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-									String typeIdentifier = getJsonTypeInfoIdentifier(
-										jsonTypeInfo,
-										property
-									);
-
-									Map<String, Object> typeJson =
-										(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
-									typeJson.put(resolvePropertyName, jsonFormatted);
-									map.put(typeIdentifier, typeJson);
-								}
-							}
-						}
-					}
+			for (Entry<ArbitraryProperty, Object> entry : propertyValuesByArbitraryProperty.entrySet()) {
+				ArbitraryProperty arbitraryProperty = entry.getKey();
+				Object value = entry.getValue();
+				if (value == null) {
+					continue;
+				}
+
+				JsonPropertyFormat jsonPropertyFormat = jsonPropertyFormatsByProperty.computeIfAbsent(
+					arbitraryProperty.getObjectProperty().getProperty(),
+					JsonPropertyFormat::from
 				);
+				if (!jsonPropertyFormat.serializable) {
+					continue;
+				}
+
+				String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
+				Object jsonFormatted = jsonPropertyFormat.format(value);
+				if (jsonTypeInfo == null) {
+					map.put(resolvePropertyName, jsonFormatted);
+				} else if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
+					Map<String, Object> typeJson = (Map<String, Object>)map.computeIfAbsent(
+						typeIdentifier.getValue(),
+						it -> new HashMap<>()
+					);
+					typeJson.put(resolvePropertyName, jsonFormatted);
+				}
+			}
 			return map;
 		};
 	}
@@ -182,34 +181,64 @@ public final class JacksonObjectArbitraryIntrospector implements ArbitraryIntros
 		return jsonTypeInfoValue;
 	}
 
-	private Object format(Object object, JsonFormat jsonFormat) {
-		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
-			.withZone(ZoneId.systemDefault());
-
-		if (object instanceof TemporalAccessor) {
-			TemporalAccessor temporalAccessor = (TemporalAccessor)object;
-			return dateTimeFormatter.format(temporalAccessor);
-		} else if (object instanceof Date) {
-			TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
-				.atZone(ZoneId.systemDefault())
-				.toLocalDate();
-			return dateTimeFormatter.format(dateTemporalAccessor);
-		} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
-			return ((Enum<?>)object).ordinal();
-		} else {
-			return object;
+	/**
+	 * The way to write the value of a property as a json value, it is resolved once per property.
+	 */
+	private static final class JsonPropertyFormat {
+		private final boolean serializable;
+		@Nullable
+		private final JsonFormat jsonFormat;
+		@Nullable
+		private final DateTimeFormatter dateTimeFormatter;
+
+		private JsonPropertyFormat(
+			boolean serializable,
+			@Nullable JsonFormat jsonFormat,
+			@Nullable DateTimeFormatter dateTimeFormatter
+		) {
+			this.serializable = serializable;
+			this.jsonFormat = jsonFormat;
+			this.dateTimeFormatter = dateTimeFormatter;
 		}
-	}
 
-	private boolean isJacksonSerializableProperty(Property property) {
-		if (property instanceof CompositeProperty) {
-			CompositeProperty compositeProperty = (CompositeProperty)property;
-			return isJacksonSerializableProperty(compositeProperty.getPrimaryProperty())
-				|| isJacksonSerializableProperty(compositeProperty.getSecondaryProperty());
+		private static JsonPropertyFormat from(Property property) {
+			JsonFormat jsonFormat = property.getAnnotation(JsonFormat.class).orElse(null);
+			DateTimeFormatter dateTimeFormatter = jsonFormat == null
+				? null
+				: DateTimeFormatter.ofPattern(jsonFormat.pattern()).withZone(ZoneId.systemDefault());
+			return new JsonPropertyFormat(isJacksonSerializableProperty(property), jsonFormat, dateTimeFormatter);
+		}
+
+		private Object format(Object object) {
+			if (jsonFormat == null || dateTimeFormatter == null) {
+				return object;
+			}
+
+			if (object instanceof TemporalAccessor) {
+				TemporalAccessor temporalAccessor = (TemporalAccessor)object;
+				return dateTimeFormatter.format(temporalAccessor);
+			} else if (object instanceof Date) {
+				TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
+					.atZone(ZoneId.systemDefault())
+					.toLocalDate();
+				return dateTimeFormatter.format(dateTemporalAccessor);
+			} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
+				return ((Enum<?>)object).ordinal();
+			} else {
+				return object;
+			}
 		}
 
-		return property instanceof FieldProperty
-			|| property instanceof PropertyDescriptorProperty
-			|| property instanceof ConstructorProperty;
+		private static boolean isJacksonSerializableProperty(Property property) {
+			if (property instanceof CompositeProperty) {
+				CompositeProperty compositeProperty = (CompositeProperty)property;
+				return isJacksonSerializableProperty(compositeProperty.getPrimaryProperty())
+					|| isJacksonSerializableProperty(compositeProperty.getSecondaryProperty());
+			}
+
+			return property instanceof FieldProperty
+				|| property instanceof PropertyDescriptorProperty
+				|| property instanceof ConstructorProperty;
+		}
 	}
 }
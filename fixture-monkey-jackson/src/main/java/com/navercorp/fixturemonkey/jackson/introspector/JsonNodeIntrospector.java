@@ -24,8 +24,10 @@ import java.util.Map;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
@@ -41,10 +43,12 @@ public final class JsonNodeIntrospector implements ArbitraryIntrospector {
 		FixtureMonkeyJackson.defaultObjectMapper()
 	);
 
-	private final ObjectMapper objectMapper;
+	private static final JavaType JSON_NODE_TYPE = TypeFactory.defaultInstance().constructType(JsonNode.class);
+
+	private final JsonValueConverter jsonValueConverter;
 
 	public JsonNodeIntrospector(ObjectMapper objectMapper) {
-		this.objectMapper = objectMapper;
+		this.jsonValueConverter = new JsonValueConverter(objectMapper);
 	}
 
 	@Override
@@ -68,7 +72,7 @@ public final class JsonNodeIntrospector implements ArbitraryIntrospector {
 							map.put(mapEntryElementType.getKey(), mapEntryElementType.getValue());
 						}
 
-						return objectMapper.convertValue(map, JsonNode.class);
+						return jsonValueConverter.convert(map, JSON_NODE_TYPE);
 					}
 				)
 		);
@@ -0,0 +1,139 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.jackson.introspector;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+
+/**
+ * Converts a json value generated by the Jackson introspectors into an instance of given type.
+ * It works as {@link ObjectMapper#convertValue(Object, JavaType)} does, but writes the json objects, arrays and
+ * scalars into a {@link TokenBuffer} directly and reads it by an {@link ObjectReader} cached per {@link JavaType}.
+ * The other values are written by the serializers of the {@link ObjectMapper}.
+ */
+final class JsonValueConverter {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final ObjectMapper objectMapper;
+	private final ObjectWriter objectWriter;
+	private final boolean writeMapDirectly;
+	private final ConcurrentClockCache<JavaType, ObjectReader> objectReadersByType =
+		new ConcurrentClockCache<>(DEFAULT_CACHE_SIZE);
+
+	JsonValueConverter(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE);
+		this.writeMapDirectly = !objectMapper.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	<T> T convert(@Nullable Object json, JavaType type) {
+		if (json == null) {
+			return null;
+		}
+
+		ObjectReader objectReader = objectReadersByType.computeIfAbsent(
+			type,
+			it -> objectMapper.readerFor(it).without(DeserializationFeature.UNWRAP_ROOT_VALUE)
+		);
+
+		TokenBuffer tokenBuffer = new TokenBuffer(objectMapper, false);
+		if (objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+			tokenBuffer = tokenBuffer.forceUseOfBigDecimal(true);
+		}
+
+		try {
+			write(tokenBuffer, json);
+			return (T)objectReader.readValue(tokenBuffer.asParser());
+		} catch (IOException ex) {
+			throw new IllegalArgumentException(ex.getMessage(), ex);
+		}
+	}
+
+	private void write(JsonGenerator generator, @Nullable Object json) throws IOException {
+		if (json == null) {
+			generator.writeNull();
+		} else if (json instanceof String) {
+			generator.writeString((String)json);
+		} else if (json instanceof Boolean) {
+			generator.writeBoolean((Boolean)json);
+		} else if (json instanceof Integer || json instanceof Byte) {
+			generator.writeNumber(((Number)json).intValue());
+		} else if (json instanceof Long) {
+			generator.writeNumber((Long)json);
+		} else if (json instanceof Short) {
+			generator.writeNumber((Short)json);
+		} else if (json instanceof Double) {
+			generator.writeNumber((Double)json);
+		} else if (json instanceof Float) {
+			generator.writeNumber((Float)json);
+		} else if (json instanceof BigInteger) {
+			generator.writeNumber((BigInteger)json);
+		} else if (json instanceof BigDecimal) {
+			generator.writeNumber((BigDecimal)json);
+		} else if (json instanceof Map && writeMapDirectly && isJsonObject((Map<?, ?>)json)) {
+			generator.writeStartObject();
+			for (Entry<?, ?> entry : ((Map<?, ?>)json).entrySet()) {
+				generator.writeFieldName((String)entry.getKey());
+				write(generator, entry.getValue());
+			}
+			generator.writeEndObject();
+		} else if (json instanceof Collection) {
+			generator.writeStartArray();
+			for (Object element : (Collection<?>)json) {
+				write(generator, element);
+			}
+			generator.writeEndArray();
+		} else {
+			objectWriter.writeValue(generator, json);
+		}
+	}
+
+	/**
+	 * Checks if given map could be written as a json object as it is.
+	 * The map having a key which is not a string or a null value is written by the serializer,
+	 * the key serializers and the inclusion of the {@link ObjectMapper} should be applied.
+	 */
+	private static boolean isJsonObject(Map<?, ?> map) {
+		for (Entry<?, ?> entry : map.entrySet()) {
+			if (!(entry.getKey() instanceof String) || entry.getValue() == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -21,6 +21,8 @@ package com.navercorp.fixturemonkey.test;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -28,6 +30,7 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -126,6 +129,27 @@ class FixtureMonkeyJacksonTest {
 		then(actual).isNotNull();
 	}
 
+	@Property
+	void sampleSetScalarValues() {
+		BigDecimal decimal = new BigDecimal("0.1000000000000000055511151231257827");
+		BigInteger integer = new BigInteger("123456789012345678901234567890");
+		Map<Integer, String> values = Collections.singletonMap(1, "one");
+
+		ScalarValues actual = SUT.giveMeBuilder(ScalarValues.class)
+			.set("longValue", Long.MAX_VALUE)
+			.set("floatValue", 0.1f)
+			.set("decimal", decimal)
+			.set("integer", integer)
+			.set("values", values)
+			.sample();
+
+		then(actual.getLongValue()).isEqualTo(Long.MAX_VALUE);
+		then(actual.getFloatValue()).isEqualTo(0.1f);
+		then(actual.getDecimal()).isEqualTo(decimal);
+		then(actual.getInteger()).isEqualTo(integer);
+		then(actual.getValues()).isEqualTo(values);
+	}
+
 	@Value
 	public static class JsonFormatSpec {
 		@JsonFormat(shape = Shape.NUMBER)
@@ -172,6 +196,15 @@ class FixtureMonkeyJacksonTest {
 		StringValue value;
 	}
 
+	@Value
+	public static class ScalarValues {
+		long longValue;
+		float floatValue;
+		BigDecimal decimal;
+		BigInteger integer;
+		Map<Integer, String> values;
+	}
+
 	@Value
 	public static class GenericObject<T> {
 		T value;
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.constraint.CachedJavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.introspector.MatchArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptionsBuilder;
@@ -36,7 +37,7 @@ import com.navercorp.fixturemonkey.jakarta.validation.validator.JakartaArbitrary
 @API(since = "0.4.10", status = Status.MAINTAINED)
 public final class JakartaValidationPlugin implements Plugin {
 	private final JavaConstraintGenerator jakartaValidationConstraintGenerator =
-		new JakartaValidationConstraintGenerator();
+		new CachedJavaConstraintGenerator(new JakartaValidationConstraintGenerator());
 
 	@Override
 	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
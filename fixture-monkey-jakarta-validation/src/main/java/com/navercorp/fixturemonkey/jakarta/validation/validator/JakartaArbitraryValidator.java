@@ -18,9 +18,25 @@
 
 package com.navercorp.fixturemonkey.jakarta.validation.validator;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -28,13 +44,39 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
 import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 
 @API(since = "0.5.6", status = Status.MAINTAINED)
 public final class JakartaArbitraryValidator implements ArbitraryValidator {
+	private static final List<Class<? extends Annotation>> INTEGER_CONSTRAINTS = Arrays.asList(
+		Min.class,
+		Max.class,
+		Positive.class,
+		PositiveOrZero.class,
+		Negative.class,
+		NegativeOrZero.class
+	);
+
 	private Validator validator;
+	private final Map<Class<?>, ValidationPlan> validationPlansByType = new ConcurrentHashMap<>();
 
 	public JakartaArbitraryValidator() {
 		try {
@@ -62,4 +104,261 @@ public final class JakartaArbitraryValidator implements ArbitraryValidator {
 			}
 		}
 	}
+
+	/**
+	 * Validates only the properties having a constraint which is not satisfied while generating.
+	 * The constraints on the field which are reflected in generating an integer, a string or a container,
+	 * such as {@link Size} or {@link Min}, are regarded as satisfied unless the property is manipulated.
+	 * The class-level constraints are always validated along with the whole object.
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	@Override
+	public void validate(Object arbitrary, Set<String> manipulatedPropertyNames) {
+		if (this.validator == null) {
+			return;
+		}
+
+		Set<String> constraintViolationPropertyNames = new HashSet<>();
+		collectConstraintViolationPropertyNames(
+			arbitrary,
+			manipulatedPropertyNames,
+			"",
+			constraintViolationPropertyNames,
+			Collections.newSetFromMap(new IdentityHashMap<>())
+		);
+
+		if (!constraintViolationPropertyNames.isEmpty()) {
+			throw new ValidationFailedException(
+				"DefaultArbitraryValidator ConstraintViolations. type: " + arbitrary.getClass(),
+				constraintViolationPropertyNames
+			);
+		}
+	}
+
+	private void collectConstraintViolationPropertyNames(
+		Object arbitrary,
+		Set<String> manipulatedPropertyNames,
+		String pathPrefix,
+		Set<String> constraintViolationPropertyNames,
+		Set<Object> visited
+	) {
+		if (!visited.add(arbitrary)) {
+			return;
+		}
+
+		ValidationPlan validationPlan = validationPlansByType.computeIfAbsent(
+			arbitrary.getClass(),
+			this::toValidationPlan
+		);
+		if (validationPlan.validatesAll) {
+			addViolations(validator.validate(arbitrary), pathPrefix, constraintViolationPropertyNames);
+			return;
+		}
+
+		for (String propertyName : validationPlan.constrainedPropertyNames) {
+			if (manipulatedPropertyNames.contains(propertyName)
+				|| !validationPlan.satisfiedPropertyNames.contains(propertyName)) {
+				addViolations(
+					validator.validateProperty(arbitrary, propertyName),
+					pathPrefix,
+					constraintViolationPropertyNames
+				);
+			}
+		}
+
+		validationPlan.cascadedPropertyGettersByName.forEach((propertyName, getter) -> {
+			boolean manipulated = manipulatedPropertyNames.contains(propertyName);
+			forEachCascaded(getValue(getter, arbitrary), pathPrefix + propertyName, (value, path) -> {
+				if (manipulated) {
+					addViolations(validator.validate(value), path + ".", constraintViolationPropertyNames);
+				} else {
+					collectConstraintViolationPropertyNames(
+						value,
+						Collections.emptySet(),
+						path + ".",
+						constraintViolationPropertyNames,
+						visited
+					);
+				}
+			});
+		});
+	}
+
+	private ValidationPlan toValidationPlan(Class<?> type) {
+		BeanDescriptor beanDescriptor = validator.getConstraintsForClass(type);
+		if (!beanDescriptor.getConstraintDescriptors().isEmpty()) {
+			return ValidationPlan.VALIDATES_ALL;
+		}
+
+		Map<String, Field> fieldsByName = TypeCache.getFieldsByName(type);
+		Set<String> constrainedPropertyNames = new HashSet<>();
+		Set<String> satisfiedPropertyNames = new HashSet<>();
+		Map<String, MethodHandle> cascadedPropertyGettersByName = new HashMap<>();
+		for (PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+			String propertyName = propertyDescriptor.getPropertyName();
+			Set<ContainerElementTypeDescriptor> containerElementTypes =
+				propertyDescriptor.getConstrainedContainerElementTypes();
+			boolean containerElementConstrained = false;
+			boolean containerElementCascaded = false;
+			for (ContainerElementTypeDescriptor containerElementType : containerElementTypes) {
+				if (!containerElementType.getConstrainedContainerElementTypes().isEmpty()) {
+					return ValidationPlan.VALIDATES_ALL;
+				}
+				containerElementConstrained |= !containerElementType.getConstraintDescriptors().isEmpty();
+				containerElementCascaded |= containerElementType.isCascaded();
+			}
+
+			if (!propertyDescriptor.getConstraintDescriptors().isEmpty() || containerElementConstrained) {
+				constrainedPropertyNames.add(propertyName);
+			}
+
+			Field field = fieldsByName.get(propertyName);
+			if (!containerElementConstrained
+				&& field != null
+				&& propertyDescriptor.getConstraintDescriptors().stream().allMatch(it -> isSatisfied(it, field))) {
+				satisfiedPropertyNames.add(propertyName);
+			}
+
+			if (propertyDescriptor.isCascaded() || containerElementCascaded) {
+				MethodHandle getter = getGetter(type, propertyName, field);
+				if (getter == null) {
+					return ValidationPlan.VALIDATES_ALL;
+				}
+				cascadedPropertyGettersByName.put(propertyName, getter);
+			}
+		}
+
+		return new ValidationPlan(
+			false,
+			constrainedPropertyNames,
+			satisfiedPropertyNames,
+			cascadedPropertyGettersByName
+		);
+	}
+
+	private static boolean isSatisfied(ConstraintDescriptor<?> constraintDescriptor, Field field) {
+		Annotation annotation = constraintDescriptor.getAnnotation();
+		Class<? extends Annotation> annotationType = annotation.annotationType();
+		if (!annotation.equals(field.getAnnotation(annotationType))) {
+			return false;
+		}
+
+		Class<?> type = field.getType();
+		boolean container = Collection.class.isAssignableFrom(type)
+			|| Map.class.isAssignableFrom(type)
+			|| type.isArray();
+		if (annotationType == NotNull.class) {
+			return type == String.class || Types.isIntegerType(type) || container;
+		}
+
+		if (annotationType == NotBlank.class) {
+			return type == String.class;
+		}
+
+		if (annotationType == NotEmpty.class || annotationType == Size.class) {
+			return type == String.class || container;
+		}
+
+		return INTEGER_CONSTRAINTS.contains(annotationType) && Types.isIntegerType(type);
+	}
+
+	@Nullable
+	private static MethodHandle getGetter(Class<?> type, String propertyName, @Nullable Field field) {
+		if (field != null) {
+			return TypeCache.getFieldGetter(field);
+		}
+
+		java.beans.PropertyDescriptor propertyDescriptor =
+			TypeCache.getPropertyDescriptorsByPropertyName(type).get(propertyName);
+		if (propertyDescriptor == null || propertyDescriptor.getReadMethod() == null) {
+			return null;
+		}
+		return TypeCache.getReadMethodHandle(propertyDescriptor.getReadMethod());
+	}
+
+	@Nullable
+	private static Object getValue(MethodHandle getter, Object arbitrary) {
+		try {
+			return getter.invokeExact(arbitrary);
+		} catch (Throwable throwable) {
+			throw new IllegalArgumentException(
+				"Failed to read the cascaded property of " + arbitrary.getClass(),
+				throwable
+			);
+		}
+	}
+
+	private static void forEachCascaded(@Nullable Object value, String path, BiConsumer<Object, String> action) {
+		if (value == null) {
+			return;
+		}
+
+		if (value instanceof Iterable) {
+			int index = 0;
+			for (Object element : (Iterable<?>)value) {
+				if (element != null) {
+					action.accept(element, path + "[" + index + "]");
+				}
+				index++;
+			}
+		} else if (value instanceof Map) {
+			((Map<?, ?>)value).forEach((key, element) -> {
+				if (element != null) {
+					action.accept(element, path + "[" + key + "]");
+				}
+			});
+		} else if (value instanceof Optional) {
+			((Optional<?>)value).ifPresent(element -> action.accept(element, path));
+		} else if (value instanceof Object[]) {
+			Object[] elements = (Object[])value;
+			for (int i = 0; i < elements.length; i++) {
+				if (elements[i] != null) {
+					action.accept(elements[i], path + "[" + i + "]");
+				}
+			}
+		} else {
+			action.accept(value, path);
+		}
+	}
+
+	private static void addViolations(
+		Set<ConstraintViolation<Object>> violations,
+		String pathPrefix,
+		Set<String> constraintViolationPropertyNames
+	) {
+		for (ConstraintViolation<Object> violation : violations) {
+			String path = violation.getPropertyPath().toString();
+			if (path.isEmpty() && !pathPrefix.isEmpty()) {
+				constraintViolationPropertyNames.add(pathPrefix.substring(0, pathPrefix.length() - 1));
+			} else {
+				constraintViolationPropertyNames.add(pathPrefix + path);
+			}
+		}
+	}
+
+	private static final class ValidationPlan {
+		private static final ValidationPlan VALIDATES_ALL = new ValidationPlan(
+			true,
+			Collections.emptySet(),
+			Collections.emptySet(),
+			Collections.emptyMap()
+		);
+
+		private final boolean validatesAll;
+		private final Set<String> constrainedPropertyNames;
+		private final Set<String> satisfiedPropertyNames;
+		private final Map<String, MethodHandle> cascadedPropertyGettersByName;
+
+		private ValidationPlan(
+			boolean validatesAll,
+			Set<String> constrainedPropertyNames,
+			Set<String> satisfiedPropertyNames,
+			Map<String, MethodHandle> cascadedPropertyGettersByName
+		) {
+			this.validatesAll = validatesAll;
+			this.constrainedPropertyNames = constrainedPropertyNames;
+			this.satisfiedPropertyNames = satisfiedPropertyNames;
+			this.cascadedPropertyGettersByName = cascadedPropertyGettersByName;
+		}
+	}
 }
@@ -41,6 +41,9 @@ import java.util.regex.Pattern;
 
 import net.jqwik.api.Property;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
 import com.navercorp.fixturemonkey.jakarta.validation.plugin.JakartaValidationPlugin;
@@ -48,6 +51,7 @@ import com.navercorp.fixturemonkey.jakarta.validation.spec.BigDecimalIntrospecto
 import com.navercorp.fixturemonkey.jakarta.validation.spec.BigIntegerIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.BooleanIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.ByteIntrospectorSpec;
+import com.navercorp.fixturemonkey.jakarta.validation.spec.CascadedValidationSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.CharacterIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.ContainerAnnotationIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.DoubleIntrospectorSpec;
@@ -68,6 +72,8 @@ class JakartaValidationFixtureMonkeyTest {
 
 	private static final ZoneId ZONED_ID = ZoneId.systemDefault();
 
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
 	@Property(tries = 100)
 	void sampleBigDecimal() {
 		BigDecimalIntrospectorSpec actual = SUT.giveMeOne(BigDecimalIntrospectorSpec.class);
@@ -485,4 +491,23 @@ class JakartaValidationFixtureMonkeyTest {
 			.isExactlyInstanceOf(RetryableFilterMissException.class)
 			.hasMessageContaining("failed due to property \"not");
 	}
+
+	@Property(tries = 100)
+	void sampleCascadedValidation() {
+		CascadedValidationSpec actual = SUT.giveMeOne(CascadedValidationSpec.class);
+
+		then(VALIDATOR.validate(actual)).isEmpty();
+	}
+
+	@Property(tries = 1)
+	void sampleManipulatedCascadedPropertyValidated() {
+		thenThrownBy(
+			() -> SUT.giveMeBuilder(CascadedValidationSpec.class)
+				.set("nested.value", 100)
+				.sample()
+		)
+			.getCause()
+			.isExactlyInstanceOf(RetryableFilterMissException.class)
+			.hasMessageContaining("nested.value");
+	}
 }
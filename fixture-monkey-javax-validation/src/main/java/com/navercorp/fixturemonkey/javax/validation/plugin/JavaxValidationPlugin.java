@@ -23,6 +23,7 @@ import java.util.Arrays;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.constraint.CachedJavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.introspector.MatchArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptionsBuilder;
@@ -36,7 +37,7 @@ import com.navercorp.fixturemonkey.javax.validation.validator.JavaxArbitraryVali
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class JavaxValidationPlugin implements Plugin {
 	private final JavaConstraintGenerator javaxValidationConstraintGenerator =
-		new JavaxValidationConstraintGenerator();
+		new CachedJavaConstraintGenerator(new JavaxValidationConstraintGenerator());
 
 	@Override
 	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
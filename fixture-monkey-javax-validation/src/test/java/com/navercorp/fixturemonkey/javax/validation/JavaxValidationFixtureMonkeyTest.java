@@ -39,6 +39,9 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.regex.Pattern;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
+
 import net.jqwik.api.Property;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
@@ -48,6 +51,7 @@ import com.navercorp.fixturemonkey.javax.validation.spec.BigDecimalIntrospectorS
 import com.navercorp.fixturemonkey.javax.validation.spec.BigIntegerIntrospectorSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.BooleanIntrospectorSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.ByteIntrospectorSpec;
+import com.navercorp.fixturemonkey.javax.validation.spec.CascadedValidationSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.CharacterIntrospectorSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.ContainerAnnotationIntrospectorSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.DoubleIntrospectorSpec;
@@ -68,6 +72,8 @@ class JavaxValidationFixtureMonkeyTest {
 
 	private static final ZoneId ZONED_ID = ZoneId.systemDefault();
 
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
 	@Property(tries = 100)
 	void sampleBigDecimal() {
 		BigDecimalIntrospectorSpec actual = SUT.giveMeOne(BigDecimalIntrospectorSpec.class);
@@ -485,4 +491,23 @@ class JavaxValidationFixtureMonkeyTest {
 			.isExactlyInstanceOf(RetryableFilterMissException.class)
 			.hasMessageContaining("failed due to property \"not");
 	}
+
+	@Property(tries = 100)
+	void sampleCascadedValidation() {
+		CascadedValidationSpec actual = SUT.giveMeOne(CascadedValidationSpec.class);
+
+		then(VALIDATOR.validate(actual)).isEmpty();
+	}
+
+	@Property(tries = 1)
+	void sampleManipulatedCascadedPropertyValidated() {
+		thenThrownBy(
+			() -> SUT.giveMeBuilder(CascadedValidationSpec.class)
+				.set("nested.value", 100)
+				.sample()
+		)
+			.getCause()
+			.isExactlyInstanceOf(RetryableFilterMissException.class)
+			.hasMessageContaining("nested.value");
+	}
 }
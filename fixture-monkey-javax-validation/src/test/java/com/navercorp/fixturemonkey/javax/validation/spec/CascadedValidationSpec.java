@@ -0,0 +1,62 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.javax.validation.spec;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CascadedValidationSpec {
+	@NotBlank
+	private String name;
+
+	@Email
+	private String email;
+
+	@Valid
+	@NotNull
+	private Nested nested;
+
+	@Valid
+	@Size(max = 3)
+	private List<Nested> nestedList;
+
+	@Getter
+	@Setter
+	public static class Nested {
+		@Min(1)
+		@Max(10)
+		private int value;
+
+		@Pattern(regexp = "[a-c]{3}")
+		private String pattern;
+	}
+}
@@ -19,25 +19,31 @@
 package com.navercorp.fixturemonkey.kotlin.introspector
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
-import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
 import com.navercorp.fixturemonkey.api.type.Types
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status.MAINTAINED
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+import java.lang.reflect.Constructor
 import java.lang.reflect.Modifier
-import kotlin.jvm.internal.Reflection
+import kotlin.jvm.internal.DefaultConstructorMarker
 import kotlin.reflect.KClass
 import kotlin.reflect.KFunction
 import kotlin.reflect.KParameter
 import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.javaConstructor
 
 @API(since = "0.4.0", status = MAINTAINED)
 class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector {
     companion object {
         val INSTANCE = PrimaryConstructorArbitraryIntrospector()
-        private val CONSTRUCTOR_CACHE = ConcurrentLruCache<Class<*>, KFunction<*>>(2048)
+        private val CONSTRUCTOR_CACHE = ConcurrentClockCache<Class<*>, PrimaryConstructorInvoker>(2048)
     }
 
     override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
@@ -50,19 +56,145 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector {
             CombinableArbitrary.objectBuilder()
                 .properties(context.combinableArbitrariesByArbitraryProperty)
                 .build {
-                    val kotlinClass = Reflection.createKotlinClass(type) as KClass<*>
-                    val constructor = CONSTRUCTOR_CACHE.computeIfAbsent(type) {
-                        requireNotNull(kotlinClass.primaryConstructor) { "No kotlin primary constructor provided for $kotlinClass" }
-                    }
-
-                    val arbitrariesByPropertyName = it.mapKeys { map -> map.key.objectProperty.property.name }
-
-                    val map = mutableMapOf<KParameter, Any?>()
-                    for (parameter in constructor.parameters) {
-                        map[parameter] = arbitrariesByPropertyName[parameter.name]
-                    }
-                    constructor.callBy(map)
+                    val constructor = CONSTRUCTOR_CACHE.computeIfAbsent(type) { PrimaryConstructorInvoker.from(it) }
+                    constructor.invoke(it)
                 },
         )
     }
 }
+
+/**
+ * Invokes the primary constructor of a Kotlin class with the arguments in order of its parameters.
+ * The optional parameter which is not generated would be the default value of the parameter.
+ * It invokes the constructor and the synthetic constructor for default arguments by [MethodHandle],
+ * falls back to [KFunction.callBy] if the constructor could not be invoked by [MethodHandle].
+ */
+private class PrimaryConstructorInvoker(
+    private val constructor: KFunction<*>,
+    private val parameterIndexesByName: Map<String, Int>,
+    private val optionals: BooleanArray,
+    private val defaultValues: Array<Any?>,
+    private val methodHandle: MethodHandle?,
+    private val defaultMethodHandle: MethodHandle?,
+) {
+    private val parameterSize = optionals.size
+
+    fun invoke(valuesByArbitraryProperty: Map<ArbitraryProperty, Any?>): Any? {
+        val arguments = arrayOfNulls<Any?>(parameterSize)
+        val generated = BooleanArray(parameterSize)
+        for ((arbitraryProperty, value) in valuesByArbitraryProperty) {
+            val index = parameterIndexesByName[arbitraryProperty.objectProperty.property.name] ?: continue
+            arguments[index] = value
+            generated[index] = true
+        }
+
+        if (methodHandle == null) {
+            return callBy(arguments, generated)
+        }
+
+        var masks: IntArray? = null
+        for (index in 0 until parameterSize) {
+            if (!generated[index] && optionals[index]) {
+                masks = masks ?: IntArray(getMaskSize(parameterSize))
+                masks[index / Integer.SIZE] = masks[index / Integer.SIZE] or (1 shl (index % Integer.SIZE))
+                arguments[index] = defaultValues[index]
+            }
+        }
+
+        if (masks == null) {
+            return methodHandle.invokeExact(arguments)
+        }
+
+        if (defaultMethodHandle == null) {
+            return callBy(arguments, generated)
+        }
+
+        val defaultArguments = arguments.copyOf(parameterSize + masks.size + 1)
+        masks.forEachIndexed { index, mask -> defaultArguments[parameterSize + index] = mask }
+        return defaultMethodHandle.invokeExact(defaultArguments)
+    }
+
+    private fun callBy(arguments: Array<Any?>, generated: BooleanArray): Any? {
+        val map = mutableMapOf<KParameter, Any?>()
+        for (parameter in constructor.parameters) {
+            if (generated[parameter.index] || !parameter.isOptional) {
+                map[parameter] = arguments[parameter.index]
+            }
+        }
+        return constructor.callBy(map)
+    }
+
+    companion object {
+        private val LOOKUP = MethodHandles.lookup()
+        private val SPREAD_TYPE = MethodType.methodType(Any::class.java, Array<Any?>::class.java)
+
+        fun from(type: Class<*>): PrimaryConstructorInvoker {
+            val kotlinClass = type.kotlin
+            val constructor = requireNotNull(kotlinClass.primaryConstructor) {
+                "No kotlin primary constructor provided for $kotlinClass"
+            }
+            val parameters = constructor.parameters
+            val parameterIndexesByName = parameters
+                .filter { it.name != null }
+                .associate { it.name!! to it.index }
+            val optionals = BooleanArray(parameters.size) { parameters[it].isOptional }
+
+            val javaConstructor = constructor.javaConstructor
+                ?.takeIf { isPositionallyInvocable(kotlinClass, parameters, it) }
+            val defaultValues = arrayOfNulls<Any?>(parameters.size)
+            javaConstructor?.parameterTypes?.forEachIndexed { index, parameterType ->
+                if (parameterType.isPrimitive) {
+                    defaultValues[index] = java.lang.reflect.Array.get(
+                        java.lang.reflect.Array.newInstance(parameterType, 1),
+                        0,
+                    )
+                }
+            }
+
+            return PrimaryConstructorInvoker(
+                constructor = constructor,
+                parameterIndexesByName = parameterIndexesByName,
+                optionals = optionals,
+                defaultValues = defaultValues,
+                methodHandle = javaConstructor?.let { toSpreadMethodHandle(it) },
+                defaultMethodHandle = javaConstructor
+                    ?.takeIf { optionals.any { optional -> optional } }
+                    ?.let { getDefaultConstructor(type, it) }
+                    ?.let { toSpreadMethodHandle(it) },
+            )
+        }
+
+        private fun isPositionallyInvocable(
+            kotlinClass: KClass<*>,
+            parameters: List<KParameter>,
+            javaConstructor: Constructor<*>,
+        ): Boolean = !kotlinClass.isValue &&
+            javaConstructor.parameterTypes.size == parameters.size &&
+            parameters.all {
+                it.kind == KParameter.Kind.VALUE && (it.type.classifier as? KClass<*>)?.isValue != true
+            }
+
+        private fun getDefaultConstructor(type: Class<*>, javaConstructor: Constructor<*>): Constructor<*>? {
+            val parameterTypes = javaConstructor.parameterTypes.toMutableList()
+            repeat(getMaskSize(javaConstructor.parameterTypes.size)) {
+                parameterTypes.add(Int::class.javaPrimitiveType!!)
+            }
+            parameterTypes.add(DefaultConstructorMarker::class.java)
+            return try {
+                type.getDeclaredConstructor(*parameterTypes.toTypedArray())
+            } catch (ex: NoSuchMethodException) {
+                null
+            }
+        }
+
+        private fun toSpreadMethodHandle(constructor: Constructor<*>): MethodHandle? = try {
+            LOOKUP.unreflectConstructor(constructor)
+                .asSpreader(Array<Any?>::class.java, constructor.parameterTypes.size)
+                .asType(SPREAD_TYPE)
+        } catch (ex: IllegalAccessException) {
+            null
+        }
+
+        private fun getMaskSize(parameterSize: Int): Int = (parameterSize + Integer.SIZE - 1) / Integer.SIZE
+    }
+}
@@ -18,7 +18,7 @@
 
 package com.navercorp.fixturemonkey.kotlin.property
 
-import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache
 import com.navercorp.fixturemonkey.api.property.CompositeProperty
 import com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator
 import com.navercorp.fixturemonkey.api.property.Property
@@ -37,7 +37,7 @@ class KotlinPropertyGenerator(
     private val javaDelegatePropertyGenerator: PropertyGenerator = DefaultPropertyGenerator(),
     private val propertyFilter: (KProperty<*>) -> Boolean = { true },
 ) : PropertyGenerator {
-    private val objectChildPropertiesCache = ConcurrentLruCache<Property, List<Property>>(2048)
+    private val objectChildPropertiesCache = ConcurrentClockCache<Property, List<Property>>(2048)
 
     override fun generateChildProperties(property: Property): List<Property> =
         objectChildPropertiesCache.computeIfAbsent(property) {
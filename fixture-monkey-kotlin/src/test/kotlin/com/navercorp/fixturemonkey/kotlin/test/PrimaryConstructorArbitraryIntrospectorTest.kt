@@ -63,6 +63,14 @@ class PrimaryConstructorArbitraryIntrospectorTest {
         then(actual).isNotEqualTo("default_value")
     }
 
+    @Property
+    fun sampleDefaultArgumentNotProperty() {
+        // when
+        val actual = sut.giveMeOne<DefaultArgument>().stringValue
+
+        then(actual).isEqualTo("default_value")
+    }
+
     @Property
     fun sampleSecondaryConstructor() {
         // when
@@ -51,6 +51,13 @@ class DefaultValue(
     val stringValue: String = "default_value",
 )
 
+class DefaultArgument(
+    val intValue: Int,
+    defaultValue: String = "default_value",
+) {
+    val stringValue: String = defaultValue
+}
+
 class SecondaryConstructor(
     val intValue: Int,
     val stringValue: String,
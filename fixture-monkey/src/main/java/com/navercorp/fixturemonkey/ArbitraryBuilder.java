@@ -733,6 +733,21 @@ public interface ArbitraryBuilder<T> {
 	 */
 	List<T> sampleList(int size);
 
+	/**
+	 * Generate sample value list in parallel using this {@link ArbitraryBuilder}.
+	 * The values are generated in fixed-size chunks, each chunk is generated by a worker with a seed derived from
+	 * the seed of the calling thread and the index of the chunk.
+	 * The result is reproducible for the same seed regardless of {@code parallelism}.
+	 * Each chunk is generated with its own cache, the uniqueness of values is guaranteed only within a chunk.
+	 * The suppliers given by {@code setLazy} would be called by the workers one at a time.
+	 *
+	 * @param size        the number of values to generate
+	 * @param parallelism the number of workers generating the values
+	 * @return a list of generated instances ordered by chunk
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	List<T> sampleParallel(int size, int parallelism);
+
 	/**
 	 * Generate sample value stream using this {@link ArbitraryBuilder}.
 	 * All elements might generate differently per sample unless executing {@link #fixed()}.
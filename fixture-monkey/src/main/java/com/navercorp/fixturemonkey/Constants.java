@@ -25,4 +25,5 @@ public final class Constants {
 	public static final int MAX_MANIPULATION_COUNT = Integer.MAX_VALUE;
 	public static final String ALL_INDEX_STRING = "*";
 	public static final String HEAD_NAME = "$";
+	public static final int PARALLEL_SAMPLE_CHUNK_SIZE = 256;
 }
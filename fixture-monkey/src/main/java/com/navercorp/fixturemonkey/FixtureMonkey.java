@@ -26,6 +26,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -45,7 +47,9 @@ import com.navercorp.fixturemonkey.resolver.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.resolver.ArbitraryResolver;
 import com.navercorp.fixturemonkey.resolver.DefaultArbitraryBuilder;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.RegisteredArbitraryBuilderIndex;
 import com.navercorp.fixturemonkey.tree.ArbitraryTraverser;
+import com.navercorp.fixturemonkey.tree.ObjectTreeTemplateCache;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public class FixtureMonkey {
@@ -54,7 +58,11 @@ public class FixtureMonkey {
 	private final ManipulatorOptimizer manipulatorOptimizer;
 	private final MonkeyContext monkeyContext;
 	private final List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders = new ArrayList<>();
+	private final RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex =
+		new RegisteredArbitraryBuilderIndex(registeredArbitraryBuilders);
 	private final MonkeyExpressionFactory monkeyExpressionFactory;
+	@Nullable
+	private final ObjectTreeTemplateCache objectTreeTemplateCache;
 
 	public FixtureMonkey(
 		FixtureMonkeyOptions fixtureMonkeyOptions,
@@ -63,12 +71,33 @@ public class FixtureMonkey {
 		MonkeyContext monkeyContext,
 		List<MatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>> registeredArbitraryBuilders,
 		MonkeyExpressionFactory monkeyExpressionFactory
+	) {
+		this(
+			fixtureMonkeyOptions,
+			traverser,
+			manipulatorOptimizer,
+			monkeyContext,
+			registeredArbitraryBuilders,
+			monkeyExpressionFactory,
+			null
+		);
+	}
+
+	public FixtureMonkey(
+		FixtureMonkeyOptions fixtureMonkeyOptions,
+		ArbitraryTraverser traverser,
+		ManipulatorOptimizer manipulatorOptimizer,
+		MonkeyContext monkeyContext,
+		List<MatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>> registeredArbitraryBuilders,
+		MonkeyExpressionFactory monkeyExpressionFactory,
+		@Nullable ObjectTreeTemplateCache objectTreeTemplateCache
 	) {
 		this.fixtureMonkeyOptions = fixtureMonkeyOptions;
 		this.traverser = traverser;
 		this.manipulatorOptimizer = manipulatorOptimizer;
 		this.monkeyContext = monkeyContext;
 		this.monkeyExpressionFactory = monkeyExpressionFactory;
+		this.objectTreeTemplateCache = objectTreeTemplateCache;
 		initializeRegisteredArbitraryBuilders(registeredArbitraryBuilders);
 	}
 
@@ -115,7 +144,9 @@ public class FixtureMonkey {
 				monkeyManipulatorFactory,
 				fixtureMonkeyOptions,
 				monkeyContext,
-				registeredArbitraryBuilders
+				registeredArbitraryBuilders,
+				registeredArbitraryBuilderIndex,
+				objectTreeTemplateCache
 			),
 			traverser,
 			monkeyManipulatorFactory,
@@ -148,7 +179,9 @@ public class FixtureMonkey {
 				monkeyManipulatorFactory,
 				fixtureMonkeyOptions,
 				monkeyContext,
-				registeredArbitraryBuilders
+				registeredArbitraryBuilders,
+				registeredArbitraryBuilderIndex,
+				objectTreeTemplateCache
 			),
 			traverser,
 			monkeyManipulatorFactory,
@@ -176,11 +209,21 @@ public class FixtureMonkey {
 	}
 
 	public <T> List<T> giveMe(Class<T> type, int size) {
-		return this.giveMe(type).limit(size).collect(toList());
+		return this.giveMeBuilder(type).sampleList(size);
 	}
 
 	public <T> List<T> giveMe(TypeReference<T> typeReference, int size) {
-		return this.giveMe(typeReference).limit(size).collect(toList());
+		return this.giveMeBuilder(typeReference).sampleList(size);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size, int parallelism) {
+		return this.giveMeBuilder(type).sampleParallel(size, parallelism);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(TypeReference<T> typeReference, int size, int parallelism) {
+		return this.giveMeBuilder(typeReference).sampleParallel(size, parallelism);
 	}
 
 	public <T> T giveMeOne(Class<T> type) {
@@ -31,6 +31,7 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.container.CacheFactory;
 import com.navercorp.fixturemonkey.api.container.DecomposedContainerValueFactory;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.context.MonkeyContextBuilder;
@@ -47,6 +48,7 @@ import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.MatchArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
@@ -62,22 +64,28 @@ import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 import com.navercorp.fixturemonkey.buildergroup.ArbitraryBuilderCandidate;
 import com.navercorp.fixturemonkey.buildergroup.ArbitraryBuilderGroup;
 import com.navercorp.fixturemonkey.expression.ArbitraryExpressionFactory;
+import com.navercorp.fixturemonkey.expression.MonkeyExpression;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
+import com.navercorp.fixturemonkey.resolver.DefaultManipulatorOptimizer;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
-import com.navercorp.fixturemonkey.resolver.NoneManipulatorOptimizer;
 import com.navercorp.fixturemonkey.tree.ApplyStrictModeResolver;
 import com.navercorp.fixturemonkey.tree.ArbitraryTraverser;
+import com.navercorp.fixturemonkey.tree.ObjectTreeTemplateCache;
 
 @SuppressWarnings("unused")
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public class FixtureMonkeyBuilder {
+	private static final int DEFAULT_OBJECT_TREE_TEMPLATE_CACHE_SIZE = 1000;
+
 	private final FixtureMonkeyOptionsBuilder fixtureMonkeyOptionsBuilder = FixtureMonkeyOptions.builder();
 	private final List<MatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>>
 		registeredArbitraryBuilders = new ArrayList<>();
-	private ManipulatorOptimizer manipulatorOptimizer = new NoneManipulatorOptimizer();
+	private ManipulatorOptimizer manipulatorOptimizer = new DefaultManipulatorOptimizer();
 	private MonkeyExpressionFactory monkeyExpressionFactory = new ArbitraryExpressionFactory();
 	private final MonkeyContextBuilder monkeyContextBuilder = MonkeyContext.builder();
 	private long seed = System.nanoTime();
+	private boolean useObjectTreeTemplate = false;
+	private int objectTreeTemplateCacheSize = DEFAULT_OBJECT_TREE_TEMPLATE_CACHE_SIZE;
 
 	public FixtureMonkeyBuilder pushPropertyGenerator(MatcherOperator<PropertyGenerator> propertyGenerator) {
 		fixtureMonkeyOptionsBuilder.insertFirstPropertyGenerator(propertyGenerator);
@@ -495,8 +503,42 @@ public class FixtureMonkeyBuilder {
 	}
 
 	public FixtureMonkeyBuilder useExpressionStrictMode() {
-		this.monkeyExpressionFactory = expression ->
-			() -> new ApplyStrictModeResolver(new ArbitraryExpressionFactory().from(expression).toNodeResolver());
+		ArbitraryExpressionFactory arbitraryExpressionFactory = new ArbitraryExpressionFactory();
+		this.monkeyExpressionFactory = expression -> {
+			MonkeyExpression monkeyExpression = arbitraryExpressionFactory.from(expression);
+			return () -> new ApplyStrictModeResolver(monkeyExpression.toNodeResolver());
+		};
+		return this;
+	}
+
+	/**
+	 * Traverses the type of a builder only once and reuses the compiled tree template for each sample.
+	 * The container sizes and the resolved implementations are still drawn for each sample.
+	 *
+	 * @see com.navercorp.fixturemonkey.tree.ObjectTreeTemplate
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder useObjectTreeTemplate() {
+		this.useObjectTreeTemplate = true;
+		return this;
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder objectTreeTemplateCacheSize(int objectTreeTemplateCacheSize) {
+		this.objectTreeTemplateCacheSize = objectTreeTemplateCacheSize;
+		return this;
+	}
+
+	/**
+	 * Sets the factory of the caches in {@link MonkeyContext} which hold the generated arbitraries.
+	 *
+	 * @param cacheFactory the factory of the caches
+	 * @see CacheFactory#CONCURRENT_CLOCK_CACHE
+	 * @see CacheFactory#CONCURRENT_LRU_CACHE
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder cacheFactory(CacheFactory cacheFactory) {
+		this.monkeyContextBuilder.cacheFactory(cacheFactory);
 		return this;
 	}
 
@@ -522,6 +564,19 @@ public class FixtureMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * Registers a listener of the generation events, for example traversal time, retries and filter misses.
+	 * Only one listener is registered, the former one is replaced.
+	 *
+	 * @param generationListener the listener to be notified while generating
+	 * @see com.navercorp.fixturemonkey.api.listener.InMemoryGenerationRecorder
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder generationListener(GenerationListener generationListener) {
+		fixtureMonkeyOptionsBuilder.generationListener(generationListener);
+		return this;
+	}
+
 	public FixtureMonkeyBuilder seed(long seed) {
 		this.seed = seed;
 		return this;
@@ -532,6 +587,10 @@ public class FixtureMonkeyBuilder {
 		ArbitraryTraverser traverser = new ArbitraryTraverser(fixtureMonkeyOptions);
 
 		MonkeyContext monkeyContext = monkeyContextBuilder.build();
+		ObjectTreeTemplateCache objectTreeTemplateCache = useObjectTreeTemplate
+			? new ObjectTreeTemplateCache(traverser, objectTreeTemplateCacheSize)
+			: null;
+
 		Randoms.create(String.valueOf(seed));
 		return new FixtureMonkey(
 			fixtureMonkeyOptions,
@@ -539,7 +598,8 @@ public class FixtureMonkeyBuilder {
 			manipulatorOptimizer,
 			monkeyContext,
 			registeredArbitraryBuilders,
-			monkeyExpressionFactory
+			monkeyExpressionFactory,
+			objectTreeTemplateCache
 		);
 	}
 }
@@ -38,14 +38,15 @@ import net.jqwik.api.Arbitrary;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.api.container.DecomposedContainerValueFactory;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
+import com.navercorp.fixturemonkey.api.jqwik.ArbitraryUtils;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.customizer.InnerSpecState.ManipulatorHolderSet;
 import com.navercorp.fixturemonkey.customizer.Values.Just;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
-import com.navercorp.fixturemonkey.resolver.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.resolver.DefaultArbitraryBuilder;
+import com.navercorp.fixturemonkey.resolver.RegisteredArbitraryBuilderIndex;
 import com.navercorp.fixturemonkey.tree.ArbitraryTraverser;
 import com.navercorp.fixturemonkey.tree.NextNodePredicate;
 import com.navercorp.fixturemonkey.tree.NodeResolver;
@@ -128,30 +129,40 @@ public final class MonkeyManipulatorFactory {
 		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders,
 		Map<Property, List<ObjectNode>> nodesByType
 	) {
+		return newRegisteredArbitraryManipulators(
+			new RegisteredArbitraryBuilderIndex(registeredArbitraryBuilders),
+			nodesByType
+		);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public List<ArbitraryManipulator> newRegisteredArbitraryManipulators(
+		RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex,
+		Map<Property, List<ObjectNode>> nodesByType
+	) {
+		if (registeredArbitraryBuilderIndex.isEmpty()) {
+			return Collections.emptyList();
+		}
+
 		List<ArbitraryManipulator> manipulators = new ArrayList<>();
 
 		for (Entry<Property, List<ObjectNode>> nodeByType : nodesByType.entrySet()) {
 			Property property = nodeByType.getKey();
-			List<ObjectNode> objectNodes = nodeByType.getValue();
-
-			DefaultArbitraryBuilder<?> registeredArbitraryBuilder =
-				(DefaultArbitraryBuilder<?>)registeredArbitraryBuilders.stream()
-					.filter(it -> it.match(property))
-					.findFirst()
-					.map(MatcherOperator::getOperator)
-					.filter(it -> it instanceof DefaultArbitraryBuilder<?>)
-					.orElse(null);
-
+			DefaultArbitraryBuilder<?> registeredArbitraryBuilder = registeredArbitraryBuilderIndex.find(property);
 			if (registeredArbitraryBuilder == null) {
 				continue;
 			}
 
-			ArbitraryBuilderContext context = registeredArbitraryBuilder.getContext();
-			List<ArbitraryManipulator> arbitraryManipulators = context.getManipulators().stream()
-				.map(it -> it.withPrependNodeResolver(prependPropertyNodeResolver(property, objectNodes)))
-				.collect(Collectors.toList());
+			List<ArbitraryManipulator> registeredManipulators =
+				registeredArbitraryBuilder.getContext().getManipulators();
+			if (registeredManipulators.isEmpty()) {
+				continue;
+			}
 
-			manipulators.addAll(arbitraryManipulators);
+			NodeResolver prependNodeResolver = prependPropertyNodeResolver(property, nodeByType.getValue());
+			for (ArbitraryManipulator registeredManipulator : registeredManipulators) {
+				manipulators.add(registeredManipulator.withPrependNodeResolver(prependNodeResolver));
+			}
 		}
 		return manipulators;
 	}
@@ -225,7 +236,7 @@ public final class MonkeyManipulatorFactory {
 				sequence,
 				traverser,
 				decomposedContainerValueFactory,
-				LazyArbitrary.lazy(() -> ((Arbitrary<?>)value).sample())
+				LazyArbitrary.lazy(() -> ArbitraryUtils.sample((Arbitrary<?>)value))
 			);
 		} else if (value instanceof DefaultArbitraryBuilder) {
 			return new NodeSetLazyManipulator<>(
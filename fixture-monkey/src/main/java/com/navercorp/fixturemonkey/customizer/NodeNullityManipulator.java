@@ -32,6 +32,10 @@ public class NodeNullityManipulator implements NodeManipulator {
 		this.toNull = toNull;
 	}
 
+	public boolean isToNull() {
+		return toNull;
+	}
+
 	@Override
 	public void manipulate(ObjectNode objectNode) {
 		ArbitraryProperty arbitraryProperty = objectNode.getArbitraryProperty();
@@ -22,7 +22,6 @@ import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerat
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
 import static com.navercorp.fixturemonkey.api.type.Types.isAssignable;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -39,7 +38,6 @@ import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.tree.ArbitraryTraverser;
-import com.navercorp.fixturemonkey.tree.IdentityNodeResolver;
 import com.navercorp.fixturemonkey.tree.ObjectNode;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
@@ -107,19 +105,10 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 				&& (appliedContainerInfoManipulator == null
 				|| sequence > appliedContainerInfoManipulator.getManipulatingSequence());
 			if (forced) {
-				ContainerInfoManipulator containerInfoManipulator = new ContainerInfoManipulator(
-					IdentityNodeResolver.INSTANCE.toNextNodePredicate(),
-					new ArbitraryContainerInfo(decomposedContainerSize, decomposedContainerSize),
-					sequence
+				traverser.retraverse(
+					objectNode,
+					new ArbitraryContainerInfo(decomposedContainerSize, decomposedContainerSize)
 				);
-
-				ObjectNode newNode = traverser.traverse(
-					objectNode.getProperty(),
-					Collections.singletonList(containerInfoManipulator),
-					Collections.emptyList(),
-					Collections.emptyMap()
-				);
-				objectNode.setChildren(newNode.getChildren());
 			}
 
 			List<ObjectNode> children = objectNode.getChildren();
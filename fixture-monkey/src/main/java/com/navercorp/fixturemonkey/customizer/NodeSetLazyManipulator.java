@@ -24,6 +24,7 @@ import org.apiguardian.api.API.Status;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.container.DecomposedContainerValueFactory;
+import com.navercorp.fixturemonkey.api.jqwik.ArbitraryUtils;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.customizer.Values.Just;
 import com.navercorp.fixturemonkey.tree.ArbitraryTraverser;
@@ -51,7 +52,13 @@ public final class NodeSetLazyManipulator<T> implements NodeManipulator {
 	@SuppressWarnings("unchecked")
 	@Override
 	public void manipulate(ObjectNode objectNode) {
-		T value = lazyArbitrary.getValue();
+		T value;
+		synchronized (lazyArbitrary) {
+			value = lazyArbitrary.getValue();
+			if (value != null) {
+				lazyArbitrary.clear();
+			}
+		}
 
 		if (value == null) {
 			NodeNullityManipulator nullityManipulator = new NodeNullityManipulator(true);
@@ -60,7 +67,7 @@ public final class NodeSetLazyManipulator<T> implements NodeManipulator {
 		}
 
 		if (value instanceof Arbitrary) {
-			value = (T)((Arbitrary<?>)value).sample();
+			value = (T)ArbitraryUtils.sample((Arbitrary<?>)value);
 		}
 
 		if (value instanceof Just) {
@@ -70,6 +77,5 @@ public final class NodeSetLazyManipulator<T> implements NodeManipulator {
 		NodeSetDecomposedValueManipulator<T> nodeSetDecomposedValueManipulator =
 			new NodeSetDecomposedValueManipulator<>(sequence, traverser, decomposedContainerValueFactory, value);
 		nodeSetDecomposedValueManipulator.manipulate(objectNode);
-		lazyArbitrary.clear();
 	}
 }
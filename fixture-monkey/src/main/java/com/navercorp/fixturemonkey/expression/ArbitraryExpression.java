@@ -21,14 +21,14 @@ package com.navercorp.fixturemonkey.expression;
 import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
 import static com.navercorp.fixturemonkey.Constants.HEAD_NAME;
 import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -42,14 +42,15 @@ import com.navercorp.fixturemonkey.tree.PropertyNameNodePredicate;
 public final class ArbitraryExpression implements MonkeyExpression, Comparable<ArbitraryExpression> {
 	private final List<Exp> expList;
 
+	@Nullable
+	private volatile NodeResolver nodeResolver;
+
 	private ArbitraryExpression(List<Exp> expList) {
 		this.expList = expList;
 	}
 
 	private ArbitraryExpression(String expression) {
-		expList = Arrays.stream(expression.split("\\."))
-			.map(Exp::new)
-			.collect(toList());
+		this(parse(expression));
 	}
 
 	public static ArbitraryExpression from(String expression) {
@@ -57,13 +58,15 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 	}
 
 	public ArbitraryExpression addFirst(String expression) {
-		String newStringExpression = expression + "." + this;
-		return new ArbitraryExpression(newStringExpression);
+		List<Exp> newExpList = parse(expression);
+		newExpList.addAll(this.expList);
+		return new ArbitraryExpression(newExpList);
 	}
 
 	public ArbitraryExpression addLast(String expression) {
-		String newStringExpression = this + "." + expression;
-		return new ArbitraryExpression(newStringExpression);
+		List<Exp> newExpList = new ArrayList<>(this.expList);
+		newExpList.addAll(parse(expression));
+		return new ArbitraryExpression(newExpList);
 	}
 
 	@API(since = "0.4.0", status = Status.MAINTAINED)
@@ -129,7 +132,22 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 			.collect(Collectors.joining("."));
 	}
 
+	/**
+	 * Returns the {@link NodeResolver} of this expression.
+	 * It is compiled once and reused, since the resolvers are immutable.
+	 *
+	 * @return the {@link NodeResolver} resolving the nodes of this expression
+	 */
 	public NodeResolver toNodeResolver() {
+		NodeResolver compiled = this.nodeResolver;
+		if (compiled == null) {
+			compiled = compileNodeResolver();
+			this.nodeResolver = compiled;
+		}
+		return compiled;
+	}
+
+	private NodeResolver compileNodeResolver() {
 		NodeResolver nodeResolver = null;
 
 		for (Exp exp : expList) {
@@ -142,6 +160,30 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 		return nodeResolver;
 	}
 
+	/**
+	 * Splits the expression by dots as {@link String#split(String)} does, trailing empty names are removed.
+	 */
+	private static List<Exp> parse(String expression) {
+		List<Exp> expList = new ArrayList<>();
+		int start = 0;
+		int end = expression.length();
+		while (end > 0 && expression.charAt(end - 1) == '.') {
+			end--;
+		}
+		if (end == 0 && !expression.isEmpty()) {
+			return expList;
+		}
+
+		int dotIndex = expression.indexOf('.');
+		while (dotIndex != -1 && dotIndex < end) {
+			expList.add(new Exp(expression.substring(start, dotIndex)));
+			start = dotIndex + 1;
+			dotIndex = expression.indexOf('.', start);
+		}
+		expList.add(new Exp(expression.substring(start, end)));
+		return expList;
+	}
+
 	private static final class ExpIndex implements Comparable<ExpIndex> {
 		public static final ExpIndex ALL_INDEX_EXP_INDEX = new ExpIndex(NO_OR_ALL_INDEX_INTEGER_VALUE);
 
@@ -18,9 +18,34 @@
 
 package com.navercorp.fixturemonkey.expression;
 
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+
+/**
+ * Parses the expressions into {@link ArbitraryExpression}s.
+ * The parsed expressions are cached and shared by all the builders using this factory,
+ * the same expression used in a loop is parsed and compiled into a node resolver only once.
+ */
 public final class ArbitraryExpressionFactory implements MonkeyExpressionFactory {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final Map<String, ArbitraryExpression> expressionsByString;
+
+	public ArbitraryExpressionFactory() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public ArbitraryExpressionFactory(int cacheSize) {
+		this.expressionsByString = new ConcurrentClockCache<>(cacheSize);
+	}
+
 	@Override
 	public MonkeyExpression from(String expression) {
-		return ArbitraryExpression.from(expression);
+		return expressionsByString.computeIfAbsent(expression, ArbitraryExpression::from);
 	}
 }
@@ -51,6 +51,8 @@ public final class ArbitraryBuilderContext {
 	private FixedState fixedState = null;
 	@Nullable
 	private CombinableArbitrary<?> fixedCombinableArbitrary;
+	@Nullable
+	private volatile OptimizedManipulators optimizedManipulators = null;
 
 	public ArbitraryBuilderContext(
 		List<ArbitraryManipulator> manipulators,
@@ -102,6 +104,29 @@ public final class ArbitraryBuilderContext {
 		return Collections.unmodifiableList(manipulators);
 	}
 
+	/**
+	 * Returns the manipulators optimized by given {@link ManipulatorOptimizer}.
+	 * The result is reused until a manipulator is added, since the manipulators are only appended.
+	 *
+	 * @param manipulatorOptimizer the optimizer of the manipulators
+	 * @return the optimized result of {@link #getManipulators()}
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public OptimizedManipulatorResult getOptimizedManipulators(ManipulatorOptimizer manipulatorOptimizer) {
+		OptimizedManipulators optimized = this.optimizedManipulators;
+		if (optimized == null
+			|| optimized.manipulatorOptimizer != manipulatorOptimizer
+			|| optimized.manipulatorSize != this.manipulators.size()) {
+			optimized = new OptimizedManipulators(
+				manipulatorOptimizer,
+				this.manipulators.size(),
+				manipulatorOptimizer.optimize(getManipulators())
+			);
+			this.optimizedManipulators = optimized;
+		}
+		return optimized.optimizedManipulatorResult;
+	}
+
 	public void addContainerInfoManipulator(ContainerInfoManipulator containerInfo) {
 		this.containerInfoManipulators.add(containerInfo);
 	}
@@ -168,6 +193,22 @@ public final class ArbitraryBuilderContext {
 		return fixedCombinableArbitrary;
 	}
 
+	private static final class OptimizedManipulators {
+		private final ManipulatorOptimizer manipulatorOptimizer;
+		private final int manipulatorSize;
+		private final OptimizedManipulatorResult optimizedManipulatorResult;
+
+		private OptimizedManipulators(
+			ManipulatorOptimizer manipulatorOptimizer,
+			int manipulatorSize,
+			OptimizedManipulatorResult optimizedManipulatorResult
+		) {
+			this.manipulatorOptimizer = manipulatorOptimizer;
+			this.manipulatorSize = manipulatorSize;
+			this.optimizedManipulatorResult = optimizedManipulatorResult;
+		}
+	}
+
 	private static class FixedState {
 		private final int fixedManipulateSize;
 		private final int fixedContainerManipulatorSize;
@@ -18,11 +18,15 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -30,6 +34,7 @@ import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -38,7 +43,10 @@ import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
 import com.navercorp.fixturemonkey.customizer.ContainerInfoManipulator;
 import com.navercorp.fixturemonkey.customizer.MonkeyManipulatorFactory;
 import com.navercorp.fixturemonkey.tree.ArbitraryTraverser;
+import com.navercorp.fixturemonkey.tree.ObjectNode;
 import com.navercorp.fixturemonkey.tree.ObjectTree;
+import com.navercorp.fixturemonkey.tree.ObjectTreeTemplate;
+import com.navercorp.fixturemonkey.tree.ObjectTreeTemplateCache;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class ArbitraryResolver {
@@ -48,6 +56,9 @@ public final class ArbitraryResolver {
 	private final FixtureMonkeyOptions fixtureMonkeyOptions;
 	private final MonkeyContext monkeyContext;
 	private final List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders;
+	private final RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex;
+	@Nullable
+	private final ObjectTreeTemplateCache objectTreeTemplateCache;
 
 	public ArbitraryResolver(
 		ArbitraryTraverser traverser,
@@ -56,6 +67,49 @@ public final class ArbitraryResolver {
 		FixtureMonkeyOptions fixtureMonkeyOptions,
 		MonkeyContext monkeyContext,
 		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders
+	) {
+		this(
+			traverser,
+			manipulatorOptimizer,
+			monkeyManipulatorFactory,
+			fixtureMonkeyOptions,
+			monkeyContext,
+			registeredArbitraryBuilders,
+			null
+		);
+	}
+
+	public ArbitraryResolver(
+		ArbitraryTraverser traverser,
+		ManipulatorOptimizer manipulatorOptimizer,
+		MonkeyManipulatorFactory monkeyManipulatorFactory,
+		FixtureMonkeyOptions fixtureMonkeyOptions,
+		MonkeyContext monkeyContext,
+		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders,
+		@Nullable ObjectTreeTemplateCache objectTreeTemplateCache
+	) {
+		this(
+			traverser,
+			manipulatorOptimizer,
+			monkeyManipulatorFactory,
+			fixtureMonkeyOptions,
+			monkeyContext,
+			registeredArbitraryBuilders,
+			new RegisteredArbitraryBuilderIndex(registeredArbitraryBuilders),
+			objectTreeTemplateCache
+		);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public ArbitraryResolver(
+		ArbitraryTraverser traverser,
+		ManipulatorOptimizer manipulatorOptimizer,
+		MonkeyManipulatorFactory monkeyManipulatorFactory,
+		FixtureMonkeyOptions fixtureMonkeyOptions,
+		MonkeyContext monkeyContext,
+		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders,
+		RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex,
+		@Nullable ObjectTreeTemplateCache objectTreeTemplateCache
 	) {
 		this.traverser = traverser;
 		this.manipulatorOptimizer = manipulatorOptimizer;
@@ -63,14 +117,60 @@ public final class ArbitraryResolver {
 		this.fixtureMonkeyOptions = fixtureMonkeyOptions;
 		this.monkeyContext = monkeyContext;
 		this.registeredArbitraryBuilders = registeredArbitraryBuilders;
+		this.registeredArbitraryBuilderIndex = registeredArbitraryBuilderIndex;
+		this.objectTreeTemplateCache = objectTreeTemplateCache;
+	}
+
+	/**
+	 * Returns a resolver generating with the given {@link MonkeyContext}.
+	 * It is used for generating in other threads, the arbitraries cached in {@link MonkeyContext} are not thread-safe.
+	 */
+	ArbitraryResolver withMonkeyContext(MonkeyContext monkeyContext) {
+		return new ArbitraryResolver(
+			traverser,
+			manipulatorOptimizer,
+			monkeyManipulatorFactory,
+			fixtureMonkeyOptions,
+			monkeyContext,
+			registeredArbitraryBuilders,
+			registeredArbitraryBuilderIndex,
+			objectTreeTemplateCache
+		);
 	}
 
 	public CombinableArbitrary<?> resolve(
 		RootProperty rootProperty,
 		ArbitraryBuilderContext builderContext
+	) {
+		return resolveCombinableArbitrary(rootProperty, builderContext);
+	}
+
+	/**
+	 * Resolves the given context once and generates the given number of values.
+	 * The tree is traversed again only if the tree of a value could not be reused for the next value.
+	 *
+	 * @param rootProperty   the root property to generate
+	 * @param builderContext the context of {@link ArbitraryBuilder}
+	 * @param size           the number of values to generate
+	 * @return the generated values
+	 * @see ObjectTree#isReusable()
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public List<?> resolveList(
+		RootProperty rootProperty,
+		ArbitraryBuilderContext builderContext,
+		int size
+	) {
+		return resolveCombinableArbitrary(rootProperty, builderContext).combined(size);
+	}
+
+	private ResolvedCombinableArbitrary<?> resolveCombinableArbitrary(
+		RootProperty rootProperty,
+		ArbitraryBuilderContext builderContext
 	) {
 		List<ArbitraryManipulator> manipulators = builderContext.getManipulators();
-		List<ContainerInfoManipulator> containerInfoManipulators = builderContext.getContainerInfoManipulators();
+		List<ContainerInfoManipulator> containerInfoManipulators =
+			mergeAdjacentContainerInfoManipulators(builderContext.getContainerInfoManipulators());
 		Map<Class<?>, List<Property>> propertyConfigurers = builderContext.getPropertyConfigurers();
 
 		List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulators =
@@ -84,44 +184,128 @@ public final class ArbitraryResolver {
 		Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorConfigurers =
 			builderContext.getArbitraryIntrospectorsByType();
 
+		Supplier<ObjectNode> rootNodeSupplier;
+		if (objectTreeTemplateCache != null && ObjectTreeTemplateCache.isCompilable(rootProperty)) {
+			ObjectTreeTemplate objectTreeTemplate = objectTreeTemplateCache.getTemplate(
+				rootProperty,
+				containerInfoManipulators,
+				registeredContainerInfoManipulators,
+				propertyConfigurers
+			);
+			rootNodeSupplier = objectTreeTemplate::instantiate;
+		} else {
+			rootNodeSupplier = () -> this.traverser.traverse(
+				rootProperty,
+				containerInfoManipulators,
+				registeredContainerInfoManipulators,
+				propertyConfigurers
+			);
+		}
+
+		GenerationListener generationListener = fixtureMonkeyOptions.getGenerationListener();
+		boolean listening = generationListener != GenerationListener.NOOP;
+
 		return new ResolvedCombinableArbitrary<>(
 			rootProperty,
-			() -> new ObjectTree(
-				rootProperty,
-				this.traverser.traverse(
+			() -> {
+				long startNanos = listening ? System.nanoTime() : 0L;
+				ObjectTree objectTree = new ObjectTree(
 					rootProperty,
-					containerInfoManipulators,
-					registeredContainerInfoManipulators,
-					propertyConfigurers
-				),
-				fixtureMonkeyOptions,
-				monkeyContext,
-				builderContext.isValidOnly(),
-				arbitraryIntrospectorConfigurers
-			),
+					rootNodeSupplier.get(),
+					fixtureMonkeyOptions,
+					monkeyContext,
+					builderContext.isValidOnly(),
+					arbitraryIntrospectorConfigurers,
+					traverser
+				);
+				if (listening) {
+					generationListener.onTraversed(
+						rootProperty,
+						countNodes(objectTree),
+						System.nanoTime() - startNanos
+					);
+					notifyCacheStatistics(generationListener);
+				}
+				return objectTree;
+			},
 			objectTree -> {
+				long startNanos = listening ? System.nanoTime() : 0L;
 				List<ArbitraryManipulator> registeredManipulators =
 					monkeyManipulatorFactory.newRegisteredArbitraryManipulators(
-						registeredArbitraryBuilders,
+						registeredArbitraryBuilderIndex,
 						objectTree.getMetadata().getNodesByProperty()
 					);
 
-				List<ArbitraryManipulator> joinedManipulators =
-					Stream.concat(registeredManipulators.stream(), manipulators.stream())
-						.collect(Collectors.toList());
-
-				List<ArbitraryManipulator> optimizedManipulator = manipulatorOptimizer
-					.optimize(joinedManipulators)
-					.getManipulators();
+				OptimizedManipulatorResult optimizedManipulatorResult;
+				if (registeredManipulators.isEmpty()) {
+					optimizedManipulatorResult = builderContext.getOptimizedManipulators(manipulatorOptimizer);
+				} else {
+					List<ArbitraryManipulator> joinedManipulators =
+						Stream.concat(registeredManipulators.stream(), manipulators.stream())
+							.collect(Collectors.toList());
+					optimizedManipulatorResult = manipulatorOptimizer.optimize(joinedManipulators);
+				}
+				List<ArbitraryManipulator> optimizedManipulator = optimizedManipulatorResult.getManipulators();
 
 				for (ArbitraryManipulator manipulator : optimizedManipulator) {
 					manipulator.manipulate(objectTree);
 				}
+				if (listening) {
+					generationListener.onManipulated(
+						rootProperty,
+						optimizedManipulator.size(),
+						optimizedManipulatorResult.getEliminatedCount(),
+						System.nanoTime() - startNanos
+					);
+				}
 				return objectTree.generate();
 			},
 			fixtureMonkeyOptions.getGenerateMaxTries(),
 			fixtureMonkeyOptions.getDefaultArbitraryValidator(),
-			builderContext.isValidOnly()
+			builderContext.isValidOnly(),
+			generationListener
+		);
+	}
+
+	private void notifyCacheStatistics(GenerationListener generationListener) {
+		generationListener.onCacheStatistics(
+			"registeredArbitraryBuilder",
+			registeredArbitraryBuilderIndex.getStatistics()
 		);
+		if (objectTreeTemplateCache != null) {
+			generationListener.onCacheStatistics("objectTreeTemplate", objectTreeTemplateCache.getStatistics());
+		}
+		monkeyContext.getCacheStatistics().forEach(generationListener::onCacheStatistics);
+	}
+
+	private static int countNodes(ObjectTree objectTree) {
+		int nodeCount = 0;
+		for (List<ObjectNode> nodes : objectTree.getMetadata().getNodesByProperty().values()) {
+			nodeCount += nodes.size();
+		}
+		return nodeCount;
+	}
+
+	/**
+	 * Drops a size manipulator followed by a size manipulator of the same expression.
+	 * The latter one is always applied, so the former one only costs a comparison on every traversed node.
+	 */
+	private static List<ContainerInfoManipulator> mergeAdjacentContainerInfoManipulators(
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		int size = containerInfoManipulators.size();
+		List<ContainerInfoManipulator> merged = null;
+		for (int i = 0; i < size; i++) {
+			ContainerInfoManipulator containerInfoManipulator = containerInfoManipulators.get(i);
+			boolean overwritten = i + 1 < size && containerInfoManipulator.getNextNodePredicates()
+				.equals(containerInfoManipulators.get(i + 1).getNextNodePredicates());
+
+			if (overwritten && merged == null) {
+				merged = new ArrayList<>(containerInfoManipulators.subList(0, i));
+			} else if (!overwritten && merged != null) {
+				merged.add(containerInfoManipulator);
+			}
+		}
+		return merged == null ? containerInfoManipulators : merged;
 	}
 }
@@ -21,6 +21,7 @@ package com.navercorp.fixturemonkey.resolver;
 import static com.navercorp.fixturemonkey.Constants.DEFAULT_ELEMENT_MAX_SIZE;
 import static com.navercorp.fixturemonkey.Constants.HEAD_NAME;
 import static com.navercorp.fixturemonkey.Constants.MAX_MANIPULATION_COUNT;
+import static com.navercorp.fixturemonkey.Constants.PARALLEL_SAMPLE_CHUNK_SIZE;
 import static com.navercorp.fixturemonkey.customizer.Values.NOT_NULL;
 import static java.util.stream.Collectors.toList;
 
@@ -28,6 +29,8 @@ import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -61,6 +64,7 @@ import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.property.PropertySelector;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -572,9 +576,60 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 		return this.build().sampleStream();
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public List<T> sampleList(int size) {
-		return this.sampleStream().limit(size).collect(toList());
+		if (context.isFixed()) {
+			return this.sampleStream().limit(size).collect(toList());
+		}
+
+		return (List<T>)resolver.resolveList(rootProperty, context, size);
+	}
+
+	@Override
+	public List<T> sampleParallel(int size, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism should be positive. parallelism: " + parallelism);
+		}
+
+		if (context.isFixed()) {
+			return this.sampleList(size);
+		}
+
+		long baseSeed = Randoms.current().nextLong();
+		int chunkCount = (size + PARALLEL_SAMPLE_CHUNK_SIZE - 1) / PARALLEL_SAMPLE_CHUNK_SIZE;
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<List<T>>> chunks = new ArrayList<>(chunkCount);
+			for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+				int chunkSize = Math.min(PARALLEL_SAMPLE_CHUNK_SIZE, size - chunkIndex * PARALLEL_SAMPLE_CHUNK_SIZE);
+				long chunkSeed = deriveChunkSeed(baseSeed, chunkIndex);
+				MonkeyContext chunkMonkeyContext = monkeyContext.newContext();
+				ArbitraryBuilder<T> chunkBuilder = new DefaultArbitraryBuilder<>(
+					fixtureMonkeyOptions,
+					rootProperty,
+					resolver.withMonkeyContext(chunkMonkeyContext),
+					traverser,
+					monkeyManipulatorFactory,
+					context.copy(),
+					registeredArbitraryBuilders,
+					chunkMonkeyContext,
+					instantiatorProcessor
+				);
+				chunks.add(pool.submit(() -> {
+					Randoms.create(String.valueOf(chunkSeed));
+					return chunkBuilder.sampleList(chunkSize);
+				}));
+			}
+
+			List<T> sampled = new ArrayList<>(Math.max(size, 0));
+			for (ForkJoinTask<List<T>> chunk : chunks) {
+				sampled.addAll(chunk.join());
+			}
+			return sampled;
+		} finally {
+			pool.shutdown();
+		}
 	}
 
 	@Override
@@ -650,4 +705,15 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 			"Given propertySelector is not supported. type of propertySelector: " + propertySelector.getClass()
 		);
 	}
+
+	/**
+	 * Mixes the index of a chunk into the base seed, the seed never becomes zero.
+	 */
+	private static long deriveChunkSeed(long baseSeed, int chunkIndex) {
+		long seed = baseSeed + (chunkIndex + 1) * 0x9E3779B97F4A7C15L;
+		seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+		seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+		seed = seed ^ (seed >>> 31);
+		return seed == 0L ? 1L : seed;
+	}
 }
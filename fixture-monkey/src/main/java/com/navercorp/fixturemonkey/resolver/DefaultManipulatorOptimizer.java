@@ -0,0 +1,152 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeFilterManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeNullityManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeSetDecomposedValueManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeSetJustManipulator;
+import com.navercorp.fixturemonkey.tree.NodeResolver;
+
+/**
+ * Optimizes the manipulators before they are applied to an object tree.
+ * <p>
+ * It drops the manipulators whose effect is fully overwritten by a later manipulator resolving the same nodes,
+ * for example, the former of two {@code setNull} calls on the same expression.
+ * The order of the remaining manipulators is preserved.
+ * <p>
+ * The manipulators with side effects such as {@code setLazy} or a limited {@code set},
+ * and the manipulators it does not know, are never dropped.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class DefaultManipulatorOptimizer implements ManipulatorOptimizer {
+	@Override
+	public OptimizedManipulatorResult optimize(List<ArbitraryManipulator> manipulators) {
+		if (manipulators.size() < 2) {
+			return new OptimizedManipulatorResult(manipulators);
+		}
+
+		List<ArbitraryManipulator> survivedManipulators = eliminateOverwritten(manipulators);
+		return new OptimizedManipulatorResult(
+			survivedManipulators,
+			manipulators.size() - survivedManipulators.size()
+		);
+	}
+
+	private static List<ArbitraryManipulator> eliminateOverwritten(List<ArbitraryManipulator> manipulators) {
+		int size = manipulators.size();
+		boolean[] eliminated = new boolean[size];
+		int eliminatedCount = 0;
+		Map<NodeResolver, Set<ManipulatorKind>> overwrittenKindsByNodeResolver = new HashMap<>();
+
+		for (int i = size - 1; i >= 0; i--) {
+			ArbitraryManipulator manipulator = manipulators.get(i);
+			ManipulatorKind kind = ManipulatorKind.from(manipulator.getNodeManipulator());
+			if (kind.restructuring) {
+				overwrittenKindsByNodeResolver.clear();
+			}
+			if (kind == ManipulatorKind.OPAQUE) {
+				continue;
+			}
+
+			NodeResolver nodeResolver = manipulator.getNodeResolver();
+			Set<ManipulatorKind> overwrittenKinds = overwrittenKindsByNodeResolver.get(nodeResolver);
+			if (overwrittenKinds != null && overwrittenKinds.contains(kind)) {
+				eliminated[i] = true;
+				eliminatedCount++;
+				continue;
+			}
+
+			if (!kind.overwrites.isEmpty()) {
+				overwrittenKindsByNodeResolver
+					.computeIfAbsent(nodeResolver, it -> EnumSet.noneOf(ManipulatorKind.class))
+					.addAll(kind.overwrites);
+			}
+		}
+
+		if (eliminatedCount == 0) {
+			return manipulators;
+		}
+
+		List<ArbitraryManipulator> survivedManipulators = new ArrayList<>(size - eliminatedCount);
+		for (int i = 0; i < size; i++) {
+			if (!eliminated[i]) {
+				survivedManipulators.add(manipulators.get(i));
+			}
+		}
+		return survivedManipulators;
+	}
+
+	/**
+	 * The kinds of {@link NodeManipulator} by the state of a node they overwrite.
+	 * A manipulator is dropped if a later manipulator of the same nodes overwrites its kind.
+	 */
+	private enum ManipulatorKind {
+		SET_JUST(false),
+		SET_NULL(false),
+		SET_NOT_NULL(false),
+		SET_VALUE(true),
+		FILTER(false),
+		OPAQUE(true);
+
+		static {
+			SET_JUST.overwrites = EnumSet.of(SET_JUST);
+			SET_NULL.overwrites = EnumSet.of(SET_NULL);
+			SET_NOT_NULL.overwrites = EnumSet.of(SET_NULL, SET_NOT_NULL);
+			SET_VALUE.overwrites = EnumSet.of(SET_NULL);
+			FILTER.overwrites = EnumSet.noneOf(ManipulatorKind.class);
+			OPAQUE.overwrites = EnumSet.noneOf(ManipulatorKind.class);
+		}
+
+		/**
+		 * Whether it may change the shape of the tree, the nodes resolved by the other manipulators.
+		 */
+		private final boolean restructuring;
+		private Set<ManipulatorKind> overwrites;
+
+		ManipulatorKind(boolean restructuring) {
+			this.restructuring = restructuring;
+		}
+
+		static ManipulatorKind from(NodeManipulator nodeManipulator) {
+			if (nodeManipulator instanceof NodeSetJustManipulator) {
+				return SET_JUST;
+			} else if (nodeManipulator.getClass() == NodeNullityManipulator.class) {
+				return ((NodeNullityManipulator)nodeManipulator).isToNull() ? SET_NULL : SET_NOT_NULL;
+			} else if (nodeManipulator instanceof NodeSetDecomposedValueManipulator) {
+				return SET_VALUE;
+			} else if (nodeManipulator instanceof NodeFilterManipulator) {
+				return FILTER;
+			}
+			return OPAQUE;
+		}
+	}
+}
@@ -28,12 +28,29 @@ import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class OptimizedManipulatorResult {
 	private final List<ArbitraryManipulator> manipulators;
+	private final int eliminatedCount;
 
 	public OptimizedManipulatorResult(List<ArbitraryManipulator> manipulators) {
+		this(manipulators, 0);
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public OptimizedManipulatorResult(List<ArbitraryManipulator> manipulators, int eliminatedCount) {
 		this.manipulators = manipulators;
+		this.eliminatedCount = eliminatedCount;
 	}
 
 	public List<ArbitraryManipulator> getManipulators() {
 		return manipulators;
 	}
+
+	/**
+	 * Returns the number of manipulators the optimizer dropped because a later manipulator overwrites them.
+	 *
+	 * @return the number of eliminated manipulators
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public int getEliminatedCount() {
+		return eliminatedCount;
+	}
 }
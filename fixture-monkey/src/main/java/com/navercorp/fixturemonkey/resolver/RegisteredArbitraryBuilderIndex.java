@@ -0,0 +1,95 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+import com.navercorp.fixturemonkey.api.listener.CacheStatistics;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * An index of the registered {@link ArbitraryBuilder}s by {@link Property}.
+ * It remembers which registered {@link ArbitraryBuilder} matches a property,
+ * so that finding the registered {@link ArbitraryBuilder} of a node does not scan all the registered ones.
+ * It is shared by all the {@link ArbitraryBuilder}s of a {@link com.navercorp.fixturemonkey.FixtureMonkey}.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class RegisteredArbitraryBuilderIndex {
+	private static final int CACHE_SIZE = 2048;
+
+	private final List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders;
+	private final ConcurrentClockCache<Property, Optional<DefaultArbitraryBuilder<?>>>
+		registeredArbitraryBuildersByProperty = new ConcurrentClockCache<>(CACHE_SIZE);
+	private volatile int indexedSize;
+
+	public RegisteredArbitraryBuilderIndex(
+		List<MatcherOperator<? extends ArbitraryBuilder<?>>> registeredArbitraryBuilders
+	) {
+		this.registeredArbitraryBuilders = registeredArbitraryBuilders;
+		this.indexedSize = registeredArbitraryBuilders.size();
+	}
+
+	public boolean isEmpty() {
+		return registeredArbitraryBuilders.isEmpty();
+	}
+
+	public CacheStatistics getStatistics() {
+		return registeredArbitraryBuildersByProperty.getStatistics();
+	}
+
+	/**
+	 * Finds the first registered {@link DefaultArbitraryBuilder} matching the given property.
+	 *
+	 * @param property the property to match
+	 * @return the registered builder, null if the first matching one is not a {@link DefaultArbitraryBuilder}
+	 * or there is no matching one
+	 */
+	@Nullable
+	public DefaultArbitraryBuilder<?> find(Property property) {
+		int registeredSize = registeredArbitraryBuilders.size();
+		if (registeredSize != indexedSize) {
+			// registered builders are added while initializing FixtureMonkey
+			registeredArbitraryBuildersByProperty.clear();
+			indexedSize = registeredSize;
+		}
+
+		return registeredArbitraryBuildersByProperty.computeIfAbsent(property, this::match).orElse(null);
+	}
+
+	private Optional<DefaultArbitraryBuilder<?>> match(Property property) {
+		for (MatcherOperator<? extends ArbitraryBuilder<?>> registeredArbitraryBuilder : registeredArbitraryBuilders) {
+			if (registeredArbitraryBuilder.match(property)) {
+				ArbitraryBuilder<?> operator = registeredArbitraryBuilder.getOperator();
+				return operator instanceof DefaultArbitraryBuilder
+					? Optional.of((DefaultArbitraryBuilder<?>)operator)
+					: Optional.empty();
+			}
+		}
+		return Optional.empty();
+	}
+}
@@ -18,10 +18,19 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -29,8 +38,12 @@ import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.exception.ContainerSizeFilterMissException;
 import com.navercorp.fixturemonkey.api.exception.FixedValueFilterMissException;
 import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
+import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 import com.navercorp.fixturemonkey.tree.ObjectTree;
 
@@ -44,6 +57,7 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	private final LazyArbitrary<CombinableArbitrary<T>> arbitrary;
 	private final ArbitraryValidator validator;
 	private final boolean validOnly;
+	private final GenerationListener generationListener;
 
 	private Exception lastException = null;
 
@@ -53,7 +67,8 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		Function<ObjectTree, CombinableArbitrary<T>> generateArbitrary,
 		int generateMaxTries,
 		ArbitraryValidator validator,
-		boolean validOnly
+		boolean validOnly,
+		GenerationListener generationListener
 	) {
 		this.rootProperty = rootProperty;
 		this.objectTree = LazyArbitrary.lazy(regenerateTree);
@@ -66,20 +81,24 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		);
 		this.validator = validator;
 		this.validOnly = validOnly;
+		this.generationListener = generationListener;
 	}
 
 	@Override
 	public T combined() {
+		long startNanos = startNanos();
 		for (int i = 0; i < generateMaxTries; i++) {
 			try {
-				return arbitrary.getValue()
+				T generated = arbitrary.getValue()
 					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, this.validateFilter(validOnly))
 					.combined();
+				notifyGenerated(startNanos);
+				return generated;
 			} catch (ContainerSizeFilterMissException ex) {
-				lastException = ex;
-				objectTree.clear();
-			} catch (FixedValueFilterMissException | RetryableFilterMissException ex) {
-				lastException = ex;
+				retried(ex);
+				retraverseContainerSizeMissed();
+			} catch (FixedValueFilterMissException | RetryableFilterMissException | UniqueValueExhaustedException ex) {
+				retried(ex);
 			} finally {
 				arbitrary.clear();
 			}
@@ -93,16 +112,19 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 
 	@Override
 	public Object rawValue() {
+		long startNanos = startNanos();
 		for (int i = 0; i < generateMaxTries; i++) {
 			try {
-				return arbitrary.getValue()
+				Object generated = arbitrary.getValue()
 					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, this.validateFilter(validOnly))
 					.rawValue();
+				notifyGenerated(startNanos);
+				return generated;
 			} catch (ContainerSizeFilterMissException ex) {
-				lastException = ex;
-				objectTree.clear();
-			} catch (FixedValueFilterMissException | RetryableFilterMissException ex) {
-				lastException = ex;
+				retried(ex);
+				retraverseContainerSizeMissed();
+			} catch (FixedValueFilterMissException | RetryableFilterMissException | UniqueValueExhaustedException ex) {
+				retried(ex);
 			} finally {
 				arbitrary.clear();
 			}
@@ -114,6 +136,23 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		);
 	}
 
+	/**
+	 * Generates the given number of values resolving the tree only once.
+	 * The generated {@link CombinableArbitrary} is cleared and reused if the tree is reusable,
+	 * otherwise the tree is traversed again for each value.
+	 *
+	 * @param size the number of values to generate
+	 * @return the generated values
+	 * @see ObjectTree#isReusable()
+	 */
+	List<T> combined(int size) {
+		List<T> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(combineReusing());
+		}
+		return values;
+	}
+
 	@Override
 	public void clear() {
 
@@ -124,6 +163,69 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		return false;
 	}
 
+	private T combineReusing() {
+		long startNanos = startNanos();
+		for (int i = 0; i < generateMaxTries; i++) {
+			boolean reusable = false;
+			boolean retraversed = false;
+			try {
+				CombinableArbitrary<T> generated = arbitrary.getValue();
+				reusable = objectTree.getValue().isReusable();
+				generated.clear();
+				T value = generated
+					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, this.validateFilter(validOnly))
+					.combined();
+				notifyGenerated(startNanos);
+				return value;
+			} catch (ContainerSizeFilterMissException ex) {
+				retried(ex);
+				reusable = false;
+				retraverseContainerSizeMissed();
+				retraversed = true;
+			} catch (FixedValueFilterMissException | RetryableFilterMissException | UniqueValueExhaustedException ex) {
+				retried(ex);
+				arbitrary.clear();
+			} finally {
+				if (!reusable) {
+					if (!retraversed) {
+						objectTree.clear();
+					}
+					arbitrary.clear();
+				}
+			}
+		}
+
+		throw new IllegalArgumentException(
+			String.format("Given type %s is failed to generate.", rootProperty.getType()),
+			lastException
+		);
+	}
+
+	private long startNanos() {
+		return generationListener != GenerationListener.NOOP ? System.nanoTime() : 0L;
+	}
+
+	private void notifyGenerated(long startNanos) {
+		if (generationListener != GenerationListener.NOOP) {
+			generationListener.onGenerated(rootProperty, System.nanoTime() - startNanos);
+		}
+	}
+
+	private void retried(Exception ex) {
+		lastException = ex;
+		generationListener.onRetried(rootProperty, ex);
+	}
+
+	/**
+	 * Traverses only the subtree of the container node whose size missed the filter again.
+	 * The whole tree is traversed again if the node is not known.
+	 */
+	private void retraverseContainerSizeMissed() {
+		if (!objectTree.getValue().retraverseContainerSizeMissedNode()) {
+			objectTree.clear();
+		}
+	}
+
 	private Predicate<T> validateFilter(boolean validOnly) {
 		return fixture -> {
 			if (!validOnly) {
@@ -134,8 +236,132 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 				return true;
 			}
 
-			this.validator.validate(fixture);
+			ObjectTree objectTree = this.objectTree.getValue();
+			Set<String> manipulatedPropertyNames = objectTree.getManipulatedPropertyNames();
+			try {
+				validate(fixture, manipulatedPropertyNames);
+			} catch (ValidationFailedException ex) {
+				generationListener.onValidationFailed(rootProperty, ex);
+				if (manipulatedPropertyNames == null
+					|| !regenerateViolatedProperties(fixture, objectTree, manipulatedPropertyNames, ex)) {
+					throw ex;
+				}
+			} catch (RuntimeException ex) {
+				generationListener.onValidationFailed(rootProperty, ex);
+				throw ex;
+			}
 			return true;
 		};
 	}
+
+	private void validate(Object fixture, @Nullable Set<String> manipulatedPropertyNames) {
+		if (manipulatedPropertyNames == null) {
+			this.validator.validate(fixture);
+		} else {
+			this.validator.validate(fixture, manipulatedPropertyNames);
+		}
+	}
+
+	/**
+	 * Regenerates only the properties of the root which violate their constraints and sets them to given fixture,
+	 * instead of generating the whole fixture again.
+	 *
+	 * @return false if any of the violated properties could not be regenerated or set
+	 */
+	private boolean regenerateViolatedProperties(
+		Object fixture,
+		ObjectTree objectTree,
+		Set<String> manipulatedPropertyNames,
+		ValidationFailedException validationFailedException
+	) {
+		ValidationFailedException lastValidationFailedException = validationFailedException;
+		for (int i = 0; i < generateMaxTries; i++) {
+			Set<String> violatedPropertyNames = new LinkedHashSet<>();
+			for (String propertyPath : lastValidationFailedException.getConstraintViolationPropertyNames()) {
+				violatedPropertyNames.add(toRootPropertyName(propertyPath));
+			}
+
+			if (violatedPropertyNames.isEmpty()) {
+				return false;
+			}
+
+			for (String violatedPropertyName : violatedPropertyNames) {
+				if (!regenerateProperty(fixture, objectTree, violatedPropertyName)) {
+					return false;
+				}
+			}
+
+			try {
+				this.validator.validate(fixture, manipulatedPropertyNames);
+				return true;
+			} catch (ValidationFailedException ex) {
+				generationListener.onValidationFailed(rootProperty, ex);
+				lastValidationFailedException = ex;
+			}
+		}
+		return false;
+	}
+
+	private static boolean regenerateProperty(Object fixture, ObjectTree objectTree, String propertyName) {
+		if (propertyName.isEmpty()) {
+			return false;
+		}
+
+		MethodHandle setter = getSetter(fixture.getClass(), propertyName);
+		if (setter == null) {
+			return false;
+		}
+
+		CombinableArbitrary<?> regenerated = objectTree.generateProperty(propertyName);
+		if (regenerated == null) {
+			return false;
+		}
+
+		Object value;
+		try {
+			value = regenerated.combined();
+		} catch (ContainerSizeFilterMissException | FixedValueFilterMissException | RetryableFilterMissException
+			| UniqueValueExhaustedException ex) {
+			return false;
+		}
+
+		try {
+			setter.invokeExact(fixture, value);
+		} catch (RuntimeException ex) {
+			// the value does not match the type of the property or the setter fails, the whole root is regenerated
+			return false;
+		} catch (Error ex) {
+			throw ex;
+		} catch (Throwable throwable) {
+			throw new IllegalStateException(
+				"Failed to set the regenerated property. property: " + propertyName,
+				throwable
+			);
+		}
+		return true;
+	}
+
+	@Nullable
+	private static MethodHandle getSetter(Class<?> type, String propertyName) {
+		MethodHandle writeMethod = TypeCache.getWriteMethodHandlesByPropertyName(type).get(propertyName);
+		if (writeMethod != null) {
+			return writeMethod;
+		}
+
+		Field field = TypeCache.getFieldsByName(type).get(propertyName);
+		if (field == null || Modifier.isFinal(field.getModifiers())) {
+			return null;
+		}
+		return TypeCache.getFieldSettersByName(type).get(propertyName);
+	}
+
+	private static String toRootPropertyName(String propertyPath) {
+		for (int i = 0; i < propertyPath.length(); i++) {
+			char character = propertyPath.charAt(i);
+			if (character == '.' || character == '[') {
+				return propertyPath.substring(0, i);
+			}
+		}
+		return propertyPath;
+	}
 }
@@ -23,7 +23,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -108,16 +107,12 @@ public final class ArbitraryTraverser {
 
 		ArbitraryProperty arbitraryProperty = new ArbitraryProperty(objectProperty, container);
 
-		List<ArbitraryProperty> parentArbitraryProperties = new ArrayList<>();
-		parentArbitraryProperties.add(arbitraryProperty);
-
 		ObjectNode rootNode = this.traverse(
 			arbitraryProperty,
 			containerProperty,
 			null,
 			new TraverseContext(
 				arbitraryProperty,
-				parentArbitraryProperties,
 				containerInfoManipulators,
 				registeredContainerInfoManipulators,
 				propertyConfigurers
@@ -130,6 +125,168 @@ public final class ArbitraryTraverser {
 		return rootNode;
 	}
 
+	/**
+	 * Traverses given property once and compiles it into an {@link ObjectTreeTemplate}.
+	 * The template could be instantiated many times without traversing the type again.
+	 *
+	 * @see ObjectTreeTemplate#instantiate()
+	 */
+	public ObjectTreeTemplate compile(
+		Property property,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulators,
+		Map<Class<?>, List<Property>> propertyConfigurers
+	) {
+		return new ObjectTreeTemplate(
+			traverse(property, containerInfoManipulators, registeredContainerInfoManipulators, propertyConfigurers),
+			this
+		);
+	}
+
+	/**
+	 * Copies the node traversed before.
+	 * The per-sample states, the size of containers and the resolved implementation, are drawn again.
+	 * The children of the containers are reused as long as their properties are the same.
+	 */
+	ObjectNode instantiate(ObjectNode template) {
+		ArbitraryProperty arbitraryProperty = template.getArbitraryProperty();
+		TraverseContext context = template.getTraverseContext();
+
+		Property resolvedProperty;
+		ContainerProperty containerProperty = null;
+		List<ObjectNode> children;
+		if (arbitraryProperty.isContainer() && context != null) {
+			resolvedProperty = template.getResolvedProperty();
+			containerProperty = generateContainerProperty(template);
+			children = instantiateContainerChildren(template, containerProperty, context);
+		} else {
+			Map<Property, List<Property>> childPropertyListsByCandidateProperty =
+				arbitraryProperty.getObjectProperty().getChildPropertyListsByCandidateProperty();
+			resolvedProperty = childPropertyListsByCandidateProperty.size() <= 1
+				? template.getResolvedProperty()
+				: resolveCandidateProperty(childPropertyListsByCandidateProperty);
+
+			List<ObjectNode> templateChildren = template.getChildren();
+			children = new ArrayList<>(templateChildren.size());
+			for (ObjectNode templateChild : templateChildren) {
+				children.add(instantiate(templateChild));
+			}
+		}
+
+		ObjectNode objectNode = new ObjectNode(
+			template.getResolvedParentProperty(),
+			resolvedProperty,
+			arbitraryProperty,
+			children,
+			context,
+			containerProperty
+		);
+		for (ContainerInfoManipulator containerInfoManipulator : template.getContainerInfoManipulators()) {
+			objectNode.addContainerManipulator(containerInfoManipulator);
+		}
+		return objectNode;
+	}
+
+	/**
+	 * Traverses the children of given container node again in place, the size of the container is drawn again.
+	 * The other nodes of the tree are not traversed, the siblings and the ancestors of given node are kept.
+	 *
+	 * @param containerNode the container node traversed before
+	 * @param containerInfo the size of the container, the applied {@link ContainerInfoManipulator} is used if null
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public void retraverse(ObjectNode containerNode, @Nullable ArbitraryContainerInfo containerInfo) {
+		ArbitraryProperty arbitraryProperty = containerNode.getArbitraryProperty();
+		TraverseContext context = containerNode.getTraverseContext();
+		if (!arbitraryProperty.isContainer() || context == null) {
+			throw new IllegalArgumentException(
+				"Only the container node traversed before could be traversed again. property: "
+					+ containerNode.getProperty()
+			);
+		}
+
+		ContainerProperty containerProperty = generateContainerProperty(containerNode, containerInfo);
+		Property property = arbitraryProperty.getObjectProperty().getProperty();
+		containerNode.setContainerProperty(containerProperty);
+		containerNode.setChildren(
+			generateChildrenNodes(
+				containerProperty.getElementProperties(),
+				arbitraryProperty,
+				containerProperty,
+				property,
+				context
+			)
+		);
+	}
+
+	private ContainerProperty generateContainerProperty(ObjectNode containerNode) {
+		return generateContainerProperty(containerNode, null);
+	}
+
+	private ContainerProperty generateContainerProperty(
+		ObjectNode containerNode,
+		@Nullable ArbitraryContainerInfo containerInfo
+	) {
+		ArbitraryProperty arbitraryProperty = containerNode.getArbitraryProperty();
+		Property property = arbitraryProperty.getObjectProperty().getProperty();
+		ContainerPropertyGenerator containerPropertyGenerator =
+			this.fixtureMonkeyOptions.getContainerPropertyGenerator(property);
+		if (containerPropertyGenerator == null) {
+			throw new IllegalArgumentException("No ContainerPropertyGenerator is found. property: " + property);
+		}
+
+		if (containerInfo == null) {
+			ContainerInfoManipulator appliedContainerInfoManipulator =
+				containerNode.getAppliedContainerInfoManipulator();
+			containerInfo = appliedContainerInfoManipulator != null
+				? appliedContainerInfoManipulator.getContainerInfo()
+				: null;
+		}
+		return containerPropertyGenerator.generate(
+			new ContainerPropertyGeneratorContext(
+				property,
+				arbitraryProperty.getObjectProperty().getElementIndex(),
+				containerInfo,
+				fixtureMonkeyOptions
+			)
+		);
+	}
+
+	private List<ObjectNode> instantiateContainerChildren(
+		ObjectNode template,
+		ContainerProperty containerProperty,
+		TraverseContext context
+	) {
+		ArbitraryProperty arbitraryProperty = template.getArbitraryProperty();
+		Property property = arbitraryProperty.getObjectProperty().getProperty();
+
+		List<Property> elementProperties = containerProperty.getElementProperties();
+		List<ObjectNode> templateChildren = template.getChildren();
+		List<ObjectNode> children = new ArrayList<>(elementProperties.size());
+		int templateIndex = 0;
+		for (int sequence = 0; sequence < elementProperties.size(); sequence++) {
+			Property elementProperty = elementProperties.get(sequence);
+			if (templateIndex < templateChildren.size()
+				&& elementProperty.equals(templateChildren.get(templateIndex).getProperty())) {
+				children.add(instantiate(templateChildren.get(templateIndex++)));
+				continue;
+			}
+
+			ObjectNode childNode = generateChildNode(
+				elementProperty,
+				sequence,
+				arbitraryProperty,
+				containerProperty,
+				property,
+				context
+			);
+			if (childNode != null) {
+				children.add(childNode);
+			}
+		}
+		return children;
+	}
+
 	private PropertyGenerator getPropertyGenerator(Map<Class<?>, List<Property>> propertyConfigurers) {
 		return property -> {
 			Class<?> type = Types.getActualType(property.getType());
@@ -192,17 +349,25 @@ public final class ArbitraryTraverser {
 			);
 		}
 
-		Property resolvedProperty = new ArrayList<>(childPropertyListsByCandidateProperty.keySet())
-			.get(Randoms.nextInt(childPropertyListsByCandidateProperty.size()));
+		Property resolvedProperty = resolveCandidateProperty(childPropertyListsByCandidateProperty);
 
 		return new ObjectNode(
 			resolvedParentProperty,
 			resolvedProperty,
 			arbitraryProperty,
-			children
+			children,
+			context,
+			null
 		);
 	}
 
+	private static Property resolveCandidateProperty(
+		Map<Property, List<Property>> childPropertyListsByCandidateProperty
+	) {
+		return new ArrayList<>(childPropertyListsByCandidateProperty.keySet())
+			.get(Randoms.nextInt(childPropertyListsByCandidateProperty.size()));
+	}
+
 	private ObjectNode generateContainerNode(
 		ArbitraryProperty arbitraryProperty,
 		ContainerProperty containerProperty,
@@ -224,7 +389,9 @@ public final class ArbitraryTraverser {
 				containerProperty,
 				objectProperty.getProperty(),
 				context
-			)
+			),
+			context,
+			containerProperty
 		);
 	}
 
@@ -236,87 +403,100 @@ public final class ArbitraryTraverser {
 		TraverseContext context
 	) {
 		List<ObjectNode> children = new ArrayList<>();
-		List<ContainerInfoManipulator> containerInfoManipulators = context.getContainerInfoManipulators();
-		boolean container = parentContainerProperty != null;
 
 		for (int sequence = 0; sequence < childProperties.size(); sequence++) {
-			Property childProperty = childProperties.get(sequence);
+			ObjectNode childNode = generateChildNode(
+				childProperties.get(sequence),
+				sequence,
+				parentArbitraryProperty,
+				parentContainerProperty,
+				resolvedParentProperty,
+				context
+			);
 
-			if (context.isTraversed(childProperty) && !(resolvedParentProperty instanceof MapEntryElementProperty)) {
-				continue;
+			if (childNode != null) {
+				children.add(childNode);
 			}
+		}
+		return children;
+	}
 
-			ContainerPropertyGenerator containerPropertyGenerator =
-				this.fixtureMonkeyOptions.getContainerPropertyGenerator(childProperty);
-			boolean childContainer = containerPropertyGenerator != null;
+	@Nullable
+	private ObjectNode generateChildNode(
+		Property childProperty,
+		int sequence,
+		ArbitraryProperty parentArbitraryProperty,
+		@Nullable ContainerProperty parentContainerProperty,
+		Property resolvedParentProperty,
+		TraverseContext context
+	) {
+		boolean container = parentContainerProperty != null;
 
-			ObjectPropertyGenerator objectPropertyGenerator;
-			if (childContainer) {
-				objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
-			} else {
-				objectPropertyGenerator = this.fixtureMonkeyOptions.getObjectPropertyGenerator(childProperty);
-			}
+		if (context.isTraversed(childProperty) && !(resolvedParentProperty instanceof MapEntryElementProperty)) {
+			return null;
+		}
 
-			int index = sequence;
-			if (parentArbitraryProperty.getObjectProperty().getProperty() instanceof MapEntryElementProperty) {
-				index /= 2;
-			}
+		ContainerPropertyGenerator containerPropertyGenerator =
+			this.fixtureMonkeyOptions.getContainerPropertyGenerator(childProperty);
+		boolean childContainer = containerPropertyGenerator != null;
+
+		ObjectPropertyGenerator objectPropertyGenerator;
+		if (childContainer) {
+			objectPropertyGenerator = SingleValueObjectPropertyGenerator.INSTANCE;
+		} else {
+			objectPropertyGenerator = this.fixtureMonkeyOptions.getObjectPropertyGenerator(childProperty);
+		}
 
-			ObjectProperty childObjectProperty = objectPropertyGenerator.generate(
-				new ObjectPropertyGeneratorContext(
+		int index = sequence;
+		if (parentArbitraryProperty.getObjectProperty().getProperty() instanceof MapEntryElementProperty) {
+			index /= 2;
+		}
+
+		ObjectProperty childObjectProperty = objectPropertyGenerator.generate(
+			new ObjectPropertyGeneratorContext(
+				childProperty,
+				container ? index : null,
+				parentArbitraryProperty,
+				childContainer,
+				getPropertyGenerator(context.getPropertyConfigurers()),
+				fixtureMonkeyOptions.getPropertyNameResolver(childProperty),
+				fixtureMonkeyOptions.getNullInjectGenerator(childProperty)
+			)
+		);
+
+		ContainerProperty childContainerProperty = null;
+		ContainerInfoManipulator appliedContainerInfoManipulator = null;
+		if (childContainer) {
+			appliedContainerInfoManipulator = context.resolveAppliedContainerInfoManipulator(childObjectProperty);
+			ArbitraryContainerInfo containerInfo = appliedContainerInfoManipulator != null
+				? appliedContainerInfoManipulator.getContainerInfo()
+				: null;
+			childContainerProperty = containerPropertyGenerator.generate(
+				new ContainerPropertyGeneratorContext(
 					childProperty,
 					container ? index : null,
-					parentArbitraryProperty,
-					childContainer,
-					getPropertyGenerator(context.getPropertyConfigurers()),
-					fixtureMonkeyOptions.getPropertyNameResolver(childProperty),
-					fixtureMonkeyOptions.getNullInjectGenerator(childProperty)
+					containerInfo,
+					fixtureMonkeyOptions
 				)
 			);
+		}
 
-			ContainerProperty childContainerProperty = null;
-			ContainerInfoManipulator appliedContainerInfoManipulator = null;
-			if (childContainer) {
-				List<ObjectProperty> objectProperties =
-					context.getArbitraryProperties().stream()
-						.map(ArbitraryProperty::getObjectProperty).collect(Collectors.toList());
-				objectProperties.add(childObjectProperty);
-
-				appliedContainerInfoManipulator = resolveAppliedContainerInfoManipulator(
-					containerInfoManipulators,
-					objectProperties
-				);
-				ArbitraryContainerInfo containerInfo = appliedContainerInfoManipulator != null
-					? appliedContainerInfoManipulator.getContainerInfo()
-					: null;
-				childContainerProperty = containerPropertyGenerator.generate(
-					new ContainerPropertyGeneratorContext(
-						childProperty,
-						container ? index : null,
-						containerInfo,
-						fixtureMonkeyOptions
-					)
-				);
-			}
-
-			ArbitraryProperty childArbitraryProperty = new ArbitraryProperty(
-				childObjectProperty,
-				childContainerProperty != null
-			);
+		ArbitraryProperty childArbitraryProperty = new ArbitraryProperty(
+			childObjectProperty,
+			childContainerProperty != null
+		);
 
-			ObjectNode childNode = this.traverse(
-				childArbitraryProperty,
-				childContainerProperty,
-				resolvedParentProperty,
-				context.appendArbitraryProperty(childArbitraryProperty)
-			);
+		ObjectNode childNode = this.traverse(
+			childArbitraryProperty,
+			childContainerProperty,
+			resolvedParentProperty,
+			context.appendArbitraryProperty(childArbitraryProperty)
+		);
 
-			if (appliedContainerInfoManipulator != null) {
-				childNode.addContainerManipulator(appliedContainerInfoManipulator);
-			}
-			children.add(childNode);
+		if (appliedContainerInfoManipulator != null) {
+			childNode.addContainerManipulator(appliedContainerInfoManipulator);
 		}
-		return children;
+		return childNode;
 	}
 
 	@Nullable
@@ -45,4 +45,21 @@ public final class ContainerElementPredicate implements NextNodePredicate {
 		ElementProperty elementProperty = (ElementProperty)property;
 		return sequence == NO_OR_ALL_INDEX_INTEGER_VALUE || sequence == elementProperty.getSequence();
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ContainerElementPredicate that = (ContainerElementPredicate)obj;
+		return sequence == that.sequence;
+	}
+
+	@Override
+	public int hashCode() {
+		return Integer.hashCode(sequence);
+	}
 }
@@ -18,12 +18,11 @@
 
 package com.navercorp.fixturemonkey.tree;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -55,12 +54,6 @@ final class MetadataCollector {
 			collect(child);
 		}
 
-		List<ObjectNode> list = Collections.singletonList(node);
-		nodesByProperty.merge(
-			property,
-			list,
-			(prev, now) -> Stream.concat(prev.stream(), now.stream()).collect(Collectors.toList())
-		);
+		nodesByProperty.computeIfAbsent(property, it -> new ArrayList<>()).add(node);
 	}
-
 }
@@ -44,4 +44,21 @@ public final class NodeElementPredicate implements NextNodePredicate {
 		int elementIndex = currentObjectProperty.getElementIndex();
 		return elementIndex == index;
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		NodeElementPredicate that = (NodeElementPredicate)obj;
+		return index == that.index;
+	}
+
+	@Override
+	public int hashCode() {
+		return Integer.hashCode(index);
+	}
 }
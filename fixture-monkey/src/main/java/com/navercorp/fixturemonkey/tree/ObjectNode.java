@@ -29,6 +29,7 @@ import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ContainerProperty;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.customizer.ContainerInfoManipulator;
@@ -58,6 +59,20 @@ public final class ObjectNode {
 	@SuppressWarnings("rawtypes")
 	private final List<Predicate> arbitraryFilters = new ArrayList<>();
 
+	/**
+	 * The context where the children of this node are traversed.
+	 * It is used for traversing the children again, for example, drawing the container size again.
+	 */
+	@Nullable
+	private final TraverseContext traverseContext;
+
+	/**
+	 * The container property which the children of this node are traversed from.
+	 * It is null if this node is not a container.
+	 */
+	@Nullable
+	private ContainerProperty containerProperty;
+
 	private final LazyArbitrary<Boolean> childNotCacheable = LazyArbitrary.lazy(() -> {
 		for (ObjectNode child : children) {
 			if (child.manipulated() || child.childNotCacheable.getValue() || child.arbitraryProperty.isContainer()) {
@@ -72,11 +87,15 @@ public final class ObjectNode {
 		@Nullable Property resolvedParentProperty,
 		Property resolvedProperty,
 		ArbitraryProperty arbitraryProperty,
-		List<ObjectNode> children
+		List<ObjectNode> children,
+		@Nullable TraverseContext traverseContext,
+		@Nullable ContainerProperty containerProperty
 	) {
 		this.resolvedParentProperty = resolvedParentProperty;
 		this.resolvedProperty = resolvedProperty;
 		this.arbitraryProperty = arbitraryProperty;
+		this.traverseContext = traverseContext;
+		this.containerProperty = containerProperty;
 		this.setChildren(children);
 	}
 
@@ -89,6 +108,7 @@ public final class ObjectNode {
 		for (ObjectNode child : this.children) {
 			child.parent = this;
 		}
+		this.childNotCacheable.clear();
 	}
 
 	public void setResolvedProperty(Property resolvedProperty) {
@@ -164,4 +184,22 @@ public final class ObjectNode {
 
 		return containerInfoManipulators.get(containerInfoManipulators.size() - 1);
 	}
+
+	@Nullable
+	TraverseContext getTraverseContext() {
+		return traverseContext;
+	}
+
+	@Nullable
+	ContainerProperty getContainerProperty() {
+		return containerProperty;
+	}
+
+	void setContainerProperty(ContainerProperty containerProperty) {
+		this.containerProperty = containerProperty;
+	}
+
+	List<ContainerInfoManipulator> getContainerInfoManipulators() {
+		return containerInfoManipulators;
+	}
 }
@@ -20,9 +20,12 @@ package com.navercorp.fixturemonkey.tree;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -32,15 +35,21 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.constraint.ConstraintPredicate;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
+import com.navercorp.fixturemonkey.api.exception.ContainerSizeFilterMissException;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.generator.CompositeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.generator.ContainerProperty;
 import com.navercorp.fixturemonkey.api.generator.IntrospectedArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.generator.ValidateArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.listener.GenerationListener;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
@@ -52,10 +61,22 @@ public final class ObjectTree {
 	private final RootProperty rootProperty;
 	private final ObjectNode rootNode;
 	private final FixtureMonkeyOptions fixtureMonkeyOptions;
-	private final ObjectTreeMetadata metadata;
+	private ObjectTreeMetadata metadata;
 	private final MonkeyContext monkeyContext;
 	private final boolean validOnly;
 	private final Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorConfigurer;
+	private final LazyArbitrary<Boolean> shapeFixed;
+	@Nullable
+	private final ArbitraryTraverser traverser;
+	private boolean manipulated = false;
+
+	/**
+	 * The innermost container node whose generated size missed the container size filter last time.
+	 */
+	@Nullable
+	private ObjectNode containerSizeMissedNode = null;
+	@Nullable
+	private ContainerSizeFilterMissException lastContainerSizeFilterMissException = null;
 
 	public ObjectTree(
 		RootProperty rootProperty,
@@ -64,6 +85,33 @@ public final class ObjectTree {
 		MonkeyContext monkeyContext,
 		boolean validOnly,
 		Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorConfigurer
+	) {
+		this(
+			rootProperty,
+			rootNode,
+			fixtureMonkeyOptions,
+			monkeyContext,
+			validOnly,
+			arbitraryIntrospectorConfigurer,
+			null
+		);
+	}
+
+	/**
+	 * Creates a tree which could traverse the container node again by given traverser
+	 * when its size misses the container size filter.
+	 *
+	 * @see #retraverseContainerSizeMissedNode()
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public ObjectTree(
+		RootProperty rootProperty,
+		ObjectNode rootNode,
+		FixtureMonkeyOptions fixtureMonkeyOptions,
+		MonkeyContext monkeyContext,
+		boolean validOnly,
+		Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorConfigurer,
+		@Nullable ArbitraryTraverser traverser
 	) {
 		this.rootProperty = rootProperty;
 		this.rootNode = rootNode;
@@ -73,6 +121,8 @@ public final class ObjectTree {
 		this.metadata = metadataCollector.collect();
 		this.validOnly = validOnly;
 		this.arbitraryIntrospectorConfigurer = arbitraryIntrospectorConfigurer;
+		this.shapeFixed = LazyArbitrary.lazy(() -> isShapeFixed(rootNode));
+		this.traverser = traverser;
 	}
 
 	public ObjectTreeMetadata getMetadata() {
@@ -85,13 +135,144 @@ public final class ObjectTree {
 		for (ObjectNode node : nodes) {
 			nodeManipulator.manipulate(node);
 			node.addManipulator(nodeManipulator);
+			manipulated = true;
 		}
 	}
 
+	/**
+	 * Checks if the {@link CombinableArbitrary} generated by this tree could be reused to generate other values.
+	 * It is false if this tree is manipulated, or if the size of a container or the implementation of a node
+	 * has been drawn while traversing.
+	 *
+	 * @return whether the generated {@link CombinableArbitrary} could be reused
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public boolean isReusable() {
+		return !manipulated && shapeFixed.getValue();
+	}
+
 	public CombinableArbitrary<?> generate() {
 		return generateIntrospected(rootNode, null);
 	}
 
+	/**
+	 * Traverses only the subtree of the innermost container node whose size missed the container size filter,
+	 * instead of traversing the whole tree again. The other nodes are kept as they are.
+	 * The {@link CombinableArbitrary} generated before should be generated again after retraversing.
+	 *
+	 * @return false if there is no node to traverse again, the whole tree should be traversed again
+	 * @see ContainerSizeFilterMissException
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public boolean retraverseContainerSizeMissedNode() {
+		ObjectNode missedNode = this.containerSizeMissedNode;
+		if (traverser == null || missedNode == null || missedNode.getTraverseContext() == null) {
+			return false;
+		}
+
+		this.containerSizeMissedNode = null;
+		this.lastContainerSizeFilterMissException = null;
+		traverser.retraverse(missedNode, null);
+		this.metadata = new MetadataCollector(rootNode).collect();
+		this.shapeFixed.clear();
+		return true;
+	}
+
+	/**
+	 * Returns the names of the child properties of the root whose nodes or any of their descendants are manipulated.
+	 * The values of the other child properties are generated as they are declared.
+	 *
+	 * @return null if the root node itself is manipulated
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	@Nullable
+	public Set<String> getManipulatedPropertyNames() {
+		if (isManipulatedNode(rootNode)) {
+			return null;
+		}
+
+		Set<String> manipulatedPropertyNames = new HashSet<>();
+		for (ObjectNode child : getResolvedChildren(rootNode)) {
+			String propertyName = child.getProperty().getName();
+			if (propertyName != null && isManipulatedSubtree(child)) {
+				manipulatedPropertyNames.add(propertyName);
+			}
+		}
+		return manipulatedPropertyNames;
+	}
+
+	/**
+	 * Generates the child property of the root again, the other nodes are kept as they are.
+	 * It is used to regenerate only the property which violates its constraints instead of the whole root.
+	 *
+	 * @param propertyName the name of the child property of the root
+	 * @return null if there is no such child property, or the child property is manipulated
+	 */
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	@Nullable
+	public CombinableArbitrary<?> generateProperty(String propertyName) {
+		for (ObjectNode child : getResolvedChildren(rootNode)) {
+			if (!propertyName.equals(child.getProperty().getName())) {
+				continue;
+			}
+
+			if (isManipulatedSubtree(child)) {
+				return null;
+			}
+			return generateIntrospected(child, generateContext(rootNode, null));
+		}
+		return null;
+	}
+
+	private static boolean isManipulatedNode(ObjectNode node) {
+		return node.manipulated() || node.getArbitrary() != null;
+	}
+
+	private static boolean isManipulatedSubtree(ObjectNode node) {
+		if (isManipulatedNode(node)) {
+			return true;
+		}
+
+		for (ObjectNode child : node.getChildren()) {
+			if (isManipulatedSubtree(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<ObjectNode> getResolvedChildren(ObjectNode node) {
+		Property resolvedProperty = node.getResolvedProperty();
+		return node.getChildren().stream()
+			.filter(it -> resolvedProperty.equals(it.getResolvedParentProperty()))
+			.collect(Collectors.toList());
+	}
+
+	private static boolean isShapeFixed(ObjectNode node) {
+		if (node.getArbitraryProperty().getObjectProperty().getChildPropertyListsByCandidateProperty().size() > 1) {
+			return false;
+		}
+
+		if (node.getArbitraryProperty().isContainer()) {
+			ContainerProperty containerProperty = node.getContainerProperty();
+			if (containerProperty == null) {
+				return false;
+			}
+
+			ArbitraryContainerInfo containerInfo = containerProperty.getContainerInfo();
+			if (containerInfo.getElementMinSize() != containerInfo.getElementMaxSize()) {
+				return false;
+			}
+		}
+
+		for (ObjectNode child : node.getChildren()) {
+			if (!isShapeFixed(child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private ArbitraryGeneratorContext generateContext(
 		ObjectNode objectNode,
 		@Nullable ArbitraryGeneratorContext parentContext
@@ -101,9 +282,7 @@ public final class ObjectTree {
 
 		ArbitraryProperty arbitraryProperty = objectNode.getArbitraryProperty();
 		Property resolvedParentProperty = objectNode.getResolvedProperty();
-		List<ObjectNode> children = objectNode.getChildren().stream()
-			.filter(it -> resolvedParentProperty.equals(it.getResolvedParentProperty()))
-			.collect(Collectors.toList());
+		List<ObjectNode> children = getResolvedChildren(objectNode);
 
 		for (ObjectNode childNode : children) {
 			childNodesByArbitraryProperty.put(childNode.getArbitraryProperty(), childNode);
@@ -125,10 +304,32 @@ public final class ObjectTree {
 				return generateIntrospected(node, currentContext);
 			},
 			monkeyGeneratorContext,
-			fixtureMonkeyOptions.getGenerateUniqueMaxTries()
+			fixtureMonkeyOptions.getGenerateUniqueMaxTries(),
+			getConstraintPredicates(objectNode),
+			fixtureMonkeyOptions.getGenerationListener()
 		);
 	}
 
+	/**
+	 * Returns the filters of the node which could be pushed down into the generation.
+	 * The node having filters is not cacheable, the pushed down arbitrary would not be shared.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static List<ConstraintPredicate<?>> getConstraintPredicates(ObjectNode objectNode) {
+		List<Predicate> arbitraryFilters = objectNode.getArbitraryFilters();
+		if (arbitraryFilters.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<ConstraintPredicate<?>> constraintPredicates = new ArrayList<>();
+		for (Predicate arbitraryFilter : arbitraryFilters) {
+			if (arbitraryFilter instanceof ConstraintPredicate) {
+				constraintPredicates.add((ConstraintPredicate<?>)arbitraryFilter);
+			}
+		}
+		return constraintPredicates;
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private CombinableArbitrary<?> generateIntrospected(
 		ObjectNode node,
@@ -160,13 +361,30 @@ public final class ObjectTree {
 		}
 
 		List<Predicate> arbitraryFilters = node.getArbitraryFilters();
+		GenerationListener generationListener = fixtureMonkeyOptions.getGenerationListener();
 		for (Predicate predicate : arbitraryFilters) {
+			if (generationListener != GenerationListener.NOOP) {
+				predicate = new FilterMissListeningPredicate(predicate, node.getProperty(), generationListener);
+			}
 			generated = generated.filter(fixtureMonkeyOptions.getGenerateMaxTries(), predicate);
 		}
 
+		if (traverser != null && node.getArbitraryProperty().isContainer()) {
+			generated = new ContainerSizeMissTracingCombinableArbitrary<>(generated, node);
+		}
+
 		return generated;
 	}
 
+	private void traceContainerSizeMiss(ContainerSizeFilterMissException ex, ObjectNode node) {
+		if (lastContainerSizeFilterMissException == ex) {
+			return;
+		}
+
+		this.lastContainerSizeFilterMissException = ex;
+		this.containerSizeMissedNode = node;
+	}
+
 	private ArbitraryGenerator getArbitraryGenerator(
 		Property property,
 		@Nullable ArbitraryIntrospector arbitraryIntrospector
@@ -196,4 +414,78 @@ public final class ObjectTree {
 
 		return arbitraryGenerator;
 	}
+
+	/**
+	 * Notifies the {@link GenerationListener} when the filter of the property is not satisfied.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class FilterMissListeningPredicate implements Predicate {
+		private final Predicate delegate;
+		private final Property property;
+		private final GenerationListener generationListener;
+
+		private FilterMissListeningPredicate(
+			Predicate delegate,
+			Property property,
+			GenerationListener generationListener
+		) {
+			this.delegate = delegate;
+			this.property = property;
+			this.generationListener = generationListener;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean test(Object value) {
+			boolean satisfied = delegate.test(value);
+			if (!satisfied) {
+				generationListener.onFilterMissed(property);
+			}
+			return satisfied;
+		}
+	}
+
+	/**
+	 * Remembers the container node when the {@link ContainerSizeFilterMissException} is thrown under it.
+	 * The exception is thrown to the innermost container node first.
+	 */
+	private final class ContainerSizeMissTracingCombinableArbitrary<T> implements CombinableArbitrary<T> {
+		private final CombinableArbitrary<T> delegate;
+		private final ObjectNode node;
+
+		private ContainerSizeMissTracingCombinableArbitrary(CombinableArbitrary<T> delegate, ObjectNode node) {
+			this.delegate = delegate;
+			this.node = node;
+		}
+
+		@Override
+		public T combined() {
+			try {
+				return delegate.combined();
+			} catch (ContainerSizeFilterMissException ex) {
+				traceContainerSizeMiss(ex, node);
+				throw ex;
+			}
+		}
+
+		@Override
+		public Object rawValue() {
+			try {
+				return delegate.rawValue();
+			} catch (ContainerSizeFilterMissException ex) {
+				traceContainerSizeMiss(ex, node);
+				throw ex;
+			}
+		}
+
+		@Override
+		public void clear() {
+			delegate.clear();
+		}
+
+		@Override
+		public boolean fixed() {
+			return delegate.fixed();
+		}
+	}
 }
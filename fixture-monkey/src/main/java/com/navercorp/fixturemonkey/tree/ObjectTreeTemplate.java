@@ -0,0 +1,48 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tree;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * It is an immutable skeleton of {@link ObjectNode} tree, traversed only once.
+ * The template itself is never manipulated, {@link #instantiate()} returns a new tree for each sample.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class ObjectTreeTemplate {
+	private final ObjectNode rootNode;
+	private final ArbitraryTraverser traverser;
+
+	ObjectTreeTemplate(ObjectNode rootNode, ArbitraryTraverser traverser) {
+		this.rootNode = rootNode;
+		this.traverser = traverser;
+	}
+
+	/**
+	 * Instantiates a new {@link ObjectNode} tree from the template.
+	 * The size of containers and the resolved implementation of interfaces are drawn again.
+	 * Only the element nodes newly added by a bigger container size are traversed.
+	 *
+	 * @return a new root node which could be manipulated
+	 */
+	public ObjectNode instantiate() {
+		return traverser.instantiate(rootNode);
+	}
+}
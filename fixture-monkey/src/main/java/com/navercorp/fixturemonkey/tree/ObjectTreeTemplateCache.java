@@ -0,0 +1,218 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tree;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
+import com.navercorp.fixturemonkey.api.listener.CacheStatistics;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
+import com.navercorp.fixturemonkey.customizer.ContainerInfoManipulator;
+
+/**
+ * It caches the {@link ObjectTreeTemplate} per {@link com.navercorp.fixturemonkey.FixtureMonkey} instance.
+ * A template is keyed by the type of {@link RootProperty} and the fingerprint of the manipulators
+ * which affect the traversal, the container manipulators and the property configurers.
+ */
+@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+public final class ObjectTreeTemplateCache {
+	private final ArbitraryTraverser traverser;
+	private final ConcurrentClockCache<TemplateKey, ObjectTreeTemplate> templatesByKey;
+
+	public ObjectTreeTemplateCache(ArbitraryTraverser traverser, int cacheSize) {
+		this.traverser = traverser;
+		this.templatesByKey = new ConcurrentClockCache<>(cacheSize);
+	}
+
+	/**
+	 * Returns whether the tree of given root property could be compiled into a template.
+	 * The type of {@link LazyAnnotatedType} depends on the value supplied lazily, it is not compilable.
+	 */
+	public static boolean isCompilable(RootProperty rootProperty) {
+		return !(rootProperty.getAnnotatedType() instanceof LazyAnnotatedType);
+	}
+
+	public ObjectTreeTemplate getTemplate(
+		RootProperty rootProperty,
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulators,
+		Map<Class<?>, List<Property>> propertyConfigurers
+	) {
+		TemplateKey templateKey = new TemplateKey(
+			toRootTypeKey(rootProperty),
+			toFingerprints(containerInfoManipulators),
+			toRegisteredFingerprints(registeredContainerInfoManipulators),
+			new HashMap<>(propertyConfigurers)
+		);
+
+		return templatesByKey.computeIfAbsent(
+			templateKey,
+			key -> traverser.compile(
+				rootProperty,
+				copy(containerInfoManipulators),
+				registeredContainerInfoManipulators.stream()
+					.map(it -> new MatcherOperator<>(it.getMatcher(), copy(it.getOperator())))
+					.collect(Collectors.toList()),
+				propertyConfigurers
+			)
+		);
+	}
+
+	public void clear() {
+		templatesByKey.clear();
+	}
+
+	@API(since = "0.6.12", status = Status.EXPERIMENTAL)
+	public CacheStatistics getStatistics() {
+		return templatesByKey.getStatistics();
+	}
+
+	private static Object toRootTypeKey(RootProperty rootProperty) {
+		AnnotatedType annotatedType = rootProperty.getAnnotatedType();
+		if (annotatedType.getType() instanceof Class && annotatedType.getAnnotations().length == 0) {
+			return annotatedType.getType();
+		}
+		return annotatedType;
+	}
+
+	/**
+	 * The template should not be affected by {@link ContainerInfoManipulator#fixed()} of the builder.
+	 */
+	private static List<ContainerInfoManipulator> copy(List<ContainerInfoManipulator> containerInfoManipulators) {
+		return containerInfoManipulators.stream()
+			.map(ContainerInfoManipulator::copy)
+			.collect(Collectors.toList());
+	}
+
+	private static List<ContainerInfoFingerprint> toFingerprints(
+		List<ContainerInfoManipulator> containerInfoManipulators
+	) {
+		List<ContainerInfoFingerprint> fingerprints = new ArrayList<>(containerInfoManipulators.size());
+		for (ContainerInfoManipulator containerInfoManipulator : containerInfoManipulators) {
+			fingerprints.add(new ContainerInfoFingerprint(containerInfoManipulator));
+		}
+		return fingerprints;
+	}
+
+	private static List<Object> toRegisteredFingerprints(
+		List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulators
+	) {
+		List<Object> fingerprints = new ArrayList<>(registeredContainerInfoManipulators.size() * 2);
+		for (MatcherOperator<List<ContainerInfoManipulator>> registered : registeredContainerInfoManipulators) {
+			fingerprints.add(registered.getMatcher());
+			fingerprints.add(toFingerprints(registered.getOperator()));
+		}
+		return fingerprints;
+	}
+
+	private static final class TemplateKey {
+		private final Object rootTypeKey;
+		private final List<ContainerInfoFingerprint> containerInfoFingerprints;
+		private final List<Object> registeredContainerInfoFingerprints;
+		private final Map<Class<?>, List<Property>> propertyConfigurers;
+		private final int hashCode;
+
+		private TemplateKey(
+			Object rootTypeKey,
+			List<ContainerInfoFingerprint> containerInfoFingerprints,
+			List<Object> registeredContainerInfoFingerprints,
+			Map<Class<?>, List<Property>> propertyConfigurers
+		) {
+			this.rootTypeKey = rootTypeKey;
+			this.containerInfoFingerprints = containerInfoFingerprints;
+			this.registeredContainerInfoFingerprints = registeredContainerInfoFingerprints;
+			this.propertyConfigurers = propertyConfigurers;
+			this.hashCode = Objects.hash(
+				rootTypeKey,
+				containerInfoFingerprints,
+				registeredContainerInfoFingerprints,
+				propertyConfigurers
+			);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TemplateKey that = (TemplateKey)obj;
+			return hashCode == that.hashCode
+				&& rootTypeKey.equals(that.rootTypeKey)
+				&& containerInfoFingerprints.equals(that.containerInfoFingerprints)
+				&& registeredContainerInfoFingerprints.equals(that.registeredContainerInfoFingerprints)
+				&& propertyConfigurers.equals(that.propertyConfigurers);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class ContainerInfoFingerprint {
+		private final List<NextNodePredicate> nextNodePredicates;
+		private final int elementMinSize;
+		private final int elementMaxSize;
+		private final int manipulatingSequence;
+
+		private ContainerInfoFingerprint(ContainerInfoManipulator containerInfoManipulator) {
+			ArbitraryContainerInfo containerInfo = containerInfoManipulator.getContainerInfo();
+			this.nextNodePredicates = containerInfoManipulator.getNextNodePredicates();
+			this.elementMinSize = containerInfo.getElementMinSize();
+			this.elementMaxSize = containerInfo.getElementMaxSize();
+			this.manipulatingSequence = containerInfoManipulator.getManipulatingSequence();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			ContainerInfoFingerprint that = (ContainerInfoFingerprint)obj;
+			return elementMinSize == that.elementMinSize
+				&& elementMaxSize == that.elementMaxSize
+				&& manipulatingSequence == that.manipulatingSequence
+				&& nextNodePredicates.equals(that.nextNodePredicates);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(nextNodePredicates, elementMinSize, elementMaxSize, manipulatingSequence);
+		}
+	}
+}
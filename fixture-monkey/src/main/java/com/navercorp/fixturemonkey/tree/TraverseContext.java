@@ -18,98 +18,281 @@
 
 package com.navercorp.fixturemonkey.tree;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.customizer.ContainerInfoManipulator;
 
+/**
+ * The context of traversing a node, it is linked to the context of its parent node.
+ * Appending a property does not copy the ancestors, the types of the ancestors are summarized in a bloom filter
+ * and the container manipulators are narrowed down by the path from the root as traversing.
+ */
 @API(since = "0.4.0", status = Status.MAINTAINED)
 final class TraverseContext {
-	private final ArbitraryProperty rootArbitraryProperty;
-	private final List<ArbitraryProperty> arbitraryProperties;
-	private final List<ContainerInfoManipulator> containerInfoManipulators;
-	private final List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulators;
+	@Nullable
+	private final TraverseContext parent;
+	private final ArbitraryProperty arbitraryProperty;
+	private final int depth;
+	/**
+	 * A 128-bit bloom filter of the types of this node and its ancestors excluding the root.
+	 * The parents are walked only if it might contain the type.
+	 */
+	private final long ancestorTypeBloomLow;
+	private final long ancestorTypeBloomHigh;
+	/**
+	 * The container manipulators not registered, they match the path from the root to this node so far.
+	 * Their orders are the same as given.
+	 */
+	private final List<ContainerInfoManipulator> pathMatchingContainerInfoManipulators;
+	/**
+	 * The container manipulators of the registered builders matched by the ancestors.
+	 */
+	private final List<ContainerInfoManipulator> registeredContainerInfoManipulators;
+	private final List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulatorOperators;
+	private final Map<Property, List<ContainerInfoManipulator>> registeredContainerInfoManipulatorsByProperty;
 	private final Map<Class<?>, List<Property>> propertyConfigurers;
 
 	public TraverseContext(
 		ArbitraryProperty rootArbitraryProperty,
-		List<ArbitraryProperty> arbitraryProperties,
 		List<ContainerInfoManipulator> containerInfoManipulators,
 		List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulators,
 		Map<Class<?>, List<Property>> propertyConfigurers
 	) {
-		this.rootArbitraryProperty = rootArbitraryProperty;
-		this.arbitraryProperties = arbitraryProperties;
-		this.containerInfoManipulators = containerInfoManipulators;
+		this(
+			null,
+			rootArbitraryProperty,
+			0,
+			0L,
+			0L,
+			matchPath(
+				filterRegistered(containerInfoManipulators, false),
+				0,
+				rootArbitraryProperty.getObjectProperty()
+			),
+			filterRegistered(containerInfoManipulators, true),
+			registeredContainerInfoManipulators,
+			new ConcurrentHashMap<>(),
+			propertyConfigurers
+		);
+	}
+
+	private TraverseContext(
+		@Nullable TraverseContext parent,
+		ArbitraryProperty arbitraryProperty,
+		int depth,
+		long ancestorTypeBloomLow,
+		long ancestorTypeBloomHigh,
+		List<ContainerInfoManipulator> pathMatchingContainerInfoManipulators,
+		List<ContainerInfoManipulator> registeredContainerInfoManipulators,
+		List<MatcherOperator<List<ContainerInfoManipulator>>> registeredContainerInfoManipulatorOperators,
+		Map<Property, List<ContainerInfoManipulator>> registeredContainerInfoManipulatorsByProperty,
+		Map<Class<?>, List<Property>> propertyConfigurers
+	) {
+		this.parent = parent;
+		this.arbitraryProperty = arbitraryProperty;
+		this.depth = depth;
+		this.ancestorTypeBloomLow = ancestorTypeBloomLow;
+		this.ancestorTypeBloomHigh = ancestorTypeBloomHigh;
+		this.pathMatchingContainerInfoManipulators = pathMatchingContainerInfoManipulators;
 		this.registeredContainerInfoManipulators = registeredContainerInfoManipulators;
+		this.registeredContainerInfoManipulatorOperators = registeredContainerInfoManipulatorOperators;
+		this.registeredContainerInfoManipulatorsByProperty = registeredContainerInfoManipulatorsByProperty;
 		this.propertyConfigurers = propertyConfigurers;
 	}
 
-	public ArbitraryProperty getRootArbitraryProperty() {
-		return rootArbitraryProperty;
+	public Map<Class<?>, List<Property>> getPropertyConfigurers() {
+		return propertyConfigurers;
 	}
 
-	public List<ArbitraryProperty> getArbitraryProperties() {
-		return arbitraryProperties;
+	public TraverseContext appendArbitraryProperty(
+		ArbitraryProperty arbitraryProperty
+	) {
+		Property property = arbitraryProperty.getObjectProperty().getProperty();
+		int typeHash = hash(property);
+
+		List<ContainerInfoManipulator> registeredContainerInfoManipulators = this.registeredContainerInfoManipulators;
+		List<ContainerInfoManipulator> appendedRegisteredContainerInfoManipulators =
+			getRegisteredContainerInfoManipulators(property);
+		if (!appendedRegisteredContainerInfoManipulators.isEmpty()) {
+			registeredContainerInfoManipulators = new ArrayList<>(appendedRegisteredContainerInfoManipulators);
+			registeredContainerInfoManipulators.addAll(this.registeredContainerInfoManipulators);
+		}
+
+		return new TraverseContext(
+			this,
+			arbitraryProperty,
+			depth + 1,
+			ancestorTypeBloomLow | lowBits(typeHash),
+			ancestorTypeBloomHigh | highBits(typeHash),
+			matchPath(pathMatchingContainerInfoManipulators, depth + 1, arbitraryProperty.getObjectProperty()),
+			registeredContainerInfoManipulators,
+			registeredContainerInfoManipulatorOperators,
+			registeredContainerInfoManipulatorsByProperty,
+			propertyConfigurers
+		);
 	}
 
-	public List<ContainerInfoManipulator> getContainerInfoManipulators() {
-		return containerInfoManipulators;
+	/**
+	 * Checks if the type of given property is the type of any ancestor excluding the root.
+	 * {@link MapEntryElementProperty}s are not traversed by each other.
+	 */
+	public boolean isTraversed(Property property) {
+		int hash = hash(property);
+		long lowBits = lowBits(hash);
+		long highBits = highBits(hash);
+		if ((ancestorTypeBloomLow & lowBits) != lowBits || (ancestorTypeBloomHigh & highBits) != highBits) {
+			return false;
+		}
+
+		Type type = property.getAnnotatedType().getType();
+		boolean mapEntryElement = property instanceof MapEntryElementProperty;
+		for (TraverseContext context = this; context.parent != null; context = context.parent) {
+			Property ancestor = context.arbitraryProperty.getObjectProperty().getProperty();
+			if (type.equals(ancestor.getAnnotatedType().getType())
+				&& !(mapEntryElement && ancestor instanceof MapEntryElementProperty)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
-	public Map<Class<?>, List<Property>> getPropertyConfigurers() {
-		return propertyConfigurers;
+	/**
+	 * Resolves the container manipulator applied to the child container of this node.
+	 * If many manipulators are matched, the last one is applied.
+	 */
+	@Nullable
+	public ContainerInfoManipulator resolveAppliedContainerInfoManipulator(ObjectProperty childObjectProperty) {
+		int childPathSize = depth + 2;
+		for (int i = pathMatchingContainerInfoManipulators.size() - 1; i >= 0; i--) {
+			ContainerInfoManipulator containerInfoManipulator = pathMatchingContainerInfoManipulators.get(i);
+			List<NextNodePredicate> nextNodePredicates = containerInfoManipulator.getNextNodePredicates();
+			if (nextNodePredicates.size() == childPathSize
+				&& nextNodePredicates.get(childPathSize - 1).test(childObjectProperty)) {
+				return containerInfoManipulator;
+			}
+		}
+
+		if (registeredContainerInfoManipulators.isEmpty()) {
+			return null;
+		}
+
+		List<ObjectProperty> objectProperties = new ArrayList<>(childPathSize);
+		for (TraverseContext context = this; context != null; context = context.parent) {
+			objectProperties.add(context.arbitraryProperty.getObjectProperty());
+		}
+		Collections.reverse(objectProperties);
+		objectProperties.add(childObjectProperty);
+
+		for (int i = registeredContainerInfoManipulators.size() - 1; i >= 0; i--) {
+			ContainerInfoManipulator containerInfoManipulator = registeredContainerInfoManipulators.get(i);
+			if (containerInfoManipulator.isMatch(objectProperties)) {
+				return containerInfoManipulator;
+			}
+		}
+		return null;
 	}
 
-	public TraverseContext appendArbitraryProperty(
-		ArbitraryProperty arbitraryProperty
-	) {
-		List<ArbitraryProperty> arbitraryProperties = new ArrayList<>(this.arbitraryProperties);
-		arbitraryProperties.add(arbitraryProperty);
+	private List<ContainerInfoManipulator> getRegisteredContainerInfoManipulators(Property property) {
+		if (registeredContainerInfoManipulatorOperators.isEmpty()) {
+			return Collections.emptyList();
+		}
 
-		List<ContainerInfoManipulator> registeredContainerManipulators =
-			this.registeredContainerInfoManipulators.stream()
-				.filter(it -> it.match(arbitraryProperty.getObjectProperty().getProperty()))
+		return registeredContainerInfoManipulatorsByProperty.computeIfAbsent(property, it -> {
+			List<ContainerInfoManipulator> containerInfoManipulators = registeredContainerInfoManipulatorOperators
+				.stream()
+				.filter(operator -> operator.match(it))
 				.map(MatcherOperator::getOperator)
 				.findFirst()
 				.orElse(Collections.emptyList());
 
-		List<ContainerInfoManipulator> concatRegisteredContainerManipulator = registeredContainerManipulators.stream()
-			.map(it -> it.withPrependNextNodePredicate(
-				new PropertyPredicate(arbitraryProperty.getObjectProperty().getProperty())
-			))
-			.collect(Collectors.toList());
+			List<ContainerInfoManipulator> prepended = new ArrayList<>(containerInfoManipulators.size());
+			for (ContainerInfoManipulator containerInfoManipulator : containerInfoManipulators) {
+				prepended.add(containerInfoManipulator.withPrependNextNodePredicate(new PropertyPredicate(it)));
+			}
+			return prepended;
+		});
+	}
 
-		List<ContainerInfoManipulator> concat = new ArrayList<>();
-		concat.addAll(concatRegisteredContainerManipulator);
-		concat.addAll(containerInfoManipulators);
-		return new TraverseContext(
-			rootArbitraryProperty,
-			arbitraryProperties,
-			concat,
-			this.registeredContainerInfoManipulators,
-			propertyConfigurers
-		);
+	/**
+	 * Narrows down the container manipulators which match the path from the root to the given depth.
+	 * It returns the given list itself if all of them match.
+	 */
+	private static List<ContainerInfoManipulator> matchPath(
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		int depth,
+		ObjectProperty objectProperty
+	) {
+		List<ContainerInfoManipulator> matched = null;
+		for (int i = 0; i < containerInfoManipulators.size(); i++) {
+			ContainerInfoManipulator containerInfoManipulator = containerInfoManipulators.get(i);
+			List<NextNodePredicate> nextNodePredicates = containerInfoManipulator.getNextNodePredicates();
+			boolean match = nextNodePredicates.size() > depth + 1
+				&& nextNodePredicates.get(depth).test(objectProperty);
+
+			if (match && matched != null) {
+				matched.add(containerInfoManipulator);
+			} else if (!match && matched == null) {
+				matched = new ArrayList<>(containerInfoManipulators.subList(0, i));
+			}
+		}
+		if (matched == null) {
+			return containerInfoManipulators;
+		}
+		return matched.isEmpty() ? Collections.emptyList() : matched;
 	}
 
-	public boolean isTraversed(Property property) {
-		return arbitraryProperties.stream()
-			.filter(it -> it != rootArbitraryProperty)
-			.anyMatch(it -> isSameType(property, it.getObjectProperty().getProperty()));
+	/**
+	 * The manipulator starting with {@link PropertyPredicate} is matched by the suffix of the path, not from the root.
+	 */
+	private static List<ContainerInfoManipulator> filterRegistered(
+		List<ContainerInfoManipulator> containerInfoManipulators,
+		boolean registered
+	) {
+		List<ContainerInfoManipulator> filtered = new ArrayList<>(containerInfoManipulators.size());
+		for (ContainerInfoManipulator containerInfoManipulator : containerInfoManipulators) {
+			if ((containerInfoManipulator.getNextNodePredicates().get(0) instanceof PropertyPredicate) == registered) {
+				filtered.add(containerInfoManipulator);
+			}
+		}
+		return filtered;
+	}
+
+	private static int hash(Property property) {
+		int hash = property.getAnnotatedType().getType().hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Two bits of the 128-bit bloom filter are set for each type, they are split into the lower and upper 64 bits.
+	 */
+	private static long lowBits(int hash) {
+		return lowBit(hash & 127) | lowBit((hash >>> 7) & 127);
+	}
+
+	private static long highBits(int hash) {
+		return highBit(hash & 127) | highBit((hash >>> 7) & 127);
+	}
+
+	private static long lowBit(int bit) {
+		return bit < 64 ? 1L << bit : 0L;
 	}
 
-	private static boolean isSameType(Property p1, Property p2) {
-		boolean notMapEntry = !(p1 instanceof MapEntryElementProperty) || !(p2 instanceof MapEntryElementProperty);
-		return notMapEntry && p1.getAnnotatedType().getType().equals(p2.getAnnotatedType().getType());
+	private static long highBit(int bit) {
+		return bit >= 64 ? 1L << (bit - 64) : 0L;
 	}
 }
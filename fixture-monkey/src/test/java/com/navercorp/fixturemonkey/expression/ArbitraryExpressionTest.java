@@ -0,0 +1,124 @@
+package com.navercorp.fixturemonkey.expression;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.Chars;
+import net.jqwik.api.constraints.StringLength;
+
+class ArbitraryExpressionTest {
+	@Property
+	void parseSameAsSplit(@ForAll @Chars({'a', 'b', '.'}) @StringLength(max = 10) String expression) {
+		ArbitraryExpression actual = ArbitraryExpression.from(expression);
+
+		then(actual).isEqualTo(splitExpression(expression));
+		then(actual.toString()).isEqualTo(String.join(".", expression.split("\\.")));
+	}
+
+	@Example
+	void parseNested() {
+		ArbitraryExpression actual = ArbitraryExpression.from("parent.child.name");
+
+		then(actual).isEqualTo(splitExpression("parent.child.name"));
+		then(actual.toString()).isEqualTo("parent.child.name");
+	}
+
+	@Example
+	void parseIndexed() {
+		ArbitraryExpression actual = ArbitraryExpression.from("list[0][1].values[2]");
+
+		then(actual).isEqualTo(splitExpression("list[0][1].values[2]"));
+		then(actual.toString()).isEqualTo("list[0][1].values[2]");
+	}
+
+	@Example
+	void parseAllIndex() {
+		ArbitraryExpression actual = ArbitraryExpression.from("list[*].values[*]");
+
+		then(actual).isEqualTo(splitExpression("list[*].values[*]"));
+		then(actual.toString()).isEqualTo("list[*].values[*]");
+	}
+
+	@Example
+	void parseKeyAndValue() {
+		ArbitraryExpression actual = ArbitraryExpression.from("map[*].key.value");
+
+		then(actual).isEqualTo(splitExpression("map[*].key.value"));
+		then(actual.toString()).isEqualTo("map[*].key.value");
+	}
+
+	@Example
+	void parseTrailingDots() {
+		then(ArbitraryExpression.from("parent.child..")).isEqualTo(splitExpression("parent.child.."));
+		then(ArbitraryExpression.from(".parent")).isEqualTo(splitExpression(".parent"));
+		then(ArbitraryExpression.from("...")).isEqualTo(splitExpression("..."));
+		then(ArbitraryExpression.from("...").toString()).isEmpty();
+		then(ArbitraryExpression.from("...")).isLessThan(ArbitraryExpression.from(""));
+	}
+
+	@Example
+	void parseMalformed() {
+		thenThrownBy(() -> ArbitraryExpression.from("list[0"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("list[0");
+		thenThrownBy(() -> ArbitraryExpression.from("parent.list0]"))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("list0]");
+		thenThrownBy(() -> ArbitraryExpression.from("list[a]"))
+			.isInstanceOf(NumberFormatException.class);
+	}
+
+	@Example
+	void addFirstSameAsConcatenated() {
+		ArbitraryExpression actual = ArbitraryExpression.from("child[0].name").addFirst("parent.values[*]");
+
+		then(actual).isEqualTo(ArbitraryExpression.from("parent.values[*].child[0].name"));
+	}
+
+	@Example
+	void addLastSameAsConcatenated() {
+		ArbitraryExpression actual = ArbitraryExpression.from("parent.values[*]").addLast("child[0].name");
+
+		then(actual).isEqualTo(ArbitraryExpression.from("parent.values[*].child[0].name"));
+	}
+
+	@Example
+	void toNodeResolverCompiledOnce() {
+		ArbitraryExpression expression = ArbitraryExpression.from("parent.values[*]");
+
+		then(expression.toNodeResolver()).isSameAs(expression.toNodeResolver());
+	}
+
+	@Example
+	void factoryReturnsCachedExpression() {
+		ArbitraryExpressionFactory factory = new ArbitraryExpressionFactory();
+
+		MonkeyExpression actual = factory.from("parent.values[*]");
+
+		then(actual).isSameAs(factory.from("parent.values[*]"));
+		then(actual).isEqualTo(ArbitraryExpression.from("parent.values[*]"));
+	}
+
+	@Example
+	void factoryThrowsMalformedExpressionEveryTime() {
+		ArbitraryExpressionFactory factory = new ArbitraryExpressionFactory(1);
+
+		thenThrownBy(() -> factory.from("list[0")).isExactlyInstanceOf(IllegalArgumentException.class);
+		thenThrownBy(() -> factory.from("list[0")).isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Builds the expression the way it was parsed before, splitting by the regular expression.
+	 * Each name has no dot, so it is parsed into a single name.
+	 */
+	private static ArbitraryExpression splitExpression(String expression) {
+		ArbitraryExpression splitExpression = ArbitraryExpression.from("empty").pollLast();
+		for (String name : expression.split("\\.")) {
+			splitExpression = splitExpression.addLast(name);
+		}
+		return splitExpression;
+	}
+}
@@ -375,6 +375,24 @@ class FixtureMonkeyOptionsAdditionalTestSpecs {
 		private String value;
 	}
 
+	@Getter
+	public static class ErrorThrowingSetterObject {
+		private String value;
+
+		public void setValue(String value) {
+			throw new AssertionError("setter is failed.");
+		}
+	}
+
+	@Getter
+	public static class ExceptionThrowingSetterObject {
+		private String value;
+
+		public void setValue(String value) {
+			throw new IllegalStateException("setter is failed.");
+		}
+	}
+
 	public static class UniqueArbitraryGenerator implements ArbitraryGenerator {
 		private static final Set<Object> UNIQUE = new HashSet<>();
 
@@ -34,6 +34,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -46,6 +48,7 @@ import net.jqwik.time.api.arbitraries.InstantArbitrary;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.arbitrary.MonkeyStringArbitrary;
 import com.navercorp.fixturemonkey.api.container.DecomposableJavaContainer;
 import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
@@ -58,13 +61,17 @@ import com.navercorp.fixturemonkey.api.generator.IntrospectedArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.generator.MatchArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
+import com.navercorp.fixturemonkey.api.introspector.BeanArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.BuilderArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.FailoverIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.JavaArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeArbitraryResolver;
 import com.navercorp.fixturemonkey.api.introspector.JavaTimeTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.JavaTypeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.jqwik.ArbitraryUtils;
+import com.navercorp.fixturemonkey.api.listener.GenerationMetrics;
+import com.navercorp.fixturemonkey.api.listener.InMemoryGenerationRecorder;
 import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
@@ -82,6 +89,8 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.ConcreteStringValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.CustomBuildMethodInteger;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.CustomBuilderMethodInteger;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.ErrorThrowingSetterObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.ExceptionThrowingSetterObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GenericGetFixedValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GetFixedValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GetFixedValueChild;
@@ -392,6 +401,74 @@ class FixtureMonkeyOptionsTest {
 		then(complexObject).isNull();
 	}
 
+	@Property
+	void adaptiveFailoverIntrospectorIntrospectsSucceededFirst() {
+		// given
+		AtomicInteger failedIntrospectCount = new AtomicInteger();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.objectIntrospector(
+				new FailoverIntrospector(
+					Arrays.asList(
+						context -> {
+							if (context.getResolvedType() == SimpleObject.class) {
+								failedIntrospectCount.incrementAndGet();
+							}
+							return new ArbitraryIntrospectorResult(
+								CombinableArbitrary.from(() -> {
+									throw new IllegalStateException("failed");
+								})
+							);
+						},
+						BeanArbitraryIntrospector.INSTANCE
+					),
+					true
+				)
+			)
+			.build();
+
+		// when
+		List<SimpleObject> actual = sut.giveMe(SimpleObject.class, 5);
+
+		// then
+		then(actual).hasSize(5).doesNotContainNull();
+		then(failedIntrospectCount).hasValue(1);
+	}
+
+	@Property
+	void generationListenerRecordsMetrics() {
+		// given
+		InMemoryGenerationRecorder recorder = new InMemoryGenerationRecorder();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.generationListener(recorder)
+			.build();
+		AtomicBoolean first = new AtomicBoolean(true);
+
+		// when
+		sut.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("integer", Integer.class, it -> !first.getAndSet(false))
+			.sampleList(3);
+
+		// then
+		GenerationMetrics metrics = recorder.getMetrics(SimpleObject.class);
+		then(metrics.getGenerationCount()).isEqualTo(3);
+		then(metrics.getTraversalCount()).isPositive();
+		then(metrics.getNodeCount()).isPositive();
+		then(metrics.getManipulatorCount()).isPositive();
+		then(recorder.getFilterMissCounts())
+			.hasSize(1)
+			.allSatisfy((property, count) -> {
+				then(property.getName()).isEqualTo("integer");
+				then(count).isEqualTo(1L);
+			});
+		then(recorder.getCacheStatistics()).containsKeys(
+			"registeredArbitraryBuilder",
+			"arbitrariesByProperty",
+			"javaArbitrariesByProperty",
+			"generatorContextByRootProperty"
+		);
+		then(recorder.getCacheStatistics().get("generatorContextByRootProperty").getHitCount()).isPositive();
+	}
+
 	@Property
 	void pushArbitraryContainerInfoGenerator() {
 		FixtureMonkey sut = FixtureMonkey.builder()
@@ -622,6 +699,32 @@ class FixtureMonkeyOptionsTest {
 			.isExactlyInstanceOf(IllegalArgumentException.class);
 	}
 
+	@Property
+	void arbitraryValidatorRegeneratesOnlyViolatedProperty() {
+		// given
+		AtomicBoolean first = new AtomicBoolean(true);
+		List<Object> validated = new ArrayList<>();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.arbitraryValidator(obj -> {
+				validated.add(obj);
+				if (first.getAndSet(false)) {
+					throw new ValidationFailedException(
+						"thrown by test ArbitraryValidator",
+						Collections.singleton("integer")
+					);
+				}
+			})
+			.build();
+
+		// when
+		SimpleObject actual = sut.giveMeOne(SimpleObject.class);
+
+		// then
+		then(validated)
+			.hasSize(2)
+			.allSatisfy(it -> then(it).isSameAs(actual));
+	}
+
 	@Property
 	void defaultNotNull() {
 		FixtureMonkey sut = FixtureMonkey.builder()
@@ -1146,6 +1249,25 @@ class FixtureMonkeyOptionsTest {
 		then(actual).hasSize(10);
 	}
 
+	@Property
+	void registeredAppliedToEveryElement() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.register(
+				SimpleObject.class,
+				fixture -> fixture.giveMeBuilder(SimpleObject.class).set("str", "registered")
+			)
+			.build();
+
+		// when
+		List<SimpleObject> actual = sut.giveMeBuilder(new TypeReference<List<SimpleObject>>() {
+			})
+			.size("$", 100)
+			.sample();
+
+		then(actual).hasSize(100).allMatch(it -> "registered".equals(it.getStr()));
+	}
+
 	@Property
 	void sizeWhenRegisterSizeInApply() {
 		// given
@@ -1616,4 +1738,79 @@ class FixtureMonkeyOptionsTest {
 
 		then(actual).isNull();
 	}
+
+	@Property
+	void beanIntrospectorPropagatesErrorOfSetter() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.objectIntrospector(BeanArbitraryIntrospector.INSTANCE)
+			.defaultNotNull(true)
+			.build();
+
+		thenThrownBy(() -> sut.giveMeOne(ErrorThrowingSetterObject.class))
+			.isInstanceOf(AssertionError.class)
+			.hasMessage("setter is failed.");
+	}
+
+	@Property
+	void beanIntrospectorIgnoresExceptionOfSetter() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.objectIntrospector(BeanArbitraryIntrospector.INSTANCE)
+			.defaultNotNull(true)
+			.build();
+
+		ExceptionThrowingSetterObject actual = sut.giveMeOne(ExceptionThrowingSetterObject.class);
+
+		then(actual.getValue()).isNull();
+	}
+
+	@Property
+	void useObjectTreeTemplateSize() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.useObjectTreeTemplate()
+			.defaultNotNull(true)
+			.build();
+
+		List<String> first = sut.giveMeBuilder(ComplexObject.class)
+			.size("strList", 3)
+			.sample()
+			.getStrList();
+		List<String> second = sut.giveMeBuilder(ComplexObject.class)
+			.size("strList", 5)
+			.sample()
+			.getStrList();
+
+		then(first).hasSize(3);
+		then(second).hasSize(5);
+	}
+
+	@Property
+	void useObjectTreeTemplateSet() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.useObjectTreeTemplate()
+			.build();
+
+		ArbitraryBuilder<ComplexObject> builder = sut.giveMeBuilder(ComplexObject.class)
+			.set("str", "test");
+
+		then(builder.sample().getStr()).isEqualTo("test");
+		then(builder.sample().getStr()).isEqualTo("test");
+		then(sut.giveMeOne(ComplexObject.class)).isNotNull();
+	}
+
+	@Property
+	void useObjectTreeTemplateRedrawsContainerSize() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.useObjectTreeTemplate()
+			.defaultNotNull(true)
+			.build();
+
+		Set<Integer> actual = sut.giveMeBuilder(ListStringObject.class)
+			.size("values", 0, 5)
+			.sampleList(50)
+			.stream()
+			.map(it -> it.getValues().size())
+			.collect(Collectors.toSet());
+
+		then(actual).hasSizeGreaterThan(1);
+	}
 }
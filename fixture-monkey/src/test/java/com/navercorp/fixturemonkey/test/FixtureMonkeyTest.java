@@ -39,6 +39,7 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -49,8 +50,17 @@ import net.jqwik.api.Property;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.ArbitraryBuilders;
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.constraint.IntegerRange;
+import com.navercorp.fixturemonkey.api.constraint.StringLength;
+import com.navercorp.fixturemonkey.api.container.CacheFactory;
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.exception.ContainerSizeFilterMissException;
+import com.navercorp.fixturemonkey.api.exception.UniqueValueExhaustedException;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.customizer.Values;
+import com.navercorp.fixturemonkey.resolver.DefaultArbitraryBuilder;
+import com.navercorp.fixturemonkey.resolver.DefaultManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.OptimizedManipulatorResult;
 import com.navercorp.fixturemonkey.test.ExpressionGeneratorTestSpecs.StringValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ChildValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ComplexObject;
@@ -691,6 +701,55 @@ class FixtureMonkeyTest {
 		then(actual).hasSizeGreaterThan(5);
 	}
 
+	@Property
+	void setPostConditionConstraintPredicateGeneratesWithoutFiltering() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.generateMaxTries(1)
+			.build();
+
+		// when
+		ComplexObject actual = sut.giveMeBuilder(ComplexObject.class)
+			.setPostCondition("integer", Integer.class, IntegerRange.closed(3, 5))
+			.setPostCondition("str", String.class, StringLength.exactly(8))
+			.sample();
+
+		// then
+		then(actual.getInteger()).isBetween(3, 5);
+		then(actual.getStr()).hasSize(8);
+	}
+
+	@Property
+	void setPostConditionIntegerRangeWiderThanType() {
+		// when
+		SimpleObject actual = SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("primitiveShort", Short.class, IntegerRange.closed(0, 100000))
+			.setPostCondition("wrapperShort", Short.class, IntegerRange.atMost(100000))
+			.setPostCondition("primitiveByte", Byte.class, IntegerRange.closed(-1000, 1000))
+			.setPostCondition("integer", Integer.class, IntegerRange.atLeast(Long.MIN_VALUE))
+			.sample();
+
+		// then
+		then(actual.getPrimitiveShort()).isGreaterThanOrEqualTo((short)0);
+		then(actual.getWrapperShort()).isNotNull();
+		then(actual.getPrimitiveByte()).isBetween(Byte.MIN_VALUE, Byte.MAX_VALUE);
+	}
+
+	@Property
+	void setPostConditionIntegerRangeOutOfTypeNotPushedDown() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.generateMaxTries(1)
+			.build();
+
+		thenThrownBy(
+			() -> sut.giveMeBuilder(SimpleObject.class)
+				.setPostCondition("primitiveShort", Short.class, IntegerRange.closed(100000, 200000))
+				.sample()
+		).isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("failed to generate");
+	}
+
 	@Property
 	void setPostConditionWrongTypeThrows() {
 		thenThrownBy(
@@ -1259,6 +1318,179 @@ class FixtureMonkeyTest {
 		then(actual).isNotNull();
 	}
 
+	@Property
+	void giveMeSizeReturnsDifferentValues() {
+		// when
+		List<SimpleObject> actual = SUT.giveMe(SimpleObject.class, 10);
+
+		then(actual).hasSize(10);
+		then(new HashSet<>(actual)).hasSizeGreaterThan(1);
+	}
+
+	@Property
+	void sampleListDrawsContainerSizeForEachElement() {
+		// when
+		List<ListStringObject> actual = SUT.giveMeBuilder(ListStringObject.class)
+			.setNotNull("values")
+			.size("values", 0, 5)
+			.sampleList(30);
+
+		Set<Integer> actualSizes = actual.stream()
+			.map(it -> it.getValues().size())
+			.collect(Collectors.toSet());
+		then(actualSizes).hasSizeGreaterThan(1);
+	}
+
+	@Property
+	void sampleListSetLazyForEachElement() {
+		AtomicInteger sequence = new AtomicInteger();
+
+		// when
+		List<IntValue> actual = SUT.giveMeBuilder(IntValue.class)
+			.setLazy("value", sequence::getAndIncrement)
+			.sampleList(5);
+
+		then(actual).extracting(IntValue::getValue).containsExactly(0, 1, 2, 3, 4);
+	}
+
+	@Property
+	void sampleRetraversesContainerSizeMissedNode() {
+		// when
+		ComplexObject actual = SUT.giveMeBuilder(ComplexObject.class)
+			.set("str", "test")
+			.setNotNull("strList")
+			.size("strList", 0, 5)
+			.setPostCondition("strList", List.class, it -> {
+				if (it.size() < 3) {
+					throw new ContainerSizeFilterMissException("Container size is should not be less than 3");
+				}
+				return true;
+			})
+			.sample();
+
+		then(actual.getStr()).isEqualTo("test");
+		then(actual.getStrList()).hasSizeBetween(3, 5);
+	}
+
+	@Property
+	void optimizeEliminatesOverwrittenManipulators() {
+		// given
+		DefaultArbitraryBuilder<ComplexObject> builder = (DefaultArbitraryBuilder<ComplexObject>)SUT
+			.giveMeBuilder(ComplexObject.class)
+			.setNull("str")
+			.setNotNull("str")
+			.set("str", "test")
+			.setNull("strList")
+			.setNull("strList");
+
+		// when
+		OptimizedManipulatorResult actual = new DefaultManipulatorOptimizer()
+			.optimize(builder.getContext().getManipulators());
+
+		then(actual.getEliminatedCount()).isEqualTo(2);
+		then(actual.getManipulators()).hasSize(3);
+	}
+
+	@Property
+	void sampleOptimizedManipulators() {
+		// when
+		ComplexObject actual = SUT.giveMeBuilder(ComplexObject.class)
+			.set("strList[0]", "a")
+			.setNull("str")
+			.set("strList[1]", "b")
+			.set("str", "test")
+			.setNull("map")
+			.setNotNull("map")
+			.size("strList", 3)
+			.size("strList", 2)
+			.sample();
+
+		then(actual.getStr()).isEqualTo("test");
+		then(actual.getStrList()).containsExactly("a", "b");
+		then(actual.getMap()).isNotNull();
+	}
+
+	@Property
+	void optimizeManipulatorsUntilManipulatorAdded() {
+		// given
+		AtomicInteger optimizedCount = new AtomicInteger();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.manipulatorOptimizer(manipulators -> {
+				optimizedCount.incrementAndGet();
+				return new DefaultManipulatorOptimizer().optimize(manipulators);
+			})
+			.build();
+		ArbitraryBuilder<ComplexObject> builder = sut.giveMeBuilder(ComplexObject.class)
+			.setNull("str")
+			.set("str", "test");
+
+		// when
+		builder.sample();
+		builder.sample();
+		int optimizedCountBeforeAdded = optimizedCount.get();
+
+		builder.setNull("strList");
+		ComplexObject actual = builder.sample();
+
+		then(optimizedCountBeforeAdded).isEqualTo(1);
+		then(optimizedCount.get()).isEqualTo(2);
+		then(actual.getStr()).isEqualTo("test");
+		then(actual.getStrList()).isNull();
+	}
+
+	@Property
+	void giveMeParallel() {
+		// when
+		List<SimpleObject> actual = SUT.giveMeParallel(SimpleObject.class, 300, 4);
+
+		then(actual).hasSize(300).doesNotContainNull();
+	}
+
+	@Property
+	void sampleParallelWithSameSeedReturnsSameValues() {
+		FixtureMonkey sut = FixtureMonkey.builder().seed(12345L).build();
+		List<ListStringObject> expected = sut.giveMeBuilder(ListStringObject.class)
+			.setNotNull("values")
+			.sampleParallel(300, 4);
+
+		// when
+		sut = FixtureMonkey.builder().seed(12345L).build();
+		List<ListStringObject> actual = sut.giveMeBuilder(ListStringObject.class)
+			.setNotNull("values")
+			.sampleParallel(300, 2);
+
+		then(actual).isEqualTo(expected);
+		then(actual).allMatch(it -> it.getValues() != null);
+	}
+
+	@Property
+	void sampleParallelCreatesCachesByCacheFactory() {
+		AtomicInteger createdCaches = new AtomicInteger();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.cacheFactory(new CacheFactory() {
+				@Override
+				public <K, V> Map<K, V> create(int maxSize) {
+					createdCaches.incrementAndGet();
+					return new ConcurrentLruCache<>(maxSize);
+				}
+			})
+			.build();
+		int createdByBuild = createdCaches.get();
+
+		// when
+		List<SimpleObject> actual = sut.giveMeParallel(SimpleObject.class, 10, 2);
+
+		then(actual).hasSize(10);
+		then(createdCaches.get()).isGreaterThan(createdByBuild);
+	}
+
+	@Property
+	void sampleParallelWithNotPositiveParallelismThrows() {
+		thenThrownBy(() -> SUT.giveMeBuilder(SimpleObject.class).sampleParallel(10, 0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("parallelism");
+	}
+
 	@Property
 	void fixedRangedSizeReturnsSameSize() {
 		ArbitraryBuilder<ComplexObject> fixedArbitraryBuilder = SUT.giveMeBuilder(ComplexObject.class)
@@ -1431,6 +1663,89 @@ class FixtureMonkeyTest {
 		then(actual).hasSize(2);
 	}
 
+	@Property
+	void sampleBooleanSetWithDomainSize() {
+		Set<Boolean> actual = SUT.giveMeBuilder(new TypeReference<Set<Boolean>>() {
+			})
+			.size("$", 2)
+			.sample();
+
+		then(actual).containsExactlyInAnyOrder(true, false);
+	}
+
+	@Property
+	void sampleBooleanMapWithDomainSize() {
+		Map<Boolean, String> actual = SUT.giveMeBuilder(new TypeReference<Map<Boolean, String>>() {
+			})
+			.size("$", 2)
+			.sample();
+
+		then(actual).containsOnlyKeys(true, false);
+	}
+
+	@Property
+	void sizeBooleanSetGreaterThanDomainThrowsWithPropertyPath() {
+		thenThrownBy(
+			() -> SUT.giveMeBuilder(new TypeReference<List<Set<Boolean>>>() {
+				})
+				.size("$", 1)
+				.size("$[0]", 3)
+				.sample()
+		)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("failed to generate")
+			.getCause()
+			.isExactlyInstanceOf(UniqueValueExhaustedException.class)
+			.hasMessageContaining("property : [0]");
+	}
+
+	@Property
+	void sampleUniqueIntegerSet() {
+		Set<Integer> actual = SUT.giveMeBuilder(new TypeReference<Set<Integer>>() {
+			})
+			.size("$", 200)
+			.sample();
+
+		then(actual).hasSize(200);
+	}
+
+	@Property
+	void sampleIntegerSetWithDomainSizeOfConstraint() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.generateMaxTries(1)
+			.build();
+
+		// when
+		Set<Integer> actual = sut.giveMeBuilder(new TypeReference<Set<Integer>>() {
+			})
+			.size("$", 10)
+			.setPostCondition("$[*]", Integer.class, IntegerRange.closed(-4, 5))
+			.sample();
+
+		then(actual).containsExactlyInAnyOrder(-4, -3, -2, -1, 0, 1, 2, 3, 4, 5);
+	}
+
+	@Property
+	void sampleShortMapWithUniqueKeys() {
+		Map<Short, String> actual = SUT.giveMeBuilder(new TypeReference<Map<Short, String>>() {
+			})
+			.size("$", 100)
+			.sample();
+
+		then(actual).hasSize(100);
+	}
+
+	@Property
+	void sampleUniqueLongSet() {
+		Set<Long> actual = SUT.giveMeBuilder(new TypeReference<Set<Long>>() {
+			})
+			.size("$", 100)
+			.sample();
+
+		then(actual).hasSize(100);
+	}
+
 	@Property
 	void sampleEnumMapInMap() {
 		thenNoException().isThrownBy(
@@ -0,0 +1,41 @@
+package com.navercorp.fixturemonkey.tree;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.jqwik.api.Example;
+
+class NextNodePredicateTest {
+	@Example
+	void elementPredicatesEqual() {
+		List<NextNodePredicate> actual = Arrays.asList(
+			new PropertyNameNodePredicate("list"),
+			new NodeAllElementPredicate(),
+			new NodeElementPredicate(1),
+			new ContainerElementPredicate(2),
+			new NodeKeyPredicate(),
+			new NodeValuePredicate()
+		);
+
+		List<NextNodePredicate> expected = Arrays.asList(
+			new PropertyNameNodePredicate("list"),
+			new NodeAllElementPredicate(),
+			new NodeElementPredicate(1),
+			new ContainerElementPredicate(2),
+			new NodeKeyPredicate(),
+			new NodeValuePredicate()
+		);
+
+		then(actual).isEqualTo(expected);
+		then(actual.hashCode()).isEqualTo(expected.hashCode());
+	}
+
+	@Example
+	void elementPredicatesOfDifferentIndexNotEqual() {
+		then(new NodeElementPredicate(1)).isNotEqualTo(new NodeElementPredicate(2));
+		then(new ContainerElementPredicate(1)).isNotEqualTo(new ContainerElementPredicate(2));
+		then(new NodeKeyPredicate()).isNotEqualTo(new NodeValuePredicate());
+	}
+}
@@ -0,0 +1,109 @@
+package com.navercorp.fixturemonkey.tree;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.jqwik.api.Example;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+
+class TraverseContextTest {
+	@Example
+	void recursiveTypeTraversed() {
+		Property recursive = PropertyUtils.toProperty(Recursive.class);
+		TraverseContext context = rootContext().appendArbitraryProperty(toArbitraryProperty(recursive));
+
+		then(context.isTraversed(recursive)).isTrue();
+		then(context.isTraversed(PropertyUtils.toProperty(String.class))).isFalse();
+	}
+
+	@Example
+	void rootTypeNotTraversed() {
+		TraverseContext context = rootContext();
+
+		then(context.isTraversed(PropertyUtils.toProperty(Recursive.class))).isFalse();
+	}
+
+	@Example
+	void deepPathOfDistinctTypesTraversed() {
+		List<Property> properties = new ArrayList<>();
+		Class<?> type = int.class;
+		for (int i = 0; i < 200; i++) {
+			type = Array.newInstance(type, 0).getClass();
+			properties.add(PropertyUtils.toProperty(type));
+		}
+
+		TraverseContext context = rootContext();
+		for (Property property : properties) {
+			then(context.isTraversed(property)).isFalse();
+			context = context.appendArbitraryProperty(toArbitraryProperty(property));
+		}
+
+		for (Property property : properties) {
+			then(context.isTraversed(property)).isTrue();
+		}
+		then(context.isTraversed(PropertyUtils.toProperty(String.class))).isFalse();
+		then(context.isTraversed(PropertyUtils.toProperty(Array.newInstance(type, 0).getClass()))).isFalse();
+	}
+
+	@Example
+	void siblingPathNotTraversed() {
+		TraverseContext parent = rootContext()
+			.appendArbitraryProperty(toArbitraryProperty(PropertyUtils.toProperty(String.class)));
+
+		TraverseContext left = parent.appendArbitraryProperty(
+			toArbitraryProperty(PropertyUtils.toProperty(Integer.class))
+		);
+		TraverseContext right = parent.appendArbitraryProperty(
+			toArbitraryProperty(PropertyUtils.toProperty(Long.class))
+		);
+
+		then(left.isTraversed(PropertyUtils.toProperty(Integer.class))).isTrue();
+		then(left.isTraversed(PropertyUtils.toProperty(Long.class))).isFalse();
+		then(right.isTraversed(PropertyUtils.toProperty(Long.class))).isTrue();
+		then(right.isTraversed(PropertyUtils.toProperty(Integer.class))).isFalse();
+		then(parent.isTraversed(PropertyUtils.toProperty(Integer.class))).isFalse();
+	}
+
+	@Example
+	void mapEntryElementNotTraversedByMapEntryElement() {
+		Property mapEntryElement = new MapEntryElementProperty(
+			PropertyUtils.toProperty(Recursive.class),
+			PropertyUtils.toProperty(String.class),
+			PropertyUtils.toProperty(Recursive.class)
+		);
+
+		TraverseContext context = rootContext().appendArbitraryProperty(toArbitraryProperty(mapEntryElement));
+
+		then(context.isTraversed(mapEntryElement)).isFalse();
+	}
+
+	private static TraverseContext rootContext() {
+		return new TraverseContext(
+			toArbitraryProperty(PropertyUtils.toProperty(Object.class)),
+			Collections.emptyList(),
+			Collections.emptyList(),
+			Collections.emptyMap()
+		);
+	}
+
+	private static ArbitraryProperty toArbitraryProperty(Property property) {
+		return new ArbitraryProperty(
+			new ObjectProperty(property, PropertyNameResolver.IDENTITY, 0.0d, null, Collections.emptyMap()),
+			false
+		);
+	}
+
+	public static class Recursive {
+		private Recursive recursive;
+	}
+}